@@ -0,0 +1,36 @@
+package pulse.bench;
+
+import pulse.search.direction.LMOptimiser;
+import pulse.search.direction.PathOptimiser;
+import pulse.search.statistics.KSTest;
+import pulse.search.statistics.NormalityTest;
+import pulse.search.statistics.OptimiserStatistic;
+import pulse.search.statistics.SumOfSquares;
+
+/**
+ * Selects the search settings that are otherwise chosen in the main menu and
+ * the search options of the GUI, so that tasks can be created and run
+ * without it.
+ */
+public class BenchmarkDefaults {
+
+    private static boolean applied;
+
+    private BenchmarkDefaults() {
+        //intentionally blank
+    }
+
+    /**
+     * Selects the sum of squares, the Kolmogorov-Smirnov test and the
+     * Levenberg-Marquardt optimiser. Does nothing if called again.
+     */
+    public static synchronized void apply() {
+        if (!applied) {
+            OptimiserStatistic.setSelectedOptimiserDescriptor(new SumOfSquares().getDescriptor());
+            NormalityTest.setSelectedTestDescriptor(new KSTest().getDescriptor());
+            PathOptimiser.setInstance(LMOptimiser.getInstance());
+            applied = true;
+        }
+    }
+
+}
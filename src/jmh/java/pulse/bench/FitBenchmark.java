@@ -0,0 +1,308 @@
+package pulse.bench;
+
+import static java.lang.Math.abs;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.DIFFUSIVITY;
+import static pulse.properties.NumericPropertyKeyword.HEAT_LOSS;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import pulse.math.Segment;
+import pulse.problem.schemes.solvers.SolverException;
+import pulse.problem.statements.model.ThermalProperties;
+import pulse.search.direction.BFGSOptimiser;
+import pulse.search.direction.LMOptimiser;
+import pulse.search.direction.PathOptimiser;
+import pulse.search.direction.SR1Optimiser;
+import pulse.search.direction.SteepestDescentOptimiser;
+import pulse.tasks.TaskManager;
+import pulse.tasks.logs.Status;
+import pulse.util.metrics.Metrics;
+
+/**
+ * An end-to-end benchmark of the fitting procedure.
+ * <p>
+ * For each scheme, synthetic shots are calculated from known parameters and
+ * perturbed by Gaussian noise. Each shot is then fitted with each of the
+ * selected optimisers, starting from the usual theoretical estimates. The
+ * wall time, the number of objective function evaluations and iterations, and
+ * the relative errors of the recovered parameters are written to
+ * {@code results.json} and {@code results.csv}, together with the sum of
+ * squared residuals and the fitted parameters. The wall time is also given in
+ * units of a reference solution, which is timed before the fits. Fits that
+ * cannot be started, e.g. because the optimiser is incompatible with the
+ * selected statistic, are reported with their status only. The line searches
+ * are seeded, so that the fits can be reproduced.
+ * </p>
+ * <p>
+ * If a {@code baseline} file is given, the results are compared with it by a
+ * {@link RegressionGate}, the report is written to
+ * {@code regression-report.txt} and the exit code is 1 if any fit has
+ * regressed. The tolerances are set with {@code parameterTolerance=0.01},
+ * {@code ssrTolerance=0.01}, {@code evaluationTolerance=0.05} and
+ * {@code timeTolerance} (timings are not checked by default). With
+ * {@code updateBaseline=true}, the baseline rows of the fits that were run are
+ * replaced by the results instead.
+ * </p>
+ * <p>
+ * The arguments are {@code key=value} pairs, with the following keys and
+ * defaults: {@code optimisers=LM,BFGS,SR1,SD},
+ * {@code schemes=IMPLICIT_LINEARISED} (see {@code SolverFixture.Case}),
+ * {@code gridDensity=30}, {@code points=400}, {@code noise=0.01} (relative to
+ * the signal maximum), {@code repeats=3}, {@code seed=1},
+ * {@code diffusivity} and {@code heatLoss} (the defaults of the problem are
+ * used if not set), and {@code out=target/fit-benchmark}.
+ * </p>
+ */
+public class FitBenchmark {
+
+    private final static Map<String, Supplier<PathOptimiser>> OPTIMISERS = Map.of(
+            "LM", LMOptimiser::getInstance,
+            "BFGS", BFGSOptimiser::getInstance,
+            "SR1", SR1Optimiser::getInstance,
+            "SD", SteepestDescentOptimiser::getInstance);
+
+    private final static String[] COLUMNS = {"scheme", "optimiser", "seed", "status", "wallTimeMs",
+        "normalisedTime", "evaluations", "iterations", "ssr", "diffusivity", "heatLoss", "maxTemp",
+        "diffusivityError", "heatLossError", "maxTempError"};
+
+    private final static int REFERENCE_SOLVES = 20;
+
+    private final Map<String, String> options;
+
+    private FitBenchmark(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws IOException, SolverException {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 1) {
+                throw new IllegalArgumentException("Expected key=value: " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+
+        var benchmark = new FitBenchmark(options);
+        var results = benchmark.run();
+
+        var dir = Paths.get(benchmark.option("out", "target/fit-benchmark"));
+        Files.createDirectories(dir);
+        writeCsv(results, dir.resolve("results.csv"));
+        writeJson(results, dir.resolve("results.json"));
+        System.out.println("Results written to " + dir.toAbsolutePath());
+
+        var baseline = benchmark.option("baseline", null);
+        boolean passed = true;
+
+        if (baseline != null) {
+            var baselineFile = Paths.get(baseline);
+
+            if (Boolean.parseBoolean(benchmark.option("updateBaseline", "false"))) {
+                Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+                RegressionGate.update(baselineFile, dir.resolve("results.csv"));
+                System.out.println("Baseline updated: " + baselineFile.toAbsolutePath());
+            } else {
+                var gate = new RegressionGate(
+                        Double.parseDouble(benchmark.option("parameterTolerance", "0.01")),
+                        Double.parseDouble(benchmark.option("ssrTolerance", "0.01")),
+                        Double.parseDouble(benchmark.option("evaluationTolerance", "0.05")),
+                        Double.parseDouble(benchmark.option("timeTolerance", "NaN")));
+
+                var reportFile = dir.resolve("regression-report.txt");
+                try (var report = new PrintWriter(Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8))) {
+                    passed = gate.compare(RegressionGate.read(baselineFile),
+                            RegressionGate.read(dir.resolve("results.csv")), report);
+                }
+
+                Files.readAllLines(reportFile).forEach(System.out::println);
+            }
+        }
+
+        System.exit(passed ? 0 : 1);
+    }
+
+    private String option(String key, String defaultValue) {
+        return options.getOrDefault(key, defaultValue);
+    }
+
+    private List<String> list(String key, String defaultValue) {
+        return Arrays.asList(option(key, defaultValue).split(","));
+    }
+
+    private List<Map<String, Object>> run() throws SolverException {
+        final int gridDensity = Integer.parseInt(option("gridDensity", "30"));
+        final int points = Integer.parseInt(option("points", "400"));
+        final double noise = Double.parseDouble(option("noise", "0.01"));
+        final int repeats = Integer.parseInt(option("repeats", "3"));
+        final long seed = Long.parseLong(option("seed", "1"));
+
+        var results = new ArrayList<Map<String, Object>>();
+        final double referenceTime = referenceSolveTime(gridDensity);
+
+        for (var schemeName : list("schemes", "IMPLICIT_LINEARISED")) {
+            var scheme = SolverFixture.Case.valueOf(schemeName);
+
+            for (int r = 0; r < repeats; r++) {
+                var truth = new SolverFixture(scheme, gridDensity);
+                var trueProperties = truth.getProblem().getProperties();
+                if (options.containsKey("diffusivity")) {
+                    trueProperties.setDiffusivity(derive(DIFFUSIVITY, Double.parseDouble(options.get("diffusivity"))));
+                }
+                if (options.containsKey("heatLoss")) {
+                    trueProperties.setHeatLoss(derive(HEAT_LOSS, Double.parseDouble(options.get("heatLoss"))));
+                }
+
+                var data = SyntheticShots.forward(truth, points, noise, seed + r);
+
+                for (var optimiserName : list("optimisers", "LM,BFGS,SR1,SD")) {
+                    var optimiser = OPTIMISERS.get(optimiserName);
+                    if (optimiser == null) {
+                        throw new IllegalArgumentException("Unknown optimiser: " + optimiserName
+                                + ". Expected one of " + OPTIMISERS.keySet());
+                    }
+
+                    Segment.setSeed(seed + r);
+                    var result = fit(new SolverFixture(scheme, gridDensity, data), optimiser.get(), trueProperties);
+                    if (result.containsKey("wallTimeMs")) {
+                        result.put("normalisedTime", (double) result.get("wallTimeMs") / referenceTime);
+                    }
+                    result.put("scheme", schemeName);
+                    result.put("optimiser", optimiserName);
+                    result.put("seed", seed + r);
+                    results.add(result);
+                    System.out.println(result);
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private static Map<String, Object> fit(SolverFixture fixture, PathOptimiser optimiser, ThermalProperties truth) {
+        var task = fixture.getTask();
+        var problem = fixture.getProblem();
+        problem.retrieveData(task.getInput());
+        task.setConfiguration(task.getConfiguration().withOptimiser(optimiser.copy()));
+        task.checkProblems();
+
+        var result = new HashMap<String, Object>();
+        if (task.getStatus() != Status.READY) {
+            result.put("status", task.getStatus().name());
+            return result;
+        }
+
+        //the log entries look the task up in the repository
+        var manager = TaskManager.getManagerInstance();
+        manager.addTask(task);
+
+        //the counter of the task is removed together with the task
+        var evaluations = Metrics.getInstance().counter(Metrics.OBJECTIVE_EVALUATIONS,
+                "task", String.valueOf(task.getIdentifier().getValue()));
+
+        final long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            manager.removeTask(task);
+        }
+        final long wallTime = System.nanoTime() - start;
+
+        var fitted = problem.getProperties();
+        result.put("status", task.getStatus().name());
+        result.put("wallTimeMs", wallTime / 1e6);
+        result.put("evaluations", evaluations.get());
+        result.put("iterations", task.getIterativeState().getIteration().getValue());
+        result.put("ssr", task.getResponse().getOptimiserStatistic().getStatisticValue());
+        result.put("diffusivity", fitted.getDiffusivity().getValue());
+        result.put("heatLoss", fitted.getHeatLoss().getValue());
+        result.put("maxTemp", fitted.getMaximumTemperature().getValue());
+        result.put("diffusivityError", error(fitted.getDiffusivity().getValue(), truth.getDiffusivity().getValue()));
+        result.put("heatLossError", error(fitted.getHeatLoss().getValue(), truth.getHeatLoss().getValue()));
+        result.put("maxTempError", error(fitted.getMaximumTemperature().getValue(),
+                truth.getMaximumTemperature().getValue()));
+        return result;
+    }
+
+    /**
+     * Times the solution of the linearised problem with the implicit scheme,
+     * after the same number of warm-up solutions.
+     *
+     * @return the mean time of a solution, in milliseconds
+     */
+    private static double referenceSolveTime(int gridDensity) throws SolverException {
+        var fixture = new SolverFixture(SolverFixture.Case.IMPLICIT_LINEARISED, gridDensity);
+        for (int i = 0; i < REFERENCE_SOLVES; i++) {
+            fixture.solve();
+        }
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < REFERENCE_SOLVES; i++) {
+            fixture.solve();
+        }
+        return (System.nanoTime() - start) / 1e6 / REFERENCE_SOLVES;
+    }
+
+    /**
+     * Calculates the relative error, or the absolute error if the true value
+     * is zero.
+     */
+    private static double error(Object fitted, Object truth) {
+        double f = ((Number) fitted).doubleValue();
+        double t = ((Number) truth).doubleValue();
+        return t == 0.0 ? abs(f) : abs(f - t) / abs(t);
+    }
+
+    private static void writeCsv(List<Map<String, Object>> results, Path file) throws IOException {
+        try (var out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.println(String.join(",", COLUMNS));
+            for (var result : results) {
+                var values = new ArrayList<String>(COLUMNS.length);
+                for (var column : COLUMNS) {
+                    var value = result.get(column);
+                    values.add(value == null ? "" : format(value));
+                }
+                out.println(String.join(",", values));
+            }
+        }
+    }
+
+    private static void writeJson(List<Map<String, Object>> results, Path file) throws IOException {
+        try (var out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                var result = results.get(i);
+                var sb = new StringBuilder("  {");
+                for (int j = 0; j < COLUMNS.length; j++) {
+                    var value = result.get(COLUMNS[j]);
+                    sb.append(j > 0 ? ", " : "").append('"').append(COLUMNS[j]).append("\": ");
+                    sb.append(value instanceof String ? "\"" + value + "\"" : format(value));
+                }
+                out.println(sb.append(i < results.size() - 1 ? "}," : "}"));
+            }
+            out.println("]");
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Double) {
+            double d = (Double) value;
+            return Double.isFinite(d) ? String.format(Locale.ROOT, "%.6g", d) : "null";
+        }
+        return String.valueOf(value);
+    }
+
+}
@@ -0,0 +1,235 @@
+package pulse.bench;
+
+import static java.lang.Math.abs;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares the results of a {@code FitBenchmark} run with golden baselines.
+ * <p>
+ * Each fit is identified by its scheme, optimiser and seed. A fit fails the
+ * gate if its status has changed, if a fitted parameter or the sum of squared
+ * residuals differs from the baseline by more than the relative tolerance, or
+ * if the number of objective function evaluations has grown by more than the
+ * evaluation tolerance. The evaluation count does not depend on the hardware
+ * and is therefore the primary signal. Timings are normalised by the time of
+ * a reference solution and are only checked if a time tolerance is set,
+ * otherwise they are reported for information.
+ * </p>
+ * <p>
+ * Fits that are only present in either the baseline or the current results
+ * are reported, but do not fail the gate.
+ * </p>
+ */
+public class RegressionGate {
+
+    private final static String[] KEY = {"scheme", "optimiser", "seed"};
+    private final static String[] PARAMETERS = {"diffusivity", "heatLoss", "maxTemp"};
+
+    private final double parameterTolerance;
+    private final double ssrTolerance;
+    private final double evaluationTolerance;
+    private final double timeTolerance;
+
+    /**
+     * Creates a gate with the given relative tolerances.
+     *
+     * @param parameterTolerance the tolerated difference of the fitted
+     * parameters
+     * @param ssrTolerance the tolerated difference of the sum of squared
+     * residuals
+     * @param evaluationTolerance the tolerated growth of the number of
+     * objective function evaluations
+     * @param timeTolerance the tolerated growth of the normalised wall time,
+     * or {@code NaN} not to check the timings
+     */
+    public RegressionGate(double parameterTolerance, double ssrTolerance, double evaluationTolerance,
+            double timeTolerance) {
+        if (!(parameterTolerance >= 0) || !(ssrTolerance >= 0) || !(evaluationTolerance >= 0)
+                || timeTolerance < 0) {
+            throw new IllegalArgumentException("Tolerances must not be negative");
+        }
+        this.parameterTolerance = parameterTolerance;
+        this.ssrTolerance = ssrTolerance;
+        this.evaluationTolerance = evaluationTolerance;
+        this.timeTolerance = timeTolerance;
+    }
+
+    /**
+     * Reads the results written by {@code FitBenchmark} in the CSV format.
+     *
+     * @param file the CSV file
+     * @return the rows, each mapping the column names to the values
+     * @throws IOException if the file cannot be read
+     */
+    public static List<Map<String, String>> read(Path file) throws IOException {
+        var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        var rows = new ArrayList<Map<String, String>>();
+        if (lines.isEmpty()) {
+            return rows;
+        }
+
+        var columns = lines.get(0).split(",", -1);
+        for (var line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            rows.add(row(columns, line));
+        }
+
+        return rows;
+    }
+
+    /**
+     * Updates {@code baseline} with the results of a run. The rows of the fits
+     * that were run are replaced and the others are kept, so that a baseline
+     * covering several schemes can be updated one run at a time.
+     *
+     * @param baseline the baseline CSV file, which is created if it does not
+     * exist
+     * @param results the CSV file written by the run
+     * @throws IOException if either file cannot be read or written
+     */
+    public static void update(Path baseline, Path results) throws IOException {
+        var lines = Files.readAllLines(results, StandardCharsets.UTF_8);
+        var merged = new LinkedHashMap<String, String>();
+        if (Files.exists(baseline)) {
+            var previous = Files.readAllLines(baseline, StandardCharsets.UTF_8);
+            if (!previous.isEmpty()) {
+                merge(previous, merged);
+            }
+        }
+        merge(lines, merged);
+
+        var out = new ArrayList<String>(merged.size() + 1);
+        out.add(lines.get(0));
+        out.addAll(merged.values());
+        Files.write(baseline, out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares {@code current} with {@code baseline} and writes a report of
+     * the differences.
+     *
+     * @param baseline the golden results
+     * @param current the results of the current run
+     * @param report where the report is written
+     * @return {@code true} if no fit has regressed
+     */
+    public boolean compare(List<Map<String, String>> baseline, List<Map<String, String>> current,
+            PrintWriter report) {
+        var expected = index(baseline);
+        var actual = index(current);
+        int failures = 0;
+
+        for (var e : actual.entrySet()) {
+            var base = expected.remove(e.getKey());
+            if (base == null) {
+                report.println(e.getKey() + ": no baseline");
+                continue;
+            }
+
+            var lines = new ArrayList<String>();
+            var row = e.getValue();
+
+            if (!base.get("status").equals(row.get("status"))) {
+                lines.add(String.format(Locale.ROOT, "  status %s -> %s FAIL", base.get("status"), row.get("status")));
+            }
+
+            for (var parameter : PARAMETERS) {
+                check(lines, parameter, base, row, parameterTolerance, false);
+            }
+            check(lines, "ssr", base, row, ssrTolerance, false);
+            check(lines, "evaluations", base, row, evaluationTolerance, true);
+            check(lines, "normalisedTime", base, row, timeTolerance, true);
+
+            boolean failed = lines.stream().anyMatch(line -> line.endsWith("FAIL"));
+            if (failed) {
+                failures++;
+            }
+
+            report.println(e.getKey() + (failed ? ": FAIL" : ": ok"));
+            lines.forEach(report::println);
+        }
+
+        for (var key : expected.keySet()) {
+            report.println(key + ": not run");
+        }
+
+        report.println(failures == 0 ? "No regressions found"
+                : failures + " of " + actual.size() + " fits have regressed");
+        report.flush();
+        return failures == 0;
+    }
+
+    /**
+     * Adds a line to {@code lines} if the value of {@code column} differs
+     * from the baseline. If {@code growthOnly} is set, only an increase of
+     * the value counts as a failure. A {@code NaN} tolerance means the
+     * difference is reported, but does not fail the gate.
+     */
+    private static void check(List<String> lines, String column, Map<String, String> base,
+            Map<String, String> row, double tolerance, boolean growthOnly) {
+        double expected = parse(base.get(column));
+        double actual = parse(row.get(column));
+
+        if (Double.isNaN(expected) && Double.isNaN(actual) || expected == actual) {
+            return;
+        }
+
+        double change = expected == 0.0 ? actual : (actual - expected) / abs(expected);
+        boolean failed = !Double.isNaN(tolerance)
+                && (Double.isNaN(change) || (growthOnly ? change : abs(change)) > tolerance);
+
+        lines.add(String.format(Locale.ROOT, "  %s %s -> %s (%+.2f%%)%s", column, base.get(column),
+                row.get(column), 100.0 * change, failed ? " FAIL" : ""));
+    }
+
+    private static double parse(String value) {
+        return value == null || value.isEmpty() || value.equals("null") ? Double.NaN : Double.parseDouble(value);
+    }
+
+    private static Map<String, Map<String, String>> index(List<Map<String, String>> rows) {
+        var map = new LinkedHashMap<String, Map<String, String>>();
+        rows.forEach(row -> map.put(key(row), row));
+        return map;
+    }
+
+    private static void merge(List<String> lines, Map<String, String> map) {
+        var columns = lines.get(0).split(",", -1);
+        for (var line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            map.put(key(row(columns, line)), line);
+        }
+    }
+
+    private static Map<String, String> row(String[] columns, String line) {
+        var values = line.split(",", -1);
+        var row = new HashMap<String, String>();
+        for (int i = 0; i < columns.length && i < values.length; i++) {
+            row.put(columns[i], values[i]);
+        }
+        return row;
+    }
+
+    private static String key(Map<String, String> row) {
+        var sb = new StringBuilder();
+        for (var column : KEY) {
+            sb.append(sb.length() > 0 ? "/" : "").append(row.get(column));
+        }
+        return sb.toString();
+    }
+
+}
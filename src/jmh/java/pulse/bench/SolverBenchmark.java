@@ -0,0 +1,57 @@
+package pulse.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pulse.problem.schemes.solvers.SolverException;
+
+/**
+ * Measures how many times per second each of the benchmarked schemes solves
+ * its canonical problem, for several grid densities. Run with the GC profiler
+ * ({@code -prof gc}) to also see the allocation rate.
+ *
+ * @see SolverFixture
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+
+    @Param({"IMPLICIT_LINEARISED", "MIXED_LINEARISED", "EXPLICIT_LINEARISED",
+        "IMPLICIT_NONLINEAR", "IMPLICIT_COUPLED_DOM", "IMPLICIT_COUPLED_EXACT",
+        "ADI_LINEARISED", "IMPLICIT_TWO_TEMPERATURE"})
+    public SolverFixture.Case scheme;
+
+    @Param({"20", "40", "80"})
+    public int gridDensity;
+
+    private SolverFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setup() throws SolverException {
+        fixture = new SolverFixture(scheme, gridDensity);
+        //the first solution initialises lazily created objects, e.g. the RTE solver
+        fixture.solve();
+    }
+
+    @Benchmark
+    public double solve() throws SolverException {
+        return fixture.solve();
+    }
+
+}
@@ -0,0 +1,163 @@
+package pulse.bench;
+
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.DENSITY;
+import static pulse.properties.NumericPropertyKeyword.GRID_DENSITY;
+import static pulse.properties.NumericPropertyKeyword.LASER_ENERGY;
+import static pulse.properties.NumericPropertyKeyword.SPECIFIC_HEAT;
+import static pulse.properties.NumericPropertyKeyword.TEST_TEMPERATURE;
+
+import java.util.function.Supplier;
+
+import pulse.input.ExperimentalData;
+import pulse.problem.schemes.CoupledImplicitScheme;
+import pulse.problem.schemes.DifferenceScheme;
+import pulse.problem.schemes.rte.dom.DiscreteOrdinatesMethod;
+import pulse.problem.schemes.rte.exact.NonscatteringAnalyticalDerivatives;
+import pulse.problem.schemes.solvers.ADILinearisedSolver;
+import pulse.problem.schemes.solvers.ExplicitLinearisedSolver;
+import pulse.problem.schemes.solvers.ImplicitCoupledSolverNL;
+import pulse.problem.schemes.solvers.ImplicitLinearisedSolver;
+import pulse.problem.schemes.solvers.ImplicitNonlinearSolver;
+import pulse.problem.schemes.solvers.ImplicitTwoTemperatureSolver;
+import pulse.problem.schemes.solvers.MixedLinearisedSolver;
+import pulse.problem.schemes.solvers.Solver;
+import pulse.problem.schemes.solvers.SolverException;
+import pulse.problem.statements.ClassicalProblem;
+import pulse.problem.statements.ClassicalProblem2D;
+import pulse.problem.statements.NonlinearProblem;
+import pulse.problem.statements.ParticipatingMedium;
+import pulse.problem.statements.Problem;
+import pulse.problem.statements.Pulse2D;
+import pulse.problem.statements.TwoTemperatureModel;
+import pulse.tasks.Calculation;
+import pulse.tasks.SearchTask;
+
+/**
+ * A canonical problem paired with a difference scheme, as used by the solver
+ * benchmarks. Apart from the thermal mass and the heating, which are set for
+ * the nonlinear problems to make sense, all problems use the default values
+ * of their properties, so that the results are comparable between runs and
+ * versions. The problem is attached to a task holding a synthetic shot, which
+ * sets the time limit of the scheme.
+ */
+public class SolverFixture {
+
+    /**
+     * The benchmarked combinations of problem statements and schemes.
+     */
+    public enum Case {
+
+        IMPLICIT_LINEARISED(ClassicalProblem::new, ImplicitLinearisedSolver::new),
+        MIXED_LINEARISED(ClassicalProblem::new, MixedLinearisedSolver::new),
+        EXPLICIT_LINEARISED(ClassicalProblem::new, ExplicitLinearisedSolver::new),
+        IMPLICIT_NONLINEAR(NonlinearProblem::new, ImplicitNonlinearSolver::new),
+        IMPLICIT_COUPLED_DOM(ParticipatingMedium::new, ImplicitCoupledSolverNL::new,
+                DiscreteOrdinatesMethod.class.getSimpleName()),
+        IMPLICIT_COUPLED_EXACT(ParticipatingMedium::new, ImplicitCoupledSolverNL::new,
+                NonscatteringAnalyticalDerivatives.class.getSimpleName()),
+        ADI_LINEARISED(ClassicalProblem2D::new, ADILinearisedSolver::new),
+        IMPLICIT_TWO_TEMPERATURE(TwoTemperatureModel::new, ImplicitTwoTemperatureSolver::new);
+
+        private final Supplier<? extends Problem> problem;
+        private final Supplier<? extends DifferenceScheme> scheme;
+        private final String rte;
+
+        Case(Supplier<? extends Problem> problem, Supplier<? extends DifferenceScheme> scheme) {
+            this(problem, scheme, null);
+        }
+
+        Case(Supplier<? extends Problem> problem, Supplier<? extends DifferenceScheme> scheme, String rte) {
+            this.problem = problem;
+            this.scheme = scheme;
+            this.rte = rte;
+        }
+
+    }
+
+    private final static int SHOT_POINTS = 500;
+    private final static double MAXIMUM_HEATING = 5.0;
+    private final static double SHOT_DURATION = 1.0;
+
+    private final SearchTask task;
+    private final Problem problem;
+    private final DifferenceScheme scheme;
+
+    /**
+     * Creates a fixture for {@code c} on a grid with {@code gridDensity}
+     * intervals, using an adiabatic shot to set the time limit.
+     *
+     * @param c the problem statement and the scheme
+     * @param gridDensity the grid density
+     */
+    public SolverFixture(Case c, int gridDensity) {
+        this(c, gridDensity, null);
+    }
+
+    /**
+     * Creates a fixture for {@code c} on a grid with {@code gridDensity}
+     * intervals, attached to a task holding {@code data}.
+     *
+     * @param c the problem statement and the scheme
+     * @param gridDensity the grid density
+     * @param data the experimental data, or {@code null} to use an adiabatic
+     * shot
+     */
+    public SolverFixture(Case c, int gridDensity, ExperimentalData data) {
+        BenchmarkDefaults.apply();
+
+        problem = c.problem.get();
+        scheme = c.scheme.get();
+        scheme.getGrid().setGridDensity(derive(GRID_DENSITY, gridDensity));
+
+        var properties = problem.getProperties();
+        properties.setSpecificHeat(derive(SPECIFIC_HEAT, 300.0));
+        properties.setDensity(derive(DENSITY, 10000.0));
+        properties.setTestTemperature(derive(TEST_TEMPERATURE, SyntheticShots.TEST_TEMPERATURE_K));
+
+        var pulse = problem.getPulse();
+        if (pulse instanceof Pulse2D) {
+            pulse.setLaserEnergy(derive(LASER_ENERGY, 1.0));
+            double factor = MAXIMUM_HEATING / properties.maximumHeating((Pulse2D) pulse);
+            pulse.setLaserEnergy(derive(LASER_ENERGY, factor));
+        }
+
+        var shot = data != null ? data
+                : SyntheticShots.parker(properties.characteristicTime(), SHOT_POINTS, SHOT_DURATION, 0.0, 0L);
+        task = new SearchTask(shot);
+        var calc = (Calculation) task.getResponse();
+        calc.setProblem(problem, shot);
+        calc.setScheme(scheme, shot);
+
+        if (c.rte != null) {
+            ((CoupledImplicitScheme) scheme).getCoupling().getInstanceDescriptor()
+                    .setSelectedDescriptor(c.rte);
+        }
+    }
+
+    /**
+     * Solves the problem once.
+     *
+     * @return the calculated signal at the end of the time sequence
+     * @throws SolverException if the solution fails
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public double solve() throws SolverException {
+        ((Solver) scheme).solve(problem);
+        var curve = problem.getHeatingCurve();
+        return curve.signalAt(curve.actualNumPoints() - 1);
+    }
+
+    public SearchTask getTask() {
+        return task;
+    }
+
+    public Problem getProblem() {
+        return problem;
+    }
+
+    public DifferenceScheme getScheme() {
+        return scheme;
+    }
+
+}
@@ -0,0 +1,140 @@
+package pulse.bench;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.exp;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.TEST_TEMPERATURE;
+
+import java.util.Random;
+
+import pulse.input.ExperimentalData;
+import pulse.input.Metadata;
+import pulse.input.Range;
+import pulse.input.listeners.DataEvent;
+import pulse.input.listeners.DataEventType;
+import pulse.problem.schemes.solvers.SolverException;
+
+/**
+ * Generates synthetic laser flash shots, either from the analytical solution
+ * for an adiabatic sample or from the solution calculated by a difference
+ * scheme, optionally with Gaussian noise.
+ */
+public class SyntheticShots {
+
+    /**
+     * The test temperature of all synthetic shots, in kelvins
+     */
+    public final static double TEST_TEMPERATURE_K = 800.0;
+
+    private final static int SERIES_TERMS = 100;
+
+    private SyntheticShots() {
+        //intentionally blank
+    }
+
+    /**
+     * Creates a shot following the Parker solution for the adiabatic rear-face
+     * temperature rise, scaled to unit maximum.
+     *
+     * @param characteristicTime the time <i>l</i><sup>2</sup>/<i>a</i> in
+     * seconds
+     * @param points the number of points
+     * @param timeLimit the time of the last point, in units of
+     * {@code characteristicTime}
+     * @param noise the standard deviation of the noise, relative to the
+     * maximum
+     * @param seed the seed of the noise generator
+     * @return the synthetic data
+     */
+    public static ExperimentalData parker(double characteristicTime, int points, double timeLimit,
+            double noise, long seed) {
+        if (points < 2) {
+            throw new IllegalArgumentException("At least two points required: " + points);
+        }
+
+        var random = new Random(seed);
+        var data = new ExperimentalData();
+        data.setMetadata(new Metadata(derive(TEST_TEMPERATURE, TEST_TEMPERATURE_K), -1));
+
+        final double dt = timeLimit / (points - 1);
+
+        for (int i = 0; i < points; i++) {
+            double t = i * dt;
+            data.addPoint(t * characteristicTime, adiabatic(t) + noise * random.nextGaussian());
+        }
+
+        return loaded(data);
+    }
+
+    /**
+     * Solves the problem of {@code fixture} and samples the calculated
+     * heating curve at equal intervals from zero to its last point.
+     *
+     * @param fixture the problem, with the parameters to be recovered, and
+     * the scheme
+     * @param points the number of points
+     * @param noise the standard deviation of the noise, relative to the
+     * maximum temperature of the problem
+     * @param seed the seed of the noise generator
+     * @return the synthetic data
+     * @throws SolverException if the problem cannot be solved
+     */
+    public static ExperimentalData forward(SolverFixture fixture, int points, double noise, long seed)
+            throws SolverException {
+        if (points < 2) {
+            throw new IllegalArgumentException("At least two points required: " + points);
+        }
+
+        fixture.solve();
+        var problem = fixture.getProblem();
+        var curve = problem.getHeatingCurve();
+        final double amplitude = (double) problem.getProperties().getMaximumTemperature().getValue();
+        final double dt = curve.timeAt(curve.actualNumPoints() - 1) / (points - 1);
+
+        var random = new Random(seed);
+        var data = new ExperimentalData();
+        data.setMetadata(new Metadata(derive(TEST_TEMPERATURE, TEST_TEMPERATURE_K), -1));
+
+        for (int i = 0; i < points; i++) {
+            double t = i * dt;
+            data.addPoint(t, curve.interpolateSignalAt(t) + amplitude * noise * random.nextGaussian());
+        }
+
+        return loaded(data);
+    }
+
+    /**
+     * Sets the range of {@code data} and notifies its listeners that the data
+     * has been loaded, as the readers and the task manager do.
+     */
+    private static ExperimentalData loaded(ExperimentalData data) {
+        data.setRange(new Range(data.getTimeSequence()));
+        data.fireDataChanged(new DataEvent(DataEventType.DATA_LOADED, data));
+        return data;
+    }
+
+    /**
+     * Calculates the dimensionless adiabatic rear-face temperature.
+     *
+     * @param t the time in units of the characteristic time
+     * @return the temperature rise relative to its maximum
+     */
+    public static double adiabatic(double t) {
+        if (t <= 0) {
+            return 0.0;
+        }
+
+        double sum = 1.0;
+
+        for (int n = 1; n <= SERIES_TERMS; n++) {
+            double term = 2.0 * exp(-n * n * PI * PI * t);
+            sum += (n % 2 == 0) ? term : -term;
+            if (term < 1e-12) {
+                break;
+            }
+        }
+
+        return sum;
+    }
+
+}
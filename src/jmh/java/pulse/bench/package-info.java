@@ -0,0 +1,6 @@
+/**
+ * Contains the JMH benchmarks of PULsE, the end-to-end fit benchmark with its
+ * regression gate, and the fixtures they use. These sources are only compiled
+ * with the {@code benchmarks} Maven profile.
+ */
+package pulse.bench;
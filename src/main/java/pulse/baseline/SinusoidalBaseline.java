@@ -33,7 +33,6 @@ import static pulse.properties.NumericPropertyKeyword.BASELINE_PHASE_SHIFT;
 import static pulse.properties.NumericPropertyKeyword.BASELINE_SLOPE;
 import pulse.search.SimpleOptimisationTask;
 import pulse.search.SimpleResponse;
-import pulse.search.direction.ActiveFlags;
 import pulse.search.statistics.SumOfSquares;
 import pulse.util.Group;
 import static pulse.properties.NumericPropertyKeyword.MAX_HIGH_FREQ_WAVES;
@@ -196,14 +195,13 @@ public class SinusoidalBaseline extends LinearBaseline {
         flagList.add(new Flag(BASELINE_INTERCEPT, false));
         flagList.add(new Flag(BASELINE_SLOPE, true));
 
-        var oldState = ActiveFlags.storeState();
-        ActiveFlags.loadState(flagList);
+        var configuration = task.getConfiguration().withFlags(flagList);
+        task.setConfiguration(configuration);
 
         CompletableFuture.runAsync(task).thenRun(() -> {
-            flagList.stream().filter(f -> f.getType() == BASELINE_AMPLITUDE)
-                    .findFirst().get().setValue(true);
+            task.setConfiguration(configuration.withFlags(
+                    List.of(new Flag(BASELINE_AMPLITUDE, true))));
             task.run();
-            ActiveFlags.loadState(oldState);
         }
         );
 
@@ -197,6 +197,7 @@ public class ExperimentalData extends AbstractData implements DiscreteInput {
      * @see PropertyHolderListener
      */
     public void setMetadata(Metadata metadata) {
+        release(this.metadata);
         this.metadata = metadata;
         metadata.setParent(this);
         doSetMetadata();
@@ -258,6 +259,7 @@ public class ExperimentalData extends AbstractData implements DiscreteInput {
      * @param range the range
      */
     public void setRange(Range range) {
+        release(this.range);
         this.range = range;
         range.setParent(this);
         doSetRange();
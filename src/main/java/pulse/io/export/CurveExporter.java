@@ -4,7 +4,7 @@ import static pulse.io.export.Extension.CSV;
 import static pulse.io.export.Extension.HTML;
 import static pulse.ui.Messages.getString;
 
-import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 
 import pulse.AbstractData;
@@ -26,7 +26,7 @@ public class CurveExporter implements Exporter<AbstractData> {
     }
 
     @Override
-    public void printToStream(AbstractData hc, FileOutputStream fos, Extension extension) {
+    public void printToStream(AbstractData hc, OutputStream fos, Extension extension) {
         if (hc.actualNumPoints() < 1) {
             return;
         }
@@ -51,7 +51,7 @@ public class CurveExporter implements Exporter<AbstractData> {
         return new Extension[]{HTML, CSV};
     }
 
-    private void printHTML(AbstractData hc, FileOutputStream fos) {
+    private void printHTML(AbstractData hc, OutputStream fos) {
         try (var stream = new PrintStream(fos)) {
             stream.print(getString("ResultTableExporter.style"));
             stream.print("<caption>Time-temperature profile</caption>");
@@ -88,7 +88,7 @@ public class CurveExporter implements Exporter<AbstractData> {
 
     }
 
-    private void printCSV(AbstractData hc, FileOutputStream fos) {
+    private void printCSV(AbstractData hc, OutputStream fos) {
         try (var stream = new PrintStream(fos)) {
             final String TIME_LABEL = getString("HeatingCurve.6");
             final String TEMPERATURE_LABEL = hc.getPrefix();
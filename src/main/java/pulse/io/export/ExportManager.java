@@ -7,7 +7,9 @@ import static pulse.util.Group.contents;
 import static pulse.util.Reflexive.instancesOf;
 
 import java.io.File;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.JFrame;
 
@@ -25,6 +27,9 @@ public class ExportManager {
     //current working dir
     private static File cwd = null;
 
+    //exporters are singletons, so the result of a search can be kept
+    private static Map<Class<?>, Exporter<?>> exporters = new ConcurrentHashMap<>();
+
     private ExportManager() {
         // intentionally blank
     }
@@ -51,7 +56,8 @@ public class ExportManager {
      * contained in this package and checks if any of those have their target
      * set to the argument of this method, then returns the first occurrence. If
      * nothing matches exactly the same class as specified, searches for
-     * exporters of any classes assignable from {@code target}.
+     * exporters of any classes assignable from {@code target}. The exporter
+     * found for each class is cached.
      * </p>
      *
      * @param <T> an instance of {@code Descriptive}
@@ -61,6 +67,11 @@ public class ExportManager {
      */
     @SuppressWarnings({"unchecked"})
     public static <T extends Descriptive> Exporter<T> findExporter(Class<T> target) {
+        return (Exporter<T>) exporters.computeIfAbsent(target, ExportManager::searchExporter);
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private static Exporter<?> searchExporter(Class<?> target) {
         var allExporters = instancesOf(Exporter.class);
         var exporter = allExporters.stream().filter(e -> e.target() == target).findFirst();
 
@@ -0,0 +1,276 @@
+package pulse.io.export;
+
+import static java.io.File.separator;
+import static java.util.Arrays.asList;
+import static pulse.tasks.listeners.TaskRepositoryEvent.State.TASK_FINISHED;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import pulse.HeatingCurve;
+import pulse.tasks.SearchTask;
+import pulse.tasks.TaskManager;
+import pulse.tasks.listeners.TaskRepositoryEvent;
+import pulse.tasks.listeners.TaskRepositoryListener;
+import pulse.util.Descriptive;
+
+/**
+ * Exports the result, the solution curve and the log of each task as soon as
+ * the task finishes, rather than after the whole batch has been processed.
+ * <p>
+ * When started, the queue subscribes to the {@code TASK_FINISHED} events of
+ * the {@code TaskManager}. The exported objects are collected when the event
+ * is received, while formatting and writing happen on a single background
+ * thread through buffered streams. Files are placed in a sub-directory named
+ * after the task, as in {@code ExportManager.exportGroup}. Optionally, all
+ * files are bundled into a single zip archive instead, which is finalised when
+ * the queue is stopped.
+ * </p>
+ *
+ * @see pulse.io.export.ExportManager
+ */
+public class ExportQueue implements TaskRepositoryListener {
+
+    private static ExportQueue instance = new ExportQueue();
+
+    private ExecutorService writer;
+    private File directory;
+    private Extension extension;
+    private ZipOutputStream archive;
+
+    private ExportQueue() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
+    }
+
+    public static ExportQueue getInstance() {
+        return instance;
+    }
+
+    /**
+     * Starts exporting finished tasks to {@code directory}. If the queue is
+     * already running, it is stopped first.
+     *
+     * @param directory the destination directory, which is created if needed
+     * @param extension the desired extension
+     * @param compress if {@code true}, the files will be bundled into a zip
+     * archive named after the {@code TaskManager}
+     * @throws IOException if the archive cannot be created
+     */
+    public synchronized void start(File directory, Extension extension, boolean compress) throws IOException {
+        stop();
+        directory.mkdirs();
+
+        if (compress) {
+            var file = new File(directory, TaskManager.getManagerInstance().describe() + ".zip");
+            archive = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        }
+
+        this.directory = directory;
+        this.extension = extension;
+
+        writer = Executors.newSingleThreadExecutor(r -> {
+            var t = new Thread(r, "export-writer");
+            t.setDaemon(true);
+            return t;
+        });
+
+        TaskManager.getManagerInstance().addTaskRepositoryListener(this);
+    }
+
+    /**
+     * Stops listening to task events, waits until all pending files are
+     * written and closes the archive (if any). Does nothing if the queue is
+     * not running.
+     * <p>
+     * If the files are not written within a minute, the exports that have
+     * not started are cancelled and reported. The archive is only closed
+     * after the export in progress has finished, and is left unfinished if
+     * that does not happen within another minute.
+     * </p>
+     */
+    public synchronized void stop() {
+        if (writer == null) {
+            return;
+        }
+
+        TaskManager.getManagerInstance().removeTaskRepositoryListener(this);
+        writer.shutdown();
+
+        boolean terminated = false;
+
+        try {
+            terminated = writer.awaitTermination(1, TimeUnit.MINUTES);
+            if (!terminated) {
+                var cancelled = writer.shutdownNow();
+                if (!cancelled.isEmpty()) {
+                    System.err.println("Export cancelled for: " + cancelled);
+                }
+                terminated = writer.awaitTermination(1, TimeUnit.MINUTES);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (archive != null) {
+            if (terminated) {
+                try {
+                    archive.close();
+                } catch (IOException e) {
+                    System.err.println("Unable to finalise the export archive. Details: ");
+                    e.printStackTrace();
+                }
+            } else {
+                System.err.println("The export writer has not finished, the archive is left unfinished.");
+            }
+            archive = null;
+        }
+
+        writer = null;
+    }
+
+    public synchronized boolean isRunning() {
+        return writer != null;
+    }
+
+    @Override
+    public synchronized void onTaskListChanged(TaskRepositoryEvent e) {
+        if (writer == null || e.getState() != TASK_FINISHED) {
+            return;
+        }
+
+        var task = TaskManager.getManagerInstance().getTask(e.getId());
+        if (task == null) {
+            return;
+        }
+
+        writer.execute(new Export(task.describe(), entries(task), extension, directory, archive));
+    }
+
+    /*
+     * Names are resolved now, while the exported objects are still attached
+     * to the task. The solution is copied, as the task may be run again before
+     * it is written.
+     */
+    private static List<Entry> entries(SearchTask task) {
+        var list = new ArrayList<Entry>();
+        var calc = task.getResponse();
+
+        if (calc.getResult() != null) {
+            list.add(new Entry(calc.getResult().describe(), calc.getResult()));
+        }
+
+        var solution = calc.getProblem().getHeatingCurve();
+        var copy = new HeatingCurve(solution);
+        copy.setPrefix(solution.getPrefix());
+        list.add(new Entry(solution.describe(), copy));
+        list.add(new Entry(task.getLog().describe(), task.getLog()));
+
+        return list;
+    }
+
+    /**
+     * Writes the files of a single task. The destination is fixed when the
+     * export is queued, so that an export still running after {@code stop()}
+     * cannot write to the archive of the next run.
+     */
+    private static class Export implements Runnable {
+
+        private final String folder;
+        private final List<Entry> entries;
+        private final Extension extension;
+        private final File directory;
+        private final ZipOutputStream archive;
+
+        private Export(String folder, List<Entry> entries, Extension extension, File directory,
+                ZipOutputStream archive) {
+            this.folder = folder;
+            this.entries = entries;
+            this.extension = extension;
+            this.directory = directory;
+            this.archive = archive;
+        }
+
+        @Override
+        public void run() {
+            entries.forEach(this::write);
+        }
+
+        private void write(Entry entry) {
+            var exporter = ExportManager.findExporter(entry.target);
+
+            if (exporter == null) {
+                return;
+            }
+
+            var supported = exporter.getSupportedExtensions();
+            if (supported.length < 1) {
+                return;
+            }
+
+            var ext = asList(supported).contains(extension) ? extension : supported[0];
+            var name = entry.name + "." + ext;
+
+            try (var out = open(name)) {
+                exporter.printToStream(entry.target, out, ext);
+            } catch (IOException e) {
+                System.err.println("Unable to export " + name + ". Details: ");
+                e.printStackTrace();
+            }
+        }
+
+        private OutputStream open(String name) throws IOException {
+            if (archive == null) {
+                var dir = new File(directory + separator + folder + separator);
+                dir.mkdirs();
+                return new BufferedOutputStream(new FileOutputStream(new File(dir, name)));
+            }
+
+            archive.putNextEntry(new ZipEntry(folder + "/" + name));
+
+            //exporters close their streams, which should only close the entry
+            return new FilterOutputStream(archive) {
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    archive.closeEntry();
+                }
+
+            };
+        }
+
+        @Override
+        public String toString() {
+            return folder;
+        }
+
+    }
+
+    private static class Entry {
+
+        private final String name;
+        private final Descriptive target;
+
+        private Entry(String name, Descriptive target) {
+            this.name = name;
+            this.target = target;
+        }
+
+    }
+
+}
@@ -1,8 +1,10 @@
 package pulse.io.export;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 
 import javax.swing.JFileChooser;
@@ -44,8 +46,9 @@ public interface Exporter<T extends Descriptive> extends Reflexive {
      * <p>
      * A file is created with the name specified by the {@code describe()}
      * method of {@code target} with the extension equal to the third argument
-     * of this method. A {@code FileOutputStream} writes the contents to the
-     * file by invoking {@code printToStream} and is closed upon completion.
+     * of this method. A buffered {@code FileOutputStream} writes the contents
+     * to the file by invoking {@code printToStream} and is closed upon
+     * completion.
      * </p>
      *
      * @param directory the directory where the contents will be exported to.
@@ -69,10 +72,9 @@ public interface Exporter<T extends Descriptive> extends Reflexive {
         }
         try {
             var newFile = new File(directory, target.describe() + "." + supportedExtension);
-            newFile.createNewFile();
-            var fos = new FileOutputStream(newFile);
-            printToStream(target, fos, supportedExtension);
-            fos.close();
+            try (var fos = new BufferedOutputStream(new FileOutputStream(newFile))) {
+                printToStream(target, fos, supportedExtension);
+            }
         } catch (IOException e) {
             System.err.println("An exception has been encountered while writing the contents of "
                     + target.getClass().getSimpleName() + " to " + directory);
@@ -125,10 +127,8 @@ public interface Exporter<T extends Descriptive> extends Reflexive {
                     file = new File(path.substring(0, path.indexOf(".") + 1) + ext);
                 }
 
-                try {
-                    var fos = new FileOutputStream(file);
+                try (var fos = new BufferedOutputStream(new FileOutputStream(file))) {
                     printToStream(target, fos, Extension.valueOf(ext.toUpperCase()));
-                    fos.close();
                 } catch (IOException e) {
                     System.err.println("An exception has been encountered while writing the contents of "
                             + target.getClass().getSimpleName() + " to " + file);
@@ -160,11 +160,12 @@ public interface Exporter<T extends Descriptive> extends Reflexive {
      * clause.
      *
      * @param target the exported target
-     * @param fos a FileOutputStream created by the {@code export} method
+     * @param fos an output stream, usually a buffered file stream created by
+     * the {@code export} method
      * @param extension an extension of the file saved on disk
      * @see export
      * @see askToExport
      */
-    public void printToStream(T target, FileOutputStream fos, Extension extension);
+    public void printToStream(T target, OutputStream fos, Extension extension);
 
 }
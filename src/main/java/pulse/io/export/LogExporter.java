@@ -2,8 +2,8 @@ package pulse.io.export;
 
 import static pulse.io.export.Extension.HTML;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 
 import pulse.tasks.logs.Log;
@@ -43,7 +43,7 @@ public class LogExporter implements Exporter<Log> {
      * @see pulse.tasks.Log.toString()
      */
     @Override
-    public void printToStream(Log log, FileOutputStream fos, Extension extension) {
+    public void printToStream(Log log, OutputStream fos, Extension extension) {
         var stream = new PrintStream(fos);
         stream.print(log.toString());
         try {
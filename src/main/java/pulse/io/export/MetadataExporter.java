@@ -3,7 +3,7 @@ package pulse.io.export;
 import static pulse.io.export.Extension.HTML;
 
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 
 import pulse.input.Metadata;
@@ -36,11 +36,11 @@ public class MetadataExporter implements Exporter<Metadata> {
      * gives its value. Extension is ignored, as only html is supported.
      */
     @Override
-    public void printToStream(Metadata metadata, FileOutputStream fos, Extension extension) {
+    public void printToStream(Metadata metadata, OutputStream fos, Extension extension) {
         printHTML(metadata, fos);
     }
 
-    private void printHTML(Metadata meta, FileOutputStream fos) {
+    private void printHTML(Metadata meta, OutputStream fos) {
         try (var stream = new PrintStream(fos)) {
             stream.print(Messages.getString("ResultTableExporter.style"));
             stream.print("<caption>Metadata table</caption>");
@@ -1,6 +1,6 @@
 package pulse.io.export;
 
-import java.io.FileOutputStream;
+import java.io.OutputStream;
 
 import pulse.input.ExperimentalData;
 
@@ -44,7 +44,7 @@ public class RawDataExporter implements Exporter<ExperimentalData> {
      * {@code HeatingCurveExporter} instance.
      */
     @Override
-    public void printToStream(ExperimentalData target, FileOutputStream fos, Extension extension) {
+    public void printToStream(ExperimentalData target, OutputStream fos, Extension extension) {
         hcExporter.printToStream(target, fos, extension);
     }
 
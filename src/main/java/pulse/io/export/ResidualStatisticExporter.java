@@ -4,7 +4,7 @@ import static pulse.io.export.Extension.CSV;
 import static pulse.io.export.Extension.HTML;
 import static pulse.ui.Messages.getString;
 
-import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 
 import pulse.search.statistics.ResidualStatistic;
@@ -35,7 +35,7 @@ public class ResidualStatisticExporter implements Exporter<ResidualStatistic> {
      * {@code csv} file (accepts both extensions).
      */
     @Override
-    public void printToStream(ResidualStatistic rs, FileOutputStream fos, Extension extension) {
+    public void printToStream(ResidualStatistic rs, OutputStream fos, Extension extension) {
         switch (extension) {
             case HTML:
                 printHTML(rs, fos);
@@ -57,7 +57,7 @@ public class ResidualStatisticExporter implements Exporter<ResidualStatistic> {
         return new Extension[]{HTML, CSV};
     }
 
-    private void printHTML(ResidualStatistic hc, FileOutputStream fos) {
+    private void printHTML(ResidualStatistic hc, OutputStream fos) {
         try (var stream = new PrintStream(fos)) {
             var time = hc.getTimeSequence();
             var residuals = hc.getResiduals();
@@ -82,7 +82,7 @@ public class ResidualStatisticExporter implements Exporter<ResidualStatistic> {
 
     }
 
-    private void printCSV(ResidualStatistic hc, FileOutputStream fos) {
+    private void printCSV(ResidualStatistic hc, OutputStream fos) {
         try (var stream = new PrintStream(fos)) {
             var time = hc.getTimeSequence();
             var residuals = hc.getResiduals();
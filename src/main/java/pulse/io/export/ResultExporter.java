@@ -3,7 +3,7 @@ package pulse.io.export;
 import static pulse.io.export.Extension.CSV;
 import static pulse.io.export.Extension.HTML;
 
-import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 
 import pulse.tasks.processing.Result;
@@ -27,7 +27,7 @@ public class ResultExporter implements Exporter<Result> {
      * {@code html} or a {@code csv} file format.
      */
     @Override
-    public void printToStream(Result result, FileOutputStream fos, Extension extension) {
+    public void printToStream(Result result, OutputStream fos, Extension extension) {
         switch (extension) {
             case HTML:
                 printHTML(result, fos);
@@ -40,7 +40,7 @@ public class ResultExporter implements Exporter<Result> {
         }
     }
 
-    private void printHTML(Result result, FileOutputStream fos) {
+    private void printHTML(Result result, OutputStream fos) {
         try (var stream = new PrintStream(fos)) {
             stream.print(Messages.getString("ResultTableExporter.style"));
             stream.print("<caption>Calculated parameters</caption>");
@@ -70,7 +70,7 @@ public class ResultExporter implements Exporter<Result> {
         return new Extension[]{HTML, CSV};
     }
 
-    private void printCSV(Result result, FileOutputStream fos) {
+    private void printCSV(Result result, OutputStream fos) {
         try (var stream = new PrintStream(fos)) {
             stream.print("(Results)");
 
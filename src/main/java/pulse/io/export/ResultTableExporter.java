@@ -1,6 +1,6 @@
 package pulse.io.export;
 
-import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -50,7 +50,7 @@ public class ResultTableExporter implements Exporter<ResultTable> {
      * pgfplots, gnuplot, or excel.
      */
     @Override
-    public void printToStream(ResultTable table, FileOutputStream fos, Extension extension) {
+    public void printToStream(ResultTable table, OutputStream fos, Extension extension) {
         switch (extension) {
             case HTML:
                 printHTML(table, fos);
@@ -94,7 +94,7 @@ public class ResultTableExporter implements Exporter<ResultTable> {
         }
     }
 
-    private void printCSV(ResultTable table, FileOutputStream fos) {
+    private void printCSV(ResultTable table, OutputStream fos) {
         try (PrintStream stream = new PrintStream(fos)) {
 
             printHeaderCSV(table, stream);
@@ -151,7 +151,7 @@ public class ResultTableExporter implements Exporter<ResultTable> {
         stream.print("</td>");
     }
 
-    private void printHTML(ResultTable table, FileOutputStream fos) {
+    private void printHTML(ResultTable table, OutputStream fos) {
         try (PrintStream stream = new PrintStream(fos)) {
             printHeaderHTML(table, stream, "Exported table (contains either averaged or individual results)");
 
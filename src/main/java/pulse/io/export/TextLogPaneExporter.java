@@ -2,8 +2,8 @@ package pulse.io.export;
 
 import static pulse.io.export.Extension.HTML;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import javax.swing.JEditorPane;
 
 import javax.swing.text.BadLocationException;
@@ -30,7 +30,7 @@ public class TextLogPaneExporter implements Exporter<TextLogPane> {
      * argument is ignored. After exporting, the stream is explicitly closed.
      */
     @Override
-    public void printToStream(TextLogPane pane, FileOutputStream fos, Extension extension) {
+    public void printToStream(TextLogPane pane, OutputStream fos, Extension extension) {
         var editorPane = (JEditorPane) pane.getGUIComponent();
         var kit = (HTMLEditorKit) editorPane.getEditorKit();
         try {
@@ -3,15 +3,12 @@ package pulse.io.readers;
 import static pulse.properties.NumericProperties.derive;
 import static pulse.properties.NumericPropertyKeyword.TEST_TEMPERATURE;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.StringTokenizer;
 
 import pulse.input.ExperimentalData;
 import pulse.input.Metadata;
@@ -70,21 +67,17 @@ public class DATReader implements CurveReader {
 
         ExperimentalData curve = new ExperimentalData();
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            double T = Double.parseDouble(reader.readLine()) + CONVERSION_TO_KELVIN;
-            Metadata met = new Metadata(derive(TEST_TEMPERATURE, T), -1);
-            curve.setMetadata(met);
-            double time, temp;
-            String delims = Messages.getString("DATReader.2"); //$NON-NLS-1$
-            StringTokenizer tokenizer;
-            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
-                tokenizer = new StringTokenizer(line, delims);
-                time = Double.parseDouble(tokenizer.nextToken());
-                temp = Double.parseDouble(tokenizer.nextToken());
-                curve.addPoint(time, temp);
-            }
-            curve.setRange(new Range(curve.getTimeSequence()));
+        var scanner = NumberScanner.of(file, Messages.getString("DATReader.2")); //$NON-NLS-1$
+
+        double T = Double.parseDouble(scanner.nextLine()) + CONVERSION_TO_KELVIN;
+        Metadata met = new Metadata(derive(TEST_TEMPERATURE, T), -1);
+        curve.setMetadata(met);
+
+        var columns = scanner.readColumns(2);
+        for (int i = 0; i < columns[0].length; i++) {
+            curve.addPoint(columns[0][i], columns[1][i]);
         }
+        curve.setRange(new Range(curve.getTimeSequence()));
 
         return new ArrayList<>(Arrays.asList(curve));
 
@@ -184,23 +184,14 @@ public class LFRReader implements CurveReader {
         curve.setMetadata(metadata);
         curve.clear();
 
-        String delims = Messages.getString("LFRReader.10");
-        StringTokenizer tokenizer;
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            reader.readLine(); // skip first line
-            double time, temp;
-            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
-                tokenizer = new StringTokenizer(line);
+        var scanner = NumberScanner.of(file, Messages.getString("LFRReader.10"));
+        scanner.nextLine(); // skip first line
 
-                time = parseDouble(tokenizer.nextToken(delims)) * TO_SECONDS;
-                temp = parseDouble(tokenizer.nextToken(delims));
-
-                curve.addPoint(time, temp);
-
-            }
-            curve.setRange(new Range(curve.getTimeSequence()));
+        var columns = scanner.readColumns(2);
+        for (int i = 0; i < columns[0].length; i++) {
+            curve.addPoint(columns[0][i] * TO_SECONDS, columns[1][i]);
         }
+        curve.setRange(new Range(curve.getTimeSequence()));
 
         return curve;
 
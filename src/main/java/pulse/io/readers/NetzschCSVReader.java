@@ -3,17 +3,11 @@ package pulse.io.readers;
 import static pulse.properties.NumericProperties.derive;
 import static pulse.properties.NumericPropertyKeyword.TEST_TEMPERATURE;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -55,22 +49,27 @@ public class NetzschCSVReader implements CurveReader {
     /**
      * Note comma is included as a delimiter character here.
      */
-    private final static String ENGLISH_DELIMS = "[#(),;/°Cx%^]+";
-    private final static String GERMAN_DELIMS = "[#();/°Cx%^]+";
+    private final static String ENGLISH_DELIM_CHARS = "#(),;/°Cx%^";
+    private final static String GERMAN_DELIM_CHARS = "#();/°Cx%^";
 
-    private static String delims;
-    //default number format (British format)
-    private static Locale locale;
-
-    private static NumberFormat format;
+    private final static String ENGLISH_DELIMS = "[" + ENGLISH_DELIM_CHARS + "]+";
+    private final static String GERMAN_DELIMS = "[" + GERMAN_DELIM_CHARS + "]+";
 
     private NetzschCSVReader() {
         //do nothing
     }
 
-    protected void setDefaultLocale() {
-        delims = ENGLISH_DELIMS;
-        locale = Locale.ENGLISH;
+    /**
+     * Creates a scanner for {@code file}, initially set to the default
+     * (English) locale. The locale is stored in the scanner, so that several
+     * files can be read concurrently.
+     *
+     * @param file a Proteus CSV file
+     * @return a new scanner
+     * @throws IOException if the file cannot be read
+     */
+    protected static NumberScanner scanner(File file) throws IOException {
+        return NumberScanner.of(file, ENGLISH_DELIM_CHARS);
     }
 
     /**
@@ -110,60 +109,56 @@ public class NetzschCSVReader implements CurveReader {
         Objects.requireNonNull(file, Messages.getString("DATReader.1"));
         ExperimentalData curve = new ExperimentalData();
 
-        setDefaultLocale(); //always start with a default locale
+        //the scanner starts with a default locale
+        var scanner = scanner(file);
 
-        //gets the number format for this locale
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        try {
 
-            int shotId = determineShotID(reader, file);
+            int shotId = determineShotID(scanner, file);
 
-            String name = findLineByLabel(reader, MATERIAL, DETECTOR_SPOT_SIZE, true)
+            String name = findLineByLabel(scanner, MATERIAL, DETECTOR_SPOT_SIZE, true)
                     .substring(MATERIAL.length() + 1)
-                    .replaceAll(delims, "");
-            String spot = findLineByLabel(reader, DETECTOR_SPOT_SIZE, THICKNESS, false);
+                    .replaceAll(delims(scanner), "");
+            String spot = findLineByLabel(scanner, DETECTOR_SPOT_SIZE, THICKNESS, false);
 
             double spotSize = 0;
             if (spot != null) {
-                var spotTokens = spot.split(delims);
-                spotSize = format.parse(spotTokens[spotTokens.length - 1]).doubleValue() * TO_METRES;
+                spotSize = lastNumber(spot, scanner) * TO_METRES;
             }
 
-            String tempLine = findLineByLabel(reader, THICKNESS, false);
-            var tempTokens = tempLine.split(delims);
+            String tempLine = findLineByLabel(scanner, THICKNESS, false);
 
-            final double thickness = format.parse(tempTokens[tempTokens.length - 1]).doubleValue() * TO_METRES;
+            final double thickness = lastNumber(tempLine, scanner) * TO_METRES;
 
-            tempTokens = findLineByLabel(reader, DIAMETER, false).split(delims);
-            final double diameter = format.parse(tempTokens[tempTokens.length - 1]).doubleValue() * TO_METRES;
+            tempLine = findLineByLabel(scanner, DIAMETER, false);
+            final double diameter = lastNumber(tempLine, scanner) * TO_METRES;
 
-            tempTokens = findLineByLabel(reader, SAMPLE_TEMPERATURE, false).split(delims);
-            final double sampleTemperature = format.parse(tempTokens[tempTokens.length - 1]).doubleValue() + TO_KELVIN;
+            tempLine = findLineByLabel(scanner, SAMPLE_TEMPERATURE, false);
+            final double sampleTemperature = lastNumber(tempLine, scanner) + TO_KELVIN;
 
-            var line = findLineByLabel(reader, L_PULSE_WIDTH, DETECTOR, false);
+            var line = findLineByLabel(scanner, L_PULSE_WIDTH, DETECTOR, false);
             if (line == null) {
-                line = findLineByLabel(reader, PULSE_WIDTH, DETECTOR, false);
+                line = findLineByLabel(scanner, PULSE_WIDTH, DETECTOR, false);
             }
 
             double pulseWidth = 0;
 
             if (line != null) {
-                tempTokens = line.split(delims);
-                pulseWidth = format.parse(tempTokens[tempTokens.length - 1])
-                        .doubleValue() * TO_SECONDS;
+                pulseWidth = lastNumber(line, scanner) * TO_SECONDS;
             }
 
             /*
 			 * Finds the detector keyword.
              */
-            var detectorLabel = findLineByLabel(reader, DETECTOR, true);
+            var detectorLabel = findLineByLabel(scanner, DETECTOR, true);
 
             if (detectorLabel == null) {
                 System.err.println("Skipping " + file.getName());
                 return new ArrayList<>();
             }
 
-            reader.readLine();
-            populate(curve, reader);
+            scanner.nextLine();
+            populate(curve, scanner);
 
             var met = new Metadata(derive(TEST_TEMPERATURE, sampleTemperature), shotId);
             if (pulseWidth > 1e-10) {
@@ -179,7 +174,7 @@ public class NetzschCSVReader implements CurveReader {
             curve.setRange(new Range(curve.getTimeSequence()));
             return new ArrayList<>(Arrays.asList(curve));
 
-        } catch (ParseException ex) {
+        } catch (NumberFormatException ex) {
             Logger.getLogger(NetzschCSVReader.class.getName()).log(Level.SEVERE, null, ex);
         }
 
@@ -190,45 +185,54 @@ public class NetzschCSVReader implements CurveReader {
     /**
      * Note: the {@code line} must contain a decimal-separated number.
      *
+     * @param scanner the scanner, the locale of which will be updated
      * @param line a line containing number with a decimal separator
      */
-    private static void guessLocaleAndFormat(String line) {
-
+    private static void guessLocaleAndFormat(NumberScanner scanner, String line) {
         if (line.contains(".")) {
-            delims = ENGLISH_DELIMS;
-            locale = Locale.ENGLISH;
+            scanner.setFormat(ENGLISH_DELIM_CHARS, '.');
         } else {
-            delims = GERMAN_DELIMS;
-            locale = Locale.GERMAN;
+            scanner.setFormat(GERMAN_DELIM_CHARS, ',');
         }
+    }
 
-        format = DecimalFormat.getInstance(locale);
-        format.setGroupingUsed(false);
+    private static String delims(NumberScanner scanner) {
+        return scanner.getDecimalSeparator() == '.' ? ENGLISH_DELIMS : GERMAN_DELIMS;
     }
 
-    protected static void populate(AbstractData data, BufferedReader reader) throws IOException, ParseException {
-        double time;
-        double power;
-        String[] tokens;
+    private static double lastNumber(String line, NumberScanner scanner) {
+        var tokens = line.split(delims(scanner));
+        return NumberScanner.parseDouble(tokens[tokens.length - 1], scanner.getDecimalSeparator());
+    }
 
-        for (String line = reader.readLine(); line != null && !line.trim().isEmpty(); line = reader.readLine()) {
-            tokens = line.split(delims);
+    /**
+     * Reads the time-signal sequence, starting from the current line of the
+     * {@code scanner} and continuing up to the first blank line. The locale is
+     * re-evaluated if the first line cannot be split into two columns.
+     *
+     * @param data the data object to be populated
+     * @param scanner a scanner positioned at the start of the sequence
+     */
+    protected static void populate(AbstractData data, NumberScanner scanner) {
+        int start = scanner.position();
 
-            if (tokens.length < 2) {
-                guessLocaleAndFormat(line);
-                tokens = line.split(delims);
-            }
+        if (!scanner.isBlankLine() && scanner.nextNumbers(new double[2]) < 2) {
+            scanner.position(start);
+            guessLocaleAndFormat(scanner, scanner.nextLine());
+        }
 
-            time = format.parse(tokens[0]).doubleValue() * NetzschCSVReader.TO_SECONDS;
-            power = format.parse(tokens[1]).doubleValue();
-            data.addPoint(time, power);
+        scanner.position(start);
+        var columns = scanner.readColumns(2, true);
+
+        for (int i = 0; i < columns[0].length; i++) {
+            data.addPoint(columns[0][i] * NetzschCSVReader.TO_SECONDS, columns[1][i]);
         }
 
     }
 
-    protected static int determineShotID(BufferedReader reader, File file) throws IOException {
-        String shotIDLine = reader.readLine();
-        String[] shotID = shotIDLine.split(delims);
+    protected static int determineShotID(NumberScanner scanner, File file) {
+        String shotIDLine = scanner.nextLine();
+        String[] shotID = shotIDLine.split(delims(scanner));
 
         int id;
 
@@ -244,29 +248,29 @@ public class NetzschCSVReader implements CurveReader {
 
     }
 
-    protected static String findLineByLabel(BufferedReader reader, String label, boolean ignoreLocale) throws IOException {
-        return findLineByLabel(reader, label, "!!!", ignoreLocale);
+    protected static String findLineByLabel(NumberScanner scanner, String label, boolean ignoreLocale) {
+        return findLineByLabel(scanner, label, "!!!", ignoreLocale);
     }
 
-    protected static String findLineByLabel(BufferedReader reader, String label, String stopLabel, boolean ignoreLocale) throws IOException {
+    protected static String findLineByLabel(NumberScanner scanner, String label, String stopLabel, boolean ignoreLocale) {
 
         String line = "";
         String[] tokens;
 
-        reader.mark(1000);
+        int mark = scanner.position();
 
         //find keyword
         outer:
-        for (line = reader.readLine(); line != null; line = reader.readLine()) {
+        for (line = scanner.nextLine(); line != null; line = scanner.nextLine()) {
 
             if (line.isBlank()) {
                 continue;
             }
 
             if (!ignoreLocale) {
-                guessLocaleAndFormat(line);
+                guessLocaleAndFormat(scanner, line);
             }
-            tokens = line.split(delims);
+            tokens = line.split(delims(scanner));
 
             for (String token : tokens) {
 
@@ -276,7 +280,7 @@ public class NetzschCSVReader implements CurveReader {
 
                 if (token.equalsIgnoreCase(stopLabel)) {
                     line = null;
-                    reader.reset();
+                    scanner.position(mark);
                     break outer;
                 }
 
@@ -298,13 +302,4 @@ public class NetzschCSVReader implements CurveReader {
         return instance;
     }
 
-    /**
-     * Get the standard delimiter chars.
-     *
-     * @return delims
-     */
-    public static String getDelims() {
-        return delims;
-    }
-
 }
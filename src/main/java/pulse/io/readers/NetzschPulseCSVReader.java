@@ -1,10 +1,7 @@
 package pulse.io.readers;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.text.ParseException;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -56,25 +53,25 @@ public class NetzschPulseCSVReader implements PulseDataReader {
 
         NumericPulseData data = null;
 
-        ((NetzschCSVReader) NetzschCSVReader.getInstance())
-                .setDefaultLocale(); //always start with a default locale
+        //the scanner starts with a default locale
+        var scanner = NetzschCSVReader.scanner(file);
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        try {
 
-            int shotId = NetzschCSVReader.determineShotID(reader, file);
+            int shotId = NetzschCSVReader.determineShotID(scanner, file);
             data = new NumericPulseData(shotId);
 
-            var pulseLabel = NetzschCSVReader.findLineByLabel(reader, PULSE, false);
+            var pulseLabel = NetzschCSVReader.findLineByLabel(scanner, PULSE, false);
 
             if (pulseLabel == null) {
                 System.err.println("Skipping " + file.getName());
                 return null;
             }
 
-            reader.readLine();
-            NetzschCSVReader.populate(data, reader);
+            scanner.nextLine();
+            NetzschCSVReader.populate(data, scanner);
 
-        } catch (ParseException ex) {
+        } catch (NumberFormatException ex) {
             Logger.getLogger(NetzschPulseCSVReader.class.getName()).log(Level.SEVERE, null, ex);
         }
 
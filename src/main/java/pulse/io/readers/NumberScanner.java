@@ -0,0 +1,438 @@
+package pulse.io.readers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A line-oriented scanner for numeric text files, which is shared by the
+ * readers in this package.
+ * <p>
+ * The scanner works directly on the characters of the file. Tokens are
+ * delimited by any of the characters in the {@code delimiters} string (line
+ * terminators are always treated as delimiters) and are never copied into
+ * intermediate {@code String}s. Numbers are parsed with a configurable decimal
+ * separator, which allows reading files written both in English ({@code 1.5})
+ * and in German ({@code 1,5}) locales. Columns of numbers are returned as
+ * primitive arrays.
+ * </p>
+ * <p>
+ * The numeric parser is lenient in the same way as
+ * {@code NumberFormat.parse}: the longest numeric prefix of a token is parsed
+ * and the remaining characters are ignored. The result is identical to
+ * {@code Double.parseDouble} for that prefix.
+ * </p>
+ * <p>
+ * A {@code NumberScanner} is not thread-safe, but separate instances can be
+ * used concurrently.
+ * </p>
+ */
+public class NumberScanner {
+
+    /**
+     * Exact powers of ten that can be represented as a double
+     */
+    private final static double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Mantissas above this value cannot be converted exactly using the fast
+     * path
+     */
+    private final static long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private final char[] chars;
+    private final int length;
+    private int position;
+
+    private boolean[] delimiterTable;
+    private String delimiters;
+    private char decimalSeparator;
+
+    /**
+     * Creates a scanner over {@code text}.
+     *
+     * @param text the text to be scanned
+     * @param delimiters the characters separating tokens within a line
+     * @param decimalSeparator the decimal separator
+     */
+    public NumberScanner(CharSequence text, String delimiters, char decimalSeparator) {
+        Objects.requireNonNull(text);
+        this.length = text.length();
+        this.chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = text.charAt(i);
+        }
+        setFormat(delimiters, decimalSeparator);
+    }
+
+    private NumberScanner(CharBuffer buffer, String delimiters, char decimalSeparator) {
+        if (buffer.hasArray()) {
+            this.chars = buffer.array();
+            this.position = buffer.arrayOffset() + buffer.position();
+            this.length = buffer.arrayOffset() + buffer.limit();
+        } else {
+            this.chars = buffer.toString().toCharArray();
+            this.length = chars.length;
+        }
+        setFormat(delimiters, decimalSeparator);
+    }
+
+    /**
+     * Maps {@code file} into memory and decodes it using the default charset
+     * (the same charset that is used by {@code FileReader}). The decimal
+     * separator is initially set to a point.
+     *
+     * @param file a text file
+     * @param delimiters the characters separating tokens within a line
+     * @return a scanner positioned at the start of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static NumberScanner of(File file, String delimiters) throws IOException {
+        Objects.requireNonNull(file);
+
+        CharBuffer buffer;
+
+        try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            var mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer = Charset.defaultCharset().newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(mapped);
+        }
+
+        return new NumberScanner(buffer, delimiters, '.');
+    }
+
+    /**
+     * Sets the token delimiters and the decimal separator.
+     *
+     * @param delimiters the characters separating tokens within a line
+     * @param decimalSeparator usually, either a point or a comma
+     * @throws IllegalArgumentException if the decimal separator is one of the
+     * delimiters
+     */
+    public final void setFormat(String delimiters, char decimalSeparator) {
+        Objects.requireNonNull(delimiters);
+        if (delimiters.indexOf(decimalSeparator) > -1) {
+            throw new IllegalArgumentException("Decimal separator "
+                    + decimalSeparator + " is also a delimiter");
+        }
+        this.delimiters = delimiters;
+        this.decimalSeparator = decimalSeparator;
+        int max = 0;
+        for (int i = 0; i < delimiters.length(); i++) {
+            max = Math.max(max, delimiters.charAt(i));
+        }
+        delimiterTable = new boolean[max + 1];
+        for (int i = 0; i < delimiters.length(); i++) {
+            delimiterTable[delimiters.charAt(i)] = true;
+        }
+    }
+
+    public String getDelimiters() {
+        return delimiters;
+    }
+
+    public char getDecimalSeparator() {
+        return decimalSeparator;
+    }
+
+    /**
+     * @return the current position, which can be used to return to this point
+     * later
+     * @see position(int)
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Moves the scanner to {@code position}, previously obtained with
+     * {@code position()}.
+     *
+     * @param position a position within the text
+     */
+    public void position(int position) {
+        this.position = position;
+    }
+
+    /**
+     * @return {@code true} if there are more characters to read
+     */
+    public boolean hasNextLine() {
+        return position < length;
+    }
+
+    /**
+     * Reads the rest of the current line and moves to the beginning of the
+     * next line. This follows the same conventions as
+     * {@code BufferedReader.readLine()}.
+     *
+     * @return the line without its terminator, or {@code null} if the end of
+     * the text has been reached
+     */
+    public String nextLine() {
+        if (position >= length) {
+            return null;
+        }
+        int start = position;
+        int end = endOfLine(start);
+        nextLineFrom(end);
+        return new String(chars, start, end - start);
+    }
+
+    /**
+     * Checks whether the current line contains whitespace only. Does not
+     * change the position of the scanner.
+     *
+     * @return {@code true} if the line is blank or if the end of the text has
+     * been reached
+     */
+    public boolean isBlankLine() {
+        for (int i = position, end = endOfLine(position); i < end; i++) {
+            if (!Character.isWhitespace(chars[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the first {@code row.length} tokens of the current line as
+     * numbers and moves to the beginning of the next line. Any further tokens
+     * on that line are skipped without being parsed.
+     *
+     * @param row the array to store the numbers in
+     * @return the number of tokens that have been parsed, which is less than
+     * {@code row.length} if the line is too short
+     * @throws NumberFormatException if a token does not start with a number
+     */
+    public int nextNumbers(double[] row) {
+        int end = endOfLine(position);
+        int i = position;
+        int n = 0;
+
+        while (n < row.length) {
+
+            //skip delimiters
+            while (i < end && isDelimiter(chars[i])) {
+                i++;
+            }
+
+            if (i == end) {
+                break;
+            }
+
+            int tokenEnd = i;
+            while (tokenEnd < end && !isDelimiter(chars[tokenEnd])) {
+                tokenEnd++;
+            }
+
+            row[n++] = parseDouble(chars, i, tokenEnd, decimalSeparator);
+            i = tokenEnd;
+        }
+
+        nextLineFrom(end);
+        return n;
+    }
+
+    /**
+     * Reads numeric data arranged in columns, starting from the current line
+     * and continuing up to the end of text. Blank lines are skipped.
+     *
+     * @param columns the number of leading columns that will be read; any
+     * other columns are ignored
+     * @return an array of size {@code columns}, the elements of which are the
+     * values in the respective columns
+     * @throws NumberFormatException if a line contains less than
+     * {@code columns} tokens or if a token is not a number
+     */
+    public double[][] readColumns(int columns) {
+        return readColumns(columns, false);
+    }
+
+    /**
+     * Reads numeric data arranged in columns, starting from the current line.
+     *
+     * @param columns the number of leading columns that will be read; any
+     * other columns are ignored
+     * @param untilBlankLine if {@code true}, reading stops at the first blank
+     * line, which is used to read a section of a file; otherwise, blank lines
+     * are skipped and reading continues up to the end of text
+     * @return an array of size {@code columns}, the elements of which are the
+     * values in the respective columns
+     * @throws NumberFormatException if a line contains less than
+     * {@code columns} tokens or if a token is not a number
+     */
+    public double[][] readColumns(int columns, boolean untilBlankLine) {
+        int capacity = Math.max(16, (length - position) / (8 * columns + 2));
+        var data = new double[columns][capacity];
+        var row = new double[columns];
+        int size = 0;
+
+        while (hasNextLine()) {
+
+            if (isBlankLine()) {
+                if (untilBlankLine) {
+                    break;
+                }
+                nextLineFrom(endOfLine(position));
+                continue;
+            }
+
+            if (nextNumbers(row) < columns) {
+                throw new NumberFormatException("Expected " + columns
+                        + " columns in row " + (size + 1));
+            }
+
+            if (size == capacity) {
+                capacity *= 2;
+                for (int j = 0; j < columns; j++) {
+                    data[j] = Arrays.copyOf(data[j], capacity);
+                }
+            }
+
+            for (int j = 0; j < columns; j++) {
+                data[j][size] = row[j];
+            }
+
+            size++;
+        }
+
+        for (int j = 0; j < columns; j++) {
+            data[j] = Arrays.copyOf(data[j], size);
+        }
+
+        return data;
+    }
+
+    /**
+     * Parses the longest numeric prefix of {@code s}.
+     *
+     * @param s a string starting with a number
+     * @param decimalSeparator the decimal separator used in {@code s}
+     * @return the parsed number
+     * @throws NumberFormatException if {@code s} does not start with a number
+     */
+    public static double parseDouble(String s, char decimalSeparator) {
+        return parseDouble(s.toCharArray(), 0, s.length(), decimalSeparator);
+    }
+
+    private static double parseDouble(char[] c, int from, int to, char decimalSeparator) {
+        int i = from;
+
+        boolean negative = false;
+        if (i < to && (c[i] == '-' || c[i] == '+')) {
+            negative = c[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int significant = 0;
+        int exponent = 0;
+
+        for (; i < to && isDigit(c[i]); i++, digits++) {
+            if (significant > 0 || c[i] != '0') {
+                significant++;
+            }
+            if (significant <= 18) {
+                mantissa = 10 * mantissa + (c[i] - '0');
+            } else {
+                exponent++;
+            }
+        }
+
+        if (i < to && c[i] == decimalSeparator) {
+            i++;
+            for (; i < to && isDigit(c[i]); i++, digits++) {
+                if (significant > 0 || c[i] != '0') {
+                    significant++;
+                }
+                if (significant <= 18) {
+                    mantissa = 10 * mantissa + (c[i] - '0');
+                    exponent--;
+                }
+            }
+        }
+
+        if (digits == 0) {
+            throw new NumberFormatException("Not a number: " + new String(c, from, to - from));
+        }
+
+        int numberEnd = i;
+
+        if (i < to && (c[i] == 'e' || c[i] == 'E')) {
+            int j = i + 1;
+            boolean negativeExp = false;
+            if (j < to && (c[j] == '-' || c[j] == '+')) {
+                negativeExp = c[j] == '-';
+                j++;
+            }
+            if (j < to && isDigit(c[j])) {
+                int e = 0;
+                for (; j < to && isDigit(c[j]); j++) {
+                    if (e < 100000) {
+                        e = 10 * e + (c[j] - '0');
+                    }
+                }
+                exponent += negativeExp ? -e : e;
+                numberEnd = j;
+            }
+        }
+
+        double value;
+
+        if (significant <= 18 && mantissa < MAX_EXACT_MANTISSA
+                && exponent >= -22 && exponent <= 22) {
+            //both the mantissa and the power of ten are exact, so is the result
+            value = exponent < 0
+                    ? mantissa / POWERS_OF_TEN[-exponent]
+                    : mantissa * POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+
+        //slow path for long mantissas and large exponents
+        var s = new String(c, from, numberEnd - from);
+        if (decimalSeparator != '.') {
+            s = s.replace(decimalSeparator, '.');
+        }
+        return Double.parseDouble(s);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private boolean isDelimiter(char c) {
+        return c < delimiterTable.length && delimiterTable[c];
+    }
+
+    private int endOfLine(int from) {
+        int i = from;
+        while (i < length && chars[i] != '\n' && chars[i] != '\r') {
+            i++;
+        }
+        return i;
+    }
+
+    private void nextLineFrom(int end) {
+        position = end;
+        if (position < length && chars[position] == '\r') {
+            position++;
+        }
+        if (position < length && chars[position] == '\n') {
+            position++;
+        }
+    }
+
+}
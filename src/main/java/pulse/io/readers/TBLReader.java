@@ -1,11 +1,8 @@
 package pulse.io.readers;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.Objects;
-import java.util.StringTokenizer;
 
 import pulse.input.InterpolationDataset;
 import pulse.ui.Messages;
@@ -92,14 +89,11 @@ public class TBLReader implements DatasetReader {
 
         var curve = new InterpolationDataset();
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String delims = Messages.getString("TBLReader.2");
-            StringTokenizer tokenizer;
+        var scanner = NumberScanner.of(file, Messages.getString("TBLReader.2"));
+        var columns = scanner.readColumns(2);
 
-            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
-                tokenizer = new StringTokenizer(line);
-                curve.add(new ImmutableDataEntry<>(parse(tokenizer, delims), parse(tokenizer, delims)));
-            }
+        for (int i = 0; i < columns[0].length; i++) {
+            curve.add(new ImmutableDataEntry<>(columns[0][i], columns[1][i]));
         }
 
         curve.doInterpolation();
@@ -107,8 +101,4 @@ public class TBLReader implements DatasetReader {
 
     }
 
-    private static Double parse(StringTokenizer tokenizer, String delims) {
-        return Double.parseDouble(tokenizer.nextToken(delims));
-    }
-
 }
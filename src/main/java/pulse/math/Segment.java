@@ -21,6 +21,8 @@ public class Segment implements Serializable {
 
     public final static Segment UNBOUNDED = new Segment(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
 
+    private static Random random = new Random();
+
     /**
      * Creates a {@code Segment} bounded by {@code a} and {@code b}.
      *
@@ -127,7 +129,18 @@ public class Segment implements Serializable {
      * @return a confined random value.
      */
     public double randomValue() {
-        return (new Random()).nextDouble() * length() + getMinimum();
+        return random.nextDouble() * length() + getMinimum();
+    }
+
+    /**
+     * Re-seeds the generator shared by all segments, so that the random values
+     * (and hence the randomised line searches) can be reproduced.
+     *
+     * @param seed the seed
+     * @see randomValue()
+     */
+    public static void setSeed(long seed) {
+        random = new Random(seed);
     }
 
     /**
@@ -0,0 +1,146 @@
+package pulse.math;
+
+import java.io.Serializable;
+
+import org.apache.commons.math3.analysis.UnivariateFunction;
+
+/**
+ * A natural cubic spline on uniformly spaced knots, which is updated in place
+ * when the values at the knots change.
+ * <p>
+ * Unlike a {@code PolynomialSplineFunction} built by a
+ * {@code SplineInterpolator}, the spline keeps its arrays between updates and
+ * finds the interval containing an argument by division rather than a binary
+ * search. The second derivatives at the knots are found from a tridiagonal
+ * system, the elimination coefficients of which only depend on the number of
+ * knots and are calculated once. An update therefore takes a single
+ * forward and backward sweep and allocates no memory. The polynomial of each
+ * interval is stored in terms of the fraction of the interval, so that an
+ * evaluation takes a few multiplications.
+ * </p>
+ */
+public class UniformCubicSpline implements UnivariateFunction, Serializable {
+
+    private static final long serialVersionUID = 5103460726327811935L;
+
+    private double x0;
+    private double h;
+    private double invH;
+
+    private double[] y;
+    private double[] m;
+    private double[] alpha;
+
+    /*
+     * The coefficients of t, t^2 and t^3 on each interval, where t is the
+     * fraction of the interval
+     */
+    private double[] b;
+    private double[] c;
+    private double[] d;
+
+    /**
+     * Creates an empty spline, which needs to be resized before use.
+     */
+    public UniformCubicSpline() {
+        y = new double[0];
+        m = new double[0];
+        alpha = new double[0];
+        b = new double[0];
+        c = new double[0];
+        d = new double[0];
+    }
+
+    /**
+     * Sets the knots to <i>x</i><sub>0</sub> + <i>k</i> <i>h</i>, where
+     * <i>k</i> = 0 ... {@code n - 1}. The arrays are only reallocated if
+     * {@code n} changes.
+     *
+     * @param n the number of knots, at least 3
+     * @param x0 the first knot
+     * @param h the distance between the knots
+     */
+    public void resize(final int n, final double x0, final double h) {
+        if (n < 3) {
+            throw new IllegalArgumentException("Too few knots: " + n);
+        }
+
+        this.x0 = x0;
+        this.h = h;
+        invH = 1.0 / h;
+
+        if (n != y.length) {
+            y = new double[n];
+            m = new double[n];
+            alpha = new double[n];
+            b = new double[n - 1];
+            c = new double[n - 1];
+            d = new double[n - 1];
+
+            //elimination of M[k - 1] + 4 M[k] + M[k + 1], with M[0] = M[n - 1] = 0
+            for (int k = 1; k < n - 1; k++) {
+                alpha[k] = 1.0 / (4.0 - alpha[k - 1]);
+            }
+        }
+    }
+
+    /**
+     * Gets the values at the knots, which may be changed before calling
+     * {@link #update()}.
+     *
+     * @return the array of values
+     */
+    public double[] getValues() {
+        return y;
+    }
+
+    /**
+     * Calculates the second derivatives at the knots and the polynomials of
+     * the intervals for the current values.
+     */
+    public void update() {
+        final int n = y.length;
+        final double f = 6.0 / (h * h);
+
+        //m holds the beta coefficients during the forward sweep
+        m[0] = 0.0;
+        for (int k = 1; k < n - 1; k++) {
+            m[k] = (f * (y[k + 1] - 2.0 * y[k] + y[k - 1]) - m[k - 1]) * alpha[k];
+        }
+
+        m[n - 1] = 0.0;
+        for (int k = n - 2; k > 0; k--) {
+            m[k] -= alpha[k] * m[k + 1];
+        }
+
+        final double hh = h * h;
+        for (int k = 0; k < n - 1; k++) {
+            b[k] = y[k + 1] - y[k] - hh * (2.0 * m[k] + m[k + 1]) / 6.0;
+            c[k] = 0.5 * hh * m[k];
+            d[k] = hh * (m[k + 1] - m[k]) / 6.0;
+        }
+    }
+
+    /**
+     * Evaluates the spline at {@code x}. Outside the knots, the spline is
+     * extrapolated with the polynomial of the nearest interval.
+     *
+     * @param x the argument
+     * @return the value of the spline
+     */
+    @Override
+    public double value(final double x) {
+        final double s = (x - x0) * invH;
+        //truncation is only wrong for s < 0, where the first interval is used anyway
+        int k = (int) s;
+        if (k < 0) {
+            k = 0;
+        } else if (k > b.length - 1) {
+            k = b.length - 1;
+        }
+
+        final double t = s - k;
+        return y[k] + t * (b[k] + t * (c[k] + t * d[k]));
+    }
+
+}
@@ -12,6 +12,7 @@ import pulse.math.ParameterIdentifier;
 import pulse.math.ParameterVector;
 import pulse.math.Segment;
 import pulse.math.linear.Vector;
+import pulse.search.SearchConfiguration;
 import pulse.search.SimpleOptimisationTask;
 import pulse.search.SimpleResponse;
 import pulse.search.direction.BFGSOptimiser;
@@ -43,8 +44,8 @@ public class PolylineOptimiser extends SimpleOptimisationTask {
     }
 
     @Override
-    public void setDefaultOptimiser() {
-        setOptimiser(BFGSOptimiser.getInstance());
+    protected SearchConfiguration defaultConfiguration() {
+        return super.defaultConfiguration().withOptimiser(BFGSOptimiser.getInstance());
     }
 
     @Override
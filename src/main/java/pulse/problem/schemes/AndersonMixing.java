@@ -0,0 +1,218 @@
+package pulse.problem.schemes;
+
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericProperty.requireType;
+import static pulse.properties.NumericPropertyKeyword.ANDERSON_DEPTH;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import pulse.properties.NumericProperty;
+
+/**
+ * Accelerates the convergence of fixed-point iterations <i>x</i> =
+ * <i>G</i>(<i>x</i>) by Anderson mixing.
+ * <p>
+ * Instead of taking <i>G</i>(<i>x<sub>k</sub></i>) as the next iterate, the
+ * mixing combines the last {@code depth + 1} values of <i>G</i> with the
+ * weights minimising the linear combination of the corresponding residuals
+ * <i>G</i>(<i>x</i>) - <i>x</i> in the least-squares sense. With a depth of 1,
+ * this is a secant method. The weights are found from the normal equations,
+ * which are small, as the depth should not exceed a few iterations.
+ * </p>
+ *
+ * @see FixedPointIterations
+ * @see <a href="https://doi.org/10.1137/10078356X">Walker and Ni, SIAM J.
+ * Numer. Anal. 49 (2011)</a>
+ */
+public class AndersonMixing implements Serializable {
+
+    private static final long serialVersionUID = -2795420632104722313L;
+
+    /*
+     * A small regularisation of the normal equations, relative to their
+     * diagonal
+     */
+    private final static double REGULARISATION = 1e-12;
+
+    private final int depth;
+
+    private transient double[] x;
+    private transient double[] previousG;
+    private transient double[] previousF;
+    private transient double[][] dG;
+    private transient double[][] dF;
+    /*
+     * The augmented matrix of the normal equations and their solution, of
+     * which only the first stored rows are used
+     */
+    private transient double[][] a;
+    private transient double[] gamma;
+    private transient int stored;
+    private transient int next;
+    private transient boolean started;
+
+    /**
+     * Creates the mixing with the given number of previous iterations.
+     *
+     * @param depth a positive number
+     */
+    public AndersonMixing(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Illegal depth: " + depth);
+        }
+        this.depth = depth;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Creates the mixing for the value of an {@code ANDERSON_DEPTH} property.
+     *
+     * @param depth the property
+     * @return the mixing, or {@code null} if the depth is zero
+     */
+    public static AndersonMixing forDepth(NumericProperty depth) {
+        requireType(depth, ANDERSON_DEPTH);
+        int value = (int) depth.getValue();
+        return value > 0 ? new AndersonMixing(value) : null;
+    }
+
+    /**
+     * Gets the depth of {@code mixing} as an {@code ANDERSON_DEPTH} property.
+     *
+     * @param mixing the mixing, or {@code null}
+     * @return the property, which is zero if {@code mixing} is {@code null}
+     */
+    public static NumericProperty depthOf(AndersonMixing mixing) {
+        return derive(ANDERSON_DEPTH, mixing != null ? mixing.getDepth() : 0);
+    }
+
+    /**
+     * Forgets the previous iterations, e.g. at the start of a time step.
+     */
+    public void reset() {
+        stored = 0;
+        next = 0;
+        started = false;
+    }
+
+    /**
+     * Remembers the iterate before the fixed-point map is applied to it.
+     *
+     * @param V the current iterate <i>x<sub>k</sub></i>
+     */
+    public void store(double[] V) {
+        if (x == null || x.length != V.length) {
+            allocate(V.length);
+        }
+        System.arraycopy(V, 0, x, 0, V.length);
+    }
+
+    /**
+     * Replaces the result of the fixed-point map by the next iterate.
+     *
+     * @param V on input, <i>G</i>(<i>x<sub>k</sub></i>), where
+     * <i>x<sub>k</sub></i> has been stored; on output, <i>x</i><sub>k +
+     * 1</sub>
+     */
+    public void mix(double[] V) {
+        final int n = V.length;
+
+        //the residual is kept in x, which is no longer needed
+        for (int i = 0; i < n; i++) {
+            x[i] = V[i] - x[i];
+        }
+
+        if (started) {
+            final var g = dG[next];
+            final var f = dF[next];
+            for (int i = 0; i < n; i++) {
+                g[i] = V[i] - previousG[i];
+                f[i] = x[i] - previousF[i];
+            }
+            next = (next + 1) % depth;
+            stored = Math.min(stored + 1, depth);
+        }
+
+        System.arraycopy(V, 0, previousG, 0, n);
+        System.arraycopy(x, 0, previousF, 0, n);
+        started = true;
+
+        weights(x);
+
+        for (int j = 0; j < stored; j++) {
+            final var g = dG[j];
+            for (int i = 0; i < n; i++) {
+                V[i] -= gamma[j] * g[i];
+            }
+        }
+    }
+
+    /**
+     * Solves the normal equations for the weights of the stored differences,
+     * which are put in {@code gamma}. The weights are all zero if the
+     * equations are singular.
+     *
+     * @param f the current residual
+     */
+    private void weights(double[] f) {
+        final int m = stored;
+
+        for (int j = 0; j < m; j++) {
+            for (int k = j; k < m; k++) {
+                a[j][k] = dot(dF[j], dF[k]);
+                a[k][j] = a[j][k];
+            }
+            a[j][m] = dot(dF[j], f);
+        }
+
+        for (int j = 0; j < m; j++) {
+            a[j][j] *= 1.0 + REGULARISATION;
+        }
+
+        //Gaussian elimination, the matrix being symmetric positive definite
+        for (int j = 0; j < m; j++) {
+            if (!(a[j][j] > 0)) {
+                Arrays.fill(gamma, 0.0);
+                return;
+            }
+            for (int k = j + 1; k < m; k++) {
+                final double ratio = a[k][j] / a[j][j];
+                for (int l = j; l <= m; l++) {
+                    a[k][l] -= ratio * a[j][l];
+                }
+            }
+        }
+
+        for (int j = m - 1; j >= 0; j--) {
+            double sum = a[j][m];
+            for (int k = j + 1; k < m; k++) {
+                sum -= a[j][k] * gamma[k];
+            }
+            gamma[j] = sum / a[j][j];
+        }
+    }
+
+    private static double dot(double[] u, double[] v) {
+        double sum = 0;
+        for (int i = 0; i < u.length; i++) {
+            sum += u[i] * v[i];
+        }
+        return sum;
+    }
+
+    private void allocate(int n) {
+        x = new double[n];
+        previousG = new double[n];
+        previousF = new double[n];
+        dG = new double[depth][n];
+        dF = new double[depth][n];
+        a = new double[depth][depth + 1];
+        gamma = new double[depth];
+        reset();
+    }
+
+}
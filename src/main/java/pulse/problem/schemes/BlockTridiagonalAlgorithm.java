@@ -0,0 +1,199 @@
+package pulse.problem.schemes;
+
+import java.io.Serializable;
+
+/**
+ * Implements the block tridiagonal matrix algorithm for two fields <i>x</i>
+ * and <i>y</i> coupled at each grid point, e.g. the temperatures of two
+ * phases exchanging heat. The system consists of the pairs of equations
+ * <p>
+ * a1<sub>i</sub> x<sub>i-1</sub> + b11<sub>i</sub> x<sub>i</sub> +
+ * b12<sub>i</sub> y<sub>i</sub> + c1<sub>i</sub> x<sub>i+1</sub> =
+ * d1<sub>i</sub>,
+ * </p>
+ * <p>
+ * a2<sub>i</sub> y<sub>i-1</sub> + b21<sub>i</sub> x<sub>i</sub> +
+ * b22<sub>i</sub> y<sub>i</sub> + c2<sub>i</sub> y<sub>i+1</sub> =
+ * d2<sub>i</sub>,
+ * </p>
+ * <p>
+ * for {@code i = 0 ... N}, i.e. its matrix is block-tridiagonal with 2x2
+ * blocks, of which only those on the main diagonal are full. The elimination
+ * is that of the Thomas algorithm, with the {@code alpha} coefficients
+ * replaced by 2x2 matrices and the {@code beta} coefficients by vectors. The
+ * matrices only depend on the coefficients of the equations, so they are
+ * calculated once by {@link #factorise()} and each solution then takes a
+ * single forward and backward sweep.
+ * </p>
+ *
+ * @see TridiagonalMatrixAlgorithm
+ */
+public class BlockTridiagonalAlgorithm implements Serializable {
+
+    private static final long serialVersionUID = -3418227351873361264L;
+
+    private final int N;
+
+    private final double[] a1;
+    private final double[] a2;
+    private final double[] b11;
+    private final double[] b12;
+    private final double[] b21;
+    private final double[] b22;
+    private final double[] c1;
+    private final double[] c2;
+
+    /*
+     * The alpha matrices and the inverses of the diagonal blocks left after
+     * the elimination
+     */
+    private final double[][] alpha;
+    private final double[][] inverse;
+
+    private final double[] d1;
+    private final double[] d2;
+    private final double[] beta1;
+    private final double[] beta2;
+
+    public BlockTridiagonalAlgorithm(Grid grid) {
+        N = grid.getGridDensityValue();
+        a1 = new double[N + 1];
+        a2 = new double[N + 1];
+        b11 = new double[N + 1];
+        b12 = new double[N + 1];
+        b21 = new double[N + 1];
+        b22 = new double[N + 1];
+        c1 = new double[N + 1];
+        c2 = new double[N + 1];
+        alpha = new double[4][N + 1];
+        inverse = new double[4][N + 1];
+        d1 = new double[N + 1];
+        d2 = new double[N + 1];
+        beta1 = new double[N + 2];
+        beta2 = new double[N + 2];
+    }
+
+    /**
+     * Sets the coefficients of the {@code i}-th pair of equations. The
+     * coefficients {@code a1} and {@code a2} are ignored for the first pair,
+     * and {@code c1} and {@code c2} for the last one.
+     *
+     * @param i the index of the grid point
+     * @param a1 the coefficient of <i>x</i><sub>i-1</sub> in the first equation
+     * @param b11 the coefficient of <i>x</i><sub>i</sub> in the first equation
+     * @param b12 the coefficient of <i>y</i><sub>i</sub> in the first equation
+     * @param c1 the coefficient of <i>x</i><sub>i+1</sub> in the first equation
+     * @param a2 the coefficient of <i>y</i><sub>i-1</sub> in the second
+     * equation
+     * @param b21 the coefficient of <i>x</i><sub>i</sub> in the second
+     * equation
+     * @param b22 the coefficient of <i>y</i><sub>i</sub> in the second
+     * equation
+     * @param c2 the coefficient of <i>y</i><sub>i+1</sub> in the second
+     * equation
+     */
+    public void setCoefficients(final int i, final double a1, final double b11, final double b12,
+            final double c1, final double a2, final double b21, final double b22, final double c2) {
+        this.a1[i] = i > 0 ? a1 : 0;
+        this.b11[i] = b11;
+        this.b12[i] = b12;
+        this.c1[i] = i < N ? c1 : 0;
+        this.a2[i] = i > 0 ? a2 : 0;
+        this.b21[i] = b21;
+        this.b22[i] = b22;
+        this.c2[i] = i < N ? c2 : 0;
+    }
+
+    /**
+     * Calculates the {@code alpha} matrices after all coefficients have been
+     * set.
+     */
+    public void factorise() {
+        final var alpha11 = alpha[0];
+        final var alpha12 = alpha[1];
+        final var alpha21 = alpha[2];
+        final var alpha22 = alpha[3];
+
+        double m11;
+        double m12;
+        double m21;
+        double m22;
+        double det;
+
+        for (int i = 0; i <= N; i++) {
+            m11 = b11[i];
+            m12 = b12[i];
+            m21 = b21[i];
+            m22 = b22[i];
+
+            //eliminates the (i - 1)-th pair, where X_{i-1} = alpha[i - 1] X_i + beta[i]
+            if (i > 0) {
+                m11 += a1[i] * alpha11[i - 1];
+                m12 += a1[i] * alpha12[i - 1];
+                m21 += a2[i] * alpha21[i - 1];
+                m22 += a2[i] * alpha22[i - 1];
+            }
+
+            det = m11 * m22 - m12 * m21;
+            inverse[0][i] = m22 / det;
+            inverse[1][i] = -m12 / det;
+            inverse[2][i] = -m21 / det;
+            inverse[3][i] = m11 / det;
+
+            alpha11[i] = -inverse[0][i] * c1[i];
+            alpha12[i] = -inverse[1][i] * c2[i];
+            alpha21[i] = -inverse[2][i] * c1[i];
+            alpha22[i] = -inverse[3][i] * c2[i];
+        }
+    }
+
+    /**
+     * Sets the right-hand sides of the {@code i}-th pair of equations.
+     *
+     * @param i the index of the grid point
+     * @param d1 the right-hand side of the first equation
+     * @param d2 the right-hand side of the second equation
+     */
+    public void setRightHandSide(final int i, final double d1, final double d2) {
+        this.d1[i] = d1;
+        this.d2[i] = d2;
+    }
+
+    /**
+     * Solves the system for the current right-hand sides. The algorithm
+     * should have been factorised.
+     *
+     * @param x the first field
+     * @param y the second field
+     */
+    public void solve(final double[] x, final double[] y) {
+        final var q11 = inverse[0];
+        final var q12 = inverse[1];
+        final var q21 = inverse[2];
+        final var q22 = inverse[3];
+
+        double r1;
+        double r2;
+
+        for (int i = 0; i <= N; i++) {
+            r1 = d1[i] - a1[i] * beta1[i];
+            r2 = d2[i] - a2[i] * beta2[i];
+            beta1[i + 1] = q11[i] * r1 + q12[i] * r2;
+            beta2[i + 1] = q21[i] * r1 + q22[i] * r2;
+        }
+
+        x[N] = beta1[N + 1];
+        y[N] = beta2[N + 1];
+
+        final var alpha11 = alpha[0];
+        final var alpha12 = alpha[1];
+        final var alpha21 = alpha[2];
+        final var alpha22 = alpha[3];
+
+        for (int i = N - 1; i >= 0; i--) {
+            x[i] = alpha11[i] * x[i + 1] + alpha12[i] * y[i + 1] + beta1[i + 1];
+            y[i] = alpha21[i] * x[i + 1] + alpha22[i] * y[i + 1] + beta2[i + 1];
+        }
+    }
+
+}
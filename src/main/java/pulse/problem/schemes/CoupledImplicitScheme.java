@@ -70,6 +70,7 @@ public abstract class CoupledImplicitScheme extends ImplicitScheme {
     }
 
     public final void setCoupling(RadiativeTransferCoupling coupling) {
+        release(this.coupling);
         this.coupling = coupling;
         this.coupling.setParent(this);
     }
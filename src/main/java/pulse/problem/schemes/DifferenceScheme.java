@@ -15,6 +15,8 @@ import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
 import pulse.util.PropertyHolder;
 import pulse.util.Reflexive;
+import pulse.util.metrics.Histogram;
+import pulse.util.metrics.Metrics;
 
 /**
  * A {@code DifferenceScheme} is an abstract class that declares general methods
@@ -40,6 +42,9 @@ public abstract class DifferenceScheme extends PropertyHolder implements Reflexi
 
     private final static double EPS = 1e-7; // a small value ensuring numeric stability
 
+    private final static Histogram solveTime = Metrics.getInstance().timer(Metrics.SOLVE_TIME);
+    private final static Histogram timeSteps = Metrics.getInstance().histogram(Metrics.TIME_STEPS);
+
     /**
      * A constructor which merely sets the time limit to its default value.
      */
@@ -109,6 +114,9 @@ public abstract class DifferenceScheme extends PropertyHolder implements Reflexi
     }
 
     public void runTimeSequence(Problem problem, final double offset, final double endTime) throws SolverException {
+        final long start = System.nanoTime();
+        long steps = 0;
+
         var curve = problem.getHeatingCurve();
         curve.clear();
 
@@ -140,21 +148,35 @@ public abstract class DifferenceScheme extends PropertyHolder implements Reflexi
 	     * the time grid. Thus, to calculate the next point on the heating curve,
 	     * timeInterval/tau time steps have to be made first.
              */
-            timeSegment(previous, previous + timeInterval);
+            steps += timeSegment(previous, previous + timeInterval);
             nextTime += wFactor;
             curve.addPoint(nextTime, signal());
         }
 
         curve.copyToLastCalculation();
         scaleSolution(problem);
+
+        timeSteps.record(steps);
+        solveTime.recordSince(start);
     }
 
-    private void timeSegment(final int m1, final int m2) throws SolverException {
-        for (int m = m1; m < m2 && normalOperation(); m++) {
+    /**
+     * Makes the time steps between {@code m1} and {@code m2}, stopping early
+     * if the operation is no longer normal.
+     *
+     * @param m1 the first time step number
+     * @param m2 the time step number to stop at (exclusive)
+     * @return the number of time steps made
+     * @throws SolverException if the time step cannot be completed
+     */
+    protected int timeSegment(final int m1, final int m2) throws SolverException {
+        int m;
+        for (m = m1; m < m2 && normalOperation(); m++) {
             prepareStep(m);     //prepare
             timeStep(m);        //calculate
             finaliseStep();     //finalise
         }
+        return m - m1;
     }
 
     public double pulse(final int m) {
@@ -216,6 +238,7 @@ public abstract class DifferenceScheme extends PropertyHolder implements Reflexi
      * @param grid the grid
      */
     public final void setGrid(Grid grid) {
+        release(this.grid);
         this.grid = grid;
         this.grid.setParent(this);
     }
@@ -1,11 +1,14 @@
 package pulse.problem.schemes;
 
 import static java.lang.Math.abs;
+import static java.lang.Math.max;
 
 import java.io.Serializable;
 import java.util.Arrays;
 import pulse.problem.schemes.solvers.SolverException;
 import static pulse.problem.schemes.solvers.SolverException.SolverExceptionType.FINITE_DIFFERENCE_ERROR;
+import pulse.util.metrics.Histogram;
+import pulse.util.metrics.Metrics;
 
 /**
  * @see <a href="https://en.wikipedia.org/wiki/Fixed-point_iteration">Wiki
@@ -14,11 +17,22 @@ import static pulse.problem.schemes.solvers.SolverException.SolverExceptionType.
  */
 public interface FixedPointIterations extends Serializable {
 
+    /**
+     * The unit of the recorded residuals
+     */
+    final static double RESIDUAL_UNIT = 1e-12;
+
+    final static Histogram ITERATIONS = Metrics.getInstance().histogram(Metrics.FIXED_POINT_ITERATIONS);
+    final static Histogram RESIDUALS = Metrics.getInstance().histogram(Metrics.FIXED_POINT_RESIDUAL, RESIDUAL_UNIT);
+
     /**
      * Performs iterations until the convergence criterion is satisfied.The
      * latter consists in having a difference two consequent iterations of V
      * less than the specified error. At the end of each iteration, calls
-     * {@code finaliseIteration()}.
+     * {@code finaliseIteration()}. If {@link #getMixing()} is not
+     * {@code null}, each iteration is followed by Anderson mixing, unless the
+     * criterion is already satisfied. The number of iterations and the final
+     * residual are recorded in the {@code Metrics}.
      *
      * @param V the calculation array
      * @param error used in the convergence criterion
@@ -31,16 +45,47 @@ public interface FixedPointIterations extends Serializable {
     public default void doIterations(double[] V, final double error, final int m) throws SolverException {
 
         final int N = V.length - 1;
+        final var mixing = getMixing();
 
-        for (double V_0 = error + 1, V_N = error + 1;
-                abs(V[0] - V_0) / abs(V[0] + V_0 + 1e-16) > error
-                || abs(V[N] - V_N) / abs(V[N] + V_N + 1e-16) > error; finaliseIteration(V)) {
+        if (mixing != null) {
+            mixing.reset();
+        }
+
+        int iterations = 0;
+        double residual;
+
+        do {
+            final double V_0 = V[0];
+            final double V_N = V[N];
+
+            if (mixing != null) {
+                mixing.store(V);
+            }
 
-            V_N = V[N];
-            V_0 = V[0];
             iteration(m);
+            iterations++;
 
-        }
+            residual = max(abs(V[0] - V_0) / abs(V[0] + V_0 + 1e-16),
+                    abs(V[N] - V_N) / abs(V[N] + V_N + 1e-16));
+
+            if (mixing != null && residual > error) {
+                mixing.mix(V);
+            }
+
+            finaliseIteration(V);
+        } while (residual > error);
+
+        ITERATIONS.record(iterations);
+        RESIDUALS.record((long) (residual / RESIDUAL_UNIT));
+    }
+
+    /**
+     * The Anderson mixing used to accelerate the iterations.
+     *
+     * @return {@code null} by default, meaning plain fixed-point iterations
+     */
+    public default AndersonMixing getMixing() {
+        return null;
     }
 
     /**
@@ -1,17 +1,47 @@
 package pulse.problem.schemes;
 
 import pulse.problem.schemes.solvers.SolverException;
+import static pulse.properties.NumericProperties.def;
 import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericProperty.requireType;
 import static pulse.properties.NumericPropertyKeyword.GRID_DENSITY;
+import static pulse.properties.NumericPropertyKeyword.STEP_TOLERANCE;
 import static pulse.properties.NumericPropertyKeyword.TAU_FACTOR;
 import static pulse.ui.Messages.getString;
 
+import java.util.Arrays;
+import java.util.Set;
+
 import pulse.problem.statements.Problem;
 import pulse.properties.NumericProperty;
+import pulse.properties.NumericPropertyKeyword;
 
 /**
  * An abstract implicit finite-difference scheme for solving one-dimensional
  * heat conduction problems.
+ * <p>
+ * Implicit schemes are unconditionally stable, so schemes which support it
+ * (see {@link VariableTimeStep}) may use adaptive time steps if the
+ * {@code STEP_TOLERANCE} is positive. The time step is then a multiple of the
+ * grid time step, which is kept while the laser pulse is on, so that the
+ * pulse is resolved and its end is hit exactly. Afterwards the step grows
+ * while the solution is smooth, but never passes the next point of the
+ * heating curve. The local error of each step is estimated by comparing the
+ * implicit solution with an explicit predictor extrapolated from the previous
+ * steps, which is of the same order in time as the scheme, and the step is
+ * repeated with a smaller size if the error, relative to the maximum of the
+ * solution, exceeds the tolerance. The coefficients of
+ * the tridiagonal matrix algorithm are calculated once for each step size and
+ * reused when the step returns to that size.
+ * </p>
+ * <p>
+ * Schemes whose {@code alpha} coefficients only depend on the grid and a few
+ * parameters of the problem may list these parameters in
+ * {@link #factorisationParameters(Problem)}. The tridiagonal matrix algorithms
+ * are then kept between calculations and only recalculated when the grid or
+ * the parameters change, which makes repeated calculations, e.g. for the
+ * Jacobian of the search, cheaper to prepare.
+ * </p>
  *
  * @see pulse.problem.statements.ClassicalProblem
  * @see pulse.problem.statements.NonlinearProblem
@@ -23,6 +53,32 @@ public abstract class ImplicitScheme extends OneDimensionalScheme {
      */
     private static final long serialVersionUID = 2785615380656900783L;
     private TridiagonalMatrixAlgorithm tridiagonal;
+    private double stepTolerance;
+
+    /*
+     * The state of adaptive stepping: the tridiagonal algorithms for each
+     * multiple of the grid time step, the current and the proposed multiple,
+     * the rates of change of the solution during the last two steps and their
+     * sizes
+     */
+    private transient TridiagonalMatrixAlgorithm[] factorisations;
+    private transient int step;
+    private transient int nextStep;
+    private transient double[] rate;
+    private transient double[] previousRate;
+    private transient double previousStep;
+    private transient double stepBeforePrevious;
+
+    /*
+     * The grid and problem parameters of the current tridiagonal algorithms
+     * and whether prepare has kept them
+     */
+    private transient double[] factorisationKey;
+    private transient boolean factorisationReused;
+
+    private final static double SAFETY_FACTOR = 0.9;
+    private final static double MIN_GROWTH = 0.2;
+    private final static double MAX_GROWTH = 2.0;
 
     /**
      * Constructs a default fully-implicit scheme using the default values of
@@ -44,6 +100,7 @@ public abstract class ImplicitScheme extends OneDimensionalScheme {
     public ImplicitScheme(NumericProperty N, NumericProperty timeFactor) {
         super();
         setGrid(new Grid(N, timeFactor));
+        stepTolerance = (double) def(STEP_TOLERANCE).getValue();
     }
 
     /**
@@ -62,12 +119,256 @@ public abstract class ImplicitScheme extends OneDimensionalScheme {
     public ImplicitScheme(NumericProperty N, NumericProperty timeFactor, NumericProperty timeLimit) {
         super(timeLimit);
         setGrid(new Grid(N, timeFactor));
+        stepTolerance = (double) def(STEP_TOLERANCE).getValue();
     }
 
     @Override
     protected void prepare(Problem problem) throws SolverException {
         super.prepare(problem);
-        tridiagonal = new TridiagonalMatrixAlgorithm(getGrid());
+
+        var key = factorisationKey(problem);
+        factorisationReused = key != null && tridiagonal != null && Arrays.equals(key, factorisationKey);
+
+        if (factorisationReused) {
+            //the algorithm may have been switched to a different step size
+            if (factorisations != null) {
+                tridiagonal = factorisations[1];
+            }
+        } else {
+            tridiagonal = createTridiagonal(getGrid().getTimeStep());
+            factorisations = null;
+            factorisationKey = key;
+        }
+
+        rate = null;
+        previousRate = null;
+        step = 1;
+        nextStep = 1;
+    }
+
+    /**
+     * Creates the tridiagonal matrix algorithm used by this scheme for the
+     * time step {@code tau}. Its coefficients are set by {@code prepare} or
+     * {@link VariableTimeStep#adjustTimeStep(double, boolean)}.
+     *
+     * @param tau the time step
+     * @return the algorithm
+     */
+    protected TridiagonalMatrixAlgorithm createTridiagonal(double tau) {
+        return new TridiagonalMatrixAlgorithm(getGrid(), tau);
+    }
+
+    /**
+     * Lists the parameters of {@code problem}, other than the grid, which the
+     * {@code alpha} coefficients of this scheme depend on.
+     *
+     * @param problem the problem being prepared
+     * @return {@code null} by default, meaning that the coefficients are
+     * recalculated for each calculation
+     */
+    protected double[] factorisationParameters(Problem problem) {
+        return null;
+    }
+
+    private double[] factorisationKey(Problem problem) {
+        var parameters = factorisationParameters(problem);
+        if (parameters == null) {
+            return null;
+        }
+
+        var grid = getGrid();
+        var key = Arrays.copyOf(parameters, parameters.length + 3);
+        key[parameters.length] = grid.getGridDensityValue();
+        key[parameters.length + 1] = grid.getXStep();
+        key[parameters.length + 2] = grid.getTimeStep();
+        return key;
+    }
+
+    /**
+     * Checks if the last {@code prepare} has kept the tridiagonal matrix
+     * algorithms of the previous calculation, in which case their coefficients
+     * need not be calculated again.
+     *
+     * @return {@code true} if the coefficients are up to date
+     * @see #factorisationParameters(Problem)
+     */
+    protected boolean isFactorisationReused() {
+        return factorisationReused;
+    }
+
+    private boolean isAdaptive() {
+        return stepTolerance > 0 && this instanceof VariableTimeStep;
+    }
+
+    private int temporalOrder() {
+        return ((VariableTimeStep) this).getTemporalOrder();
+    }
+
+    /**
+     * Makes the time steps between {@code m1} and {@code m2} with an
+     * adaptive step size if enabled, or with the grid time step otherwise.
+     * Each attempted step is counted.
+     */
+    @Override
+    protected int timeSegment(final int m1, final int m2) throws SolverException {
+        if (!isAdaptive()) {
+            return super.timeSegment(m1, m2);
+        }
+
+        final double tau = getGrid().getTimeStep();
+        final int pulseSteps = (int) Math.round(getDiscretePulse().getDiscreteWidth() / tau);
+
+        if (factorisations == null || factorisations.length <= m2 - m1) {
+            factorisations = factorisations == null
+                    ? new TridiagonalMatrixAlgorithm[m2 - m1 + 1]
+                    : Arrays.copyOf(factorisations, m2 - m1 + 1);
+            factorisations[1] = factorisations[1] == null ? tridiagonal : factorisations[1];
+        }
+
+        int steps = 0;
+
+        for (int m = m1; m < m2 && normalOperation(); steps++) {
+            //the grid step is used until the pulse is over
+            final int j = m - 1 < pulseSteps ? 1 : Math.min(nextStep, m2 - m);
+            final int end = m + j - 1;
+
+            useStep(j);
+            prepareStep(end);
+            timeStep(end);
+
+            final double error = localError(j * tau);
+
+            if (error > stepTolerance && j > 1) {
+                //reject and repeat with a smaller step
+                nextStep = Math.max(1, (int) (j * growth(error)));
+                continue;
+            }
+
+            updateRate(j * tau);
+            finaliseStep();
+            m += j;
+
+            int proposed = (int) (j * growth(error));
+            //a step shortened to hit a point of the curve should not restrict the next one
+            nextStep = Math.min(m2 - m1, Math.max(1, j < nextStep ? Math.max(proposed, nextStep) : proposed));
+        }
+
+        return steps;
+    }
+
+    /**
+     * Switches the tridiagonal matrix algorithm and the constants of this
+     * scheme to a multiple of the grid time step.
+     *
+     * @param j the multiple
+     */
+    private void useStep(final int j) {
+        if (j != step) {
+            var t = factorisations[j];
+            boolean factorise = t == null;
+            final double tau = j * getGrid().getTimeStep();
+
+            if (factorise) {
+                t = createTridiagonal(tau);
+                factorisations[j] = t;
+            }
+
+            tridiagonal = t;
+            ((VariableTimeStep) this).adjustTimeStep(tau, factorise);
+            step = j;
+        }
+    }
+
+    /**
+     * Estimates the local error of the last step from the difference between
+     * the new solution and an explicit predictor of the same order as the
+     * scheme, which is multiplied by the ratio of the error constants.
+     * <p>
+     * For first-order schemes, the predictor assumes the rate of change during
+     * the previous step and the error is that difference multiplied by
+     * {@code h / (h + previous step)}. For second-order schemes, where the rate
+     * of change during a step approximates the derivative at its middle, the
+     * rates of the two previous steps are extrapolated linearly to the middle
+     * of the last step. If the error of the scheme is <i>K</i><sub>s</sub>
+     * <i>u'''</i> and that of the predictor <i>K</i><sub>p</sub> <i>u'''</i>,
+     * the difference is multiplied by <i>K</i><sub>s</sub> /
+     * (<i>K</i><sub>s</sub> - <i>K</i><sub>p</sub>), which is 1/12 for equal
+     * steps.
+     * </p>
+     *
+     * @param h the size of the last step
+     * @return the estimated error relative to the maximum of the solution, or
+     * zero if there are not enough previous steps
+     */
+    private double localError(final double h) {
+        final boolean secondOrder = temporalOrder() > 1;
+        if (rate == null || (secondOrder && previousRate == null)) {
+            return 0;
+        }
+
+        final double factor;
+        final double w;
+
+        if (secondOrder) {
+            //distances between the middles of the last three steps
+            final double dxa = 0.5 * (h + previousStep);
+            final double dab = 0.5 * (previousStep + stepBeforePrevious);
+            w = 1.0 + dxa / dab;
+            final double schemeError = h * h * h / 12.0;
+            final double predictorError = h * (-0.5 * dxa * (dxa + dab)
+                    + (w * previousStep * previousStep + (1.0 - w) * stepBeforePrevious * stepBeforePrevious) / 8.0)
+                    - h * h * h / 24.0;
+            factor = Math.abs(schemeError / (schemeError - predictorError));
+        } else {
+            w = 1.0;
+            factor = h / (h + previousStep);
+        }
+
+        final var U = getPreviousSolution();
+        final var V = getCurrentSolution();
+        double maxDifference = 0;
+        double maxValue = 0;
+        double predicted;
+
+        for (int i = 0; i < V.length; i++) {
+            predicted = secondOrder ? w * rate[i] + (1.0 - w) * previousRate[i] : rate[i];
+            maxDifference = Math.max(maxDifference, Math.abs(V[i] - U[i] - h * predicted));
+            maxValue = Math.max(maxValue, Math.abs(V[i]));
+        }
+
+        return maxValue > 0 ? maxDifference * factor / maxValue : 0;
+    }
+
+    private void updateRate(final double h) {
+        final var U = getPreviousSolution();
+        final var V = getCurrentSolution();
+
+        if (rate == null) {
+            rate = new double[V.length];
+        } else {
+            //keep the rate of the previous step
+            var swap = previousRate == null ? new double[V.length] : previousRate;
+            previousRate = rate;
+            rate = swap;
+            stepBeforePrevious = previousStep;
+        }
+
+        for (int i = 0; i < V.length; i++) {
+            rate[i] = (V[i] - U[i]) / h;
+        }
+
+        previousStep = h;
+    }
+
+    /**
+     * The factor for the next step size, assuming the error of a scheme of
+     * order <i>p</i> grows as the step to the power of <i>p</i> + 1.
+     */
+    private double growth(final double error) {
+        return error > 0
+                ? Math.min(MAX_GROWTH, Math.max(MIN_GROWTH,
+                        SAFETY_FACTOR * Math.pow(stepTolerance / error, 1.0 / (temporalOrder() + 1))))
+                : MAX_GROWTH;
     }
 
     /**
@@ -98,6 +399,37 @@ public abstract class ImplicitScheme extends OneDimensionalScheme {
 
     public abstract double firstBeta();
 
+    public NumericProperty getStepTolerance() {
+        return derive(STEP_TOLERANCE, stepTolerance);
+    }
+
+    public void setStepTolerance(NumericProperty stepTolerance) {
+        requireType(stepTolerance, STEP_TOLERANCE);
+        this.stepTolerance = (double) stepTolerance.getValue();
+        firePropertyChanged(this, stepTolerance);
+    }
+
+    /**
+     * Lists the {@code STEP_TOLERANCE} if the time step may be variable.
+     */
+    @Override
+    public Set<NumericPropertyKeyword> listedKeywords() {
+        var set = super.listedKeywords();
+        if (this instanceof VariableTimeStep) {
+            set.add(STEP_TOLERANCE);
+        }
+        return set;
+    }
+
+    @Override
+    public void set(NumericPropertyKeyword type, NumericProperty property) {
+        if (type == STEP_TOLERANCE) {
+            setStepTolerance(property);
+        } else {
+            super.set(type, property);
+        }
+    }
+
     /**
      * Prints out the description of this problem type.
      *
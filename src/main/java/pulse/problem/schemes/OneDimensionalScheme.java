@@ -1,5 +1,7 @@
 package pulse.problem.schemes;
 
+import java.util.Arrays;
+
 import pulse.problem.schemes.solvers.SolverException;
 import pulse.properties.NumericProperty;
 
@@ -16,11 +18,20 @@ public abstract class OneDimensionalScheme extends DifferenceScheme {
         super(timeLimit);
     }
 
+    /**
+     * Resets the solution to zero, reusing the arrays if the grid density has
+     * not changed.
+     */
     @Override
     public void clearArrays() {
         final int N = (int) getGrid().getGridDensity().getValue();
-        U = new double[N + 1];
-        V = new double[N + 1];
+        if (U == null || U.length != N + 1) {
+            U = new double[N + 1];
+            V = new double[N + 1];
+        } else {
+            Arrays.fill(U, 0.0);
+            Arrays.fill(V, 0.0);
+        }
     }
 
     @Override
@@ -53,6 +53,7 @@ public class RadiativeTransferCoupling extends PropertyHolder {
     }
 
     private void newRTE(Problem problem, Grid grid) {
+        release(rte);
         rte = instanceDescriptor.newInstance(RadiativeTransferSolver.class, problem, grid);
         rte.setParent(this);
     }
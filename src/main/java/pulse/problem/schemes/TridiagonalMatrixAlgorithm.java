@@ -24,7 +24,18 @@ public class TridiagonalMatrixAlgorithm implements Serializable {
     private final double[] beta;
 
     public TridiagonalMatrixAlgorithm(Grid grid) {
-        tau = grid.getTimeStep();
+        this(grid, grid.getTimeStep());
+    }
+
+    /**
+     * Creates the algorithm for a time step, which may differ from the time
+     * step of {@code grid}.
+     *
+     * @param grid the grid
+     * @param tau the time step
+     */
+    public TridiagonalMatrixAlgorithm(Grid grid, double tau) {
+        this.tau = tau;
         N = grid.getGridDensityValue();
         h = grid.getXStep();
         alpha = new double[N + 2];
@@ -0,0 +1,32 @@
+package pulse.problem.schemes;
+
+/**
+ * An implicit scheme which may change its time step during the calculation.
+ * If the {@code STEP_TOLERANCE} is positive, an {@code ImplicitScheme}
+ * implementing this interface takes adaptive time steps, the error of which is
+ * estimated according to the order of the scheme in time.
+ *
+ * @see ImplicitScheme
+ */
+public interface VariableTimeStep {
+
+    /**
+     * Recalculates the constants which depend on the time step, after the
+     * step has changed to {@code tau}. The tridiagonal matrix algorithm for
+     * that step has already been set.
+     *
+     * @param tau the new time step
+     * @param factorise if {@code true}, the algorithm has just been created
+     * and its coefficients and {@code alpha} need to be calculated
+     */
+    public void adjustTimeStep(double tau, boolean factorise);
+
+    /**
+     * The order of accuracy of the scheme in time, i.e. the local error of a
+     * step of size <i>h</i> is <i>O</i>(<i>h</i><sup>p + 1</sup>).
+     *
+     * @return 1 for the implicit Euler scheme, 2 for the Crank-Nicolson scheme
+     */
+    public int getTemporalOrder();
+
+}
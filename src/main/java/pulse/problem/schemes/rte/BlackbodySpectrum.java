@@ -1,21 +1,17 @@
 package pulse.problem.schemes.rte;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import org.apache.commons.math3.analysis.UnivariateFunction;
-import org.apache.commons.math3.analysis.polynomials.PolynomialSplineFunction;
 import static pulse.math.MathUtils.fastPowLoop;
 import pulse.problem.statements.NonlinearProblem;
 import pulse.problem.statements.Pulse2D;
-import pulse.util.FunctionSerializer;
 
 /**
  * Contains methods for calculating the integral spectral characteristics of a
  * black body with a specific spatial temperature profile. The latter is managed
- * using a {@code UnivariateFunction} previously generated with a
- * {@code SplineInterpolator}.
+ * using a {@code UnivariateFunction}, generally the {@code UniformCubicSpline}
+ * of the {@code RadiativeTransferSolver}. The profile is not serialised, as it
+ * is recalculated before each use.
  *
  */
 public class BlackbodySpectrum implements Serializable {
@@ -78,10 +74,10 @@ public class BlackbodySpectrum implements Serializable {
     }
 
     /**
-     * Sets a new function for the spatial temperature profile. The function is
-     * generally constructed using a {@code SplineInterpolator}
+     * Sets a new function for the spatial temperature profile.
      *
      * @param interpolation
+     * @see RadiativeTransferSolver#interpolateTemperatureProfile(double[])
      */
     public void setInterpolation(UnivariateFunction interpolation) {
         this.interpolation = interpolation;
@@ -95,22 +91,4 @@ public class BlackbodySpectrum implements Serializable {
         return emissivePower(reducedTemperature) / Math.PI;
     }
 
-    /*
-     * Serialization
-     */
-    private void writeObject(ObjectOutputStream oos)
-            throws IOException {
-        // default serialization 
-        oos.defaultWriteObject();
-        // write the object
-        FunctionSerializer.writeSplineFunction((PolynomialSplineFunction) interpolation, oos);
-    }
-
-    private void readObject(ObjectInputStream ois)
-            throws ClassNotFoundException, IOException {
-        // default deserialization
-        ois.defaultReadObject();
-        this.interpolation = FunctionSerializer.readSplineFunction(ois);
-    }
-
 }
\ No newline at end of file
@@ -13,6 +13,9 @@ import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
 import pulse.properties.Property;
 import pulse.util.InstanceDescriptor;
+import pulse.util.jfr.RadiativeTransferEvent;
+import pulse.util.metrics.Counter;
+import pulse.util.metrics.Metrics;
 
 /**
  * A class that manages the solution of the radiative transfer equation using
@@ -24,6 +27,7 @@ import pulse.util.InstanceDescriptor;
 public class DiscreteOrdinatesMethod extends RadiativeTransferSolver {
 
     private static final long serialVersionUID = 2881363894773388976L;
+    private static final Counter computeCalls = Metrics.getInstance().counter(Metrics.RTE_COMPUTE);
     private InstanceDescriptor<AdaptiveIntegrator> integratorDescriptor = new InstanceDescriptor<AdaptiveIntegrator>(
             "Integrator selector", AdaptiveIntegrator.class);
     private InstanceDescriptor<IterativeSolver> iterativeSolverSelector = new InstanceDescriptor<IterativeSolver>(
@@ -72,6 +76,10 @@ public class DiscreteOrdinatesMethod extends RadiativeTransferSolver {
 
     @Override
     public RTECalculationStatus compute(double[] tempArray) {
+        computeCalls.increment();
+        var event = new RadiativeTransferEvent();
+        event.begin();
+
         integrator.getEmissionFunction().setInterpolation(interpolateTemperatureProfile(tempArray));
 
         var status = iterativeSolver.doIterations(integrator);
@@ -81,6 +89,7 @@ public class DiscreteOrdinatesMethod extends RadiativeTransferSolver {
         }
 
         fireStatusUpdate(status);
+        event.finish(this, status);
         return status;
     }
 
@@ -134,6 +143,7 @@ public class DiscreteOrdinatesMethod extends RadiativeTransferSolver {
     }
 
     public final void setIntegrator(AdaptiveIntegrator integrator) {
+        release(this.integrator);
         this.integrator = integrator;
         integrator.setParent(this);
         firePropertyChanged(this, integratorDescriptor);
@@ -148,6 +158,7 @@ public class DiscreteOrdinatesMethod extends RadiativeTransferSolver {
     }
 
     public final void setIterativeSolver(IterativeSolver solver) {
+        release(this.iterativeSolver);
         this.iterativeSolver = solver;
         solver.setParent(this);
         firePropertyChanged(this, iterativeSolverSelector);
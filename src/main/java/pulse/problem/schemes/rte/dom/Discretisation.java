@@ -265,6 +265,7 @@ public class Discretisation extends PropertyHolder {
     }
 
     public final void setGrid(StretchedGrid grid) {
+        release(this.grid);
         this.grid = grid;
         this.grid.setParent(this);
     }
@@ -3,10 +3,13 @@ package pulse.problem.schemes.rte.dom;
 import static java.lang.Math.abs;
 
 import pulse.problem.schemes.rte.RTECalculationStatus;
+import pulse.util.metrics.Histogram;
+import pulse.util.metrics.Metrics;
 
 public class FixedIterations extends IterativeSolver {
 
     private static final long serialVersionUID = -7308041206602757928L;
+    private static final Histogram sourceIterations = Metrics.getInstance().histogram(Metrics.DOM_ITERATIONS);
 
     @Override
     public RTECalculationStatus doIterations(AdaptiveIntegrator integrator) {
@@ -41,6 +44,7 @@ public class FixedIterations extends IterativeSolver {
             qr = qrd;
         }
 
+        sourceIterations.record(iterations);
         return status;
 
     }
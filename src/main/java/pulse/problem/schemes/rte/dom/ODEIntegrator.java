@@ -126,6 +126,7 @@ public abstract class ODEIntegrator extends PropertyHolder implements Reflexive
     }
 
     public final void setDiscretisation(Discretisation discretisation) {
+        release(this.discretisation);
         this.discretisation = discretisation;
         discretisation.setParent(this);
     }
@@ -10,10 +10,13 @@ import java.util.Set;
 import pulse.problem.schemes.rte.RTECalculationStatus;
 import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
+import pulse.util.metrics.Histogram;
+import pulse.util.metrics.Metrics;
 
 public class SuccessiveOverrelaxation extends IterativeSolver {
 
     private static final long serialVersionUID = 1135563981945852881L;
+    private static final Histogram sourceIterations = Metrics.getInstance().histogram(Metrics.DOM_ITERATIONS);
     private double W;
 
     public SuccessiveOverrelaxation() {
@@ -81,6 +84,7 @@ public class SuccessiveOverrelaxation extends IterativeSolver {
 
         }
 
+        sourceIterations.record(iterations);
         return status;
 
     }
@@ -14,12 +14,16 @@ import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
 import pulse.properties.Property;
 import pulse.util.InstanceDescriptor;
+import pulse.util.jfr.RadiativeTransferEvent;
+import pulse.util.metrics.Counter;
+import pulse.util.metrics.Metrics;
 
 public abstract class NonscatteringRadiativeTransfer extends RadiativeTransferSolver {
 
     private static final long serialVersionUID = 4934841542530728191L;
 
     private static final FunctionWithInterpolation ei3 = ExponentialIntegrals.get(3);
+    private static final Counter computeCalls = Metrics.getInstance().counter(Metrics.RTE_COMPUTE);
 
     private double emissivity;
 
@@ -57,8 +61,14 @@ public abstract class NonscatteringRadiativeTransfer extends RadiativeTransferSo
      */
     @Override
     public RTECalculationStatus compute(double[] array) {
+        computeCalls.increment();
+        var event = new RadiativeTransferEvent();
+        event.begin();
+
         emissionFunction.setInterpolation(interpolateTemperatureProfile(array));
         radiosities();
+
+        event.finish(this, RTECalculationStatus.NORMAL);
         return RTECalculationStatus.NORMAL;
     }
 
@@ -131,6 +141,7 @@ public abstract class NonscatteringRadiativeTransfer extends RadiativeTransferSo
      * product
      */
     public void setQuadrature(CompositionProduct specialIntegrator) {
+        release(this.quadrature);
         this.quadrature = specialIntegrator;
         quadrature.setParent(this);
         quadrature.setEmissionFunction(emissionFunction);
@@ -126,6 +126,7 @@ public abstract class ExplicitCoupledSolver extends ExplicitScheme
     }
 
     public final void setCoupling(RadiativeTransferCoupling coupling) {
+        release(this.coupling);
         this.coupling = coupling;
         this.coupling.setParent(this);
     }
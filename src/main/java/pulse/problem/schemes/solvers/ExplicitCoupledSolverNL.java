@@ -15,12 +15,16 @@
  */
 package pulse.problem.schemes.solvers;
 
+import java.util.Set;
+
+import pulse.problem.schemes.AndersonMixing;
 import pulse.problem.schemes.DifferenceScheme;
 import pulse.problem.schemes.FixedPointIterations;
 import static pulse.properties.NumericProperties.def;
 import static pulse.properties.NumericProperties.derive;
 import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
+import static pulse.properties.NumericPropertyKeyword.ANDERSON_DEPTH;
 import static pulse.properties.NumericPropertyKeyword.NONLINEAR_PRECISION;
 import pulse.ui.Messages;
 
@@ -33,6 +37,7 @@ public class ExplicitCoupledSolverNL extends ExplicitCoupledSolver
 
     private static final long serialVersionUID = 4214528397984492532L;
     private double nonlinearPrecision;
+    private AndersonMixing mixing;
 
     public ExplicitCoupledSolverNL() {
         super();
@@ -65,7 +70,9 @@ public class ExplicitCoupledSolverNL extends ExplicitCoupledSolver
     @Override
     public DifferenceScheme copy() {
         var grid = getGrid();
-        return new ExplicitCoupledSolverNL(grid.getGridDensity(), grid.getTimeFactor());
+        var copy = new ExplicitCoupledSolverNL(grid.getGridDensity(), grid.getTimeFactor());
+        copy.setAndersonDepth(getAndersonDepth());
+        return copy;
     }
 
     public final NumericProperty getNonlinearPrecision() {
@@ -76,10 +83,32 @@ public class ExplicitCoupledSolverNL extends ExplicitCoupledSolver
         this.nonlinearPrecision = (double) nonlinearPrecision.getValue();
     }
 
+    @Override
+    public AndersonMixing getMixing() {
+        return mixing;
+    }
+
+    public final NumericProperty getAndersonDepth() {
+        return AndersonMixing.depthOf(mixing);
+    }
+
+    public final void setAndersonDepth(NumericProperty depth) {
+        mixing = AndersonMixing.forDepth(depth);
+    }
+
+    @Override
+    public Set<NumericPropertyKeyword> listedKeywords() {
+        var set = super.listedKeywords();
+        set.add(ANDERSON_DEPTH);
+        return set;
+    }
+
     @Override
     public void set(NumericPropertyKeyword type, NumericProperty property) {
         if (type == NONLINEAR_PRECISION) {
             setNonlinearPrecision(property);
+        } else if (type == ANDERSON_DEPTH) {
+            setAndersonDepth(property);
         } else {
             super.set(type, property);
         }
@@ -3,10 +3,12 @@ package pulse.problem.schemes.solvers;
 import static pulse.math.MathUtils.fastPowLoop;
 import static pulse.properties.NumericProperties.def;
 import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.ANDERSON_DEPTH;
 import static pulse.properties.NumericPropertyKeyword.NONLINEAR_PRECISION;
 
 import java.util.List;
 
+import pulse.problem.schemes.AndersonMixing;
 import pulse.problem.schemes.DifferenceScheme;
 import pulse.problem.schemes.ExplicitScheme;
 import pulse.problem.schemes.FixedPointIterations;
@@ -31,6 +33,7 @@ public class ExplicitNonlinearSolver extends ExplicitScheme implements Solver<No
     private double fN1;
 
     private double nonlinearPrecision;
+    private AndersonMixing mixing;
 
     public ExplicitNonlinearSolver() {
         super();
@@ -103,7 +106,9 @@ public class ExplicitNonlinearSolver extends ExplicitScheme implements Solver<No
     @Override
     public DifferenceScheme copy() {
         var grid = getGrid();
-        return new ExplicitNonlinearSolver(grid.getGridDensity(), grid.getTimeFactor(), getTimeLimit());
+        var copy = new ExplicitNonlinearSolver(grid.getGridDensity(), grid.getTimeFactor(), getTimeLimit());
+        copy.setAndersonDepth(getAndersonDepth());
+        return copy;
     }
 
     @Override
@@ -119,10 +124,24 @@ public class ExplicitNonlinearSolver extends ExplicitScheme implements Solver<No
         this.nonlinearPrecision = (double) nonlinearPrecision.getValue();
     }
 
+    @Override
+    public AndersonMixing getMixing() {
+        return mixing;
+    }
+
+    public NumericProperty getAndersonDepth() {
+        return AndersonMixing.depthOf(mixing);
+    }
+
+    public void setAndersonDepth(NumericProperty depth) {
+        mixing = AndersonMixing.forDepth(depth);
+    }
+
     @Override
     public List<Property> listedTypes() {
         List<Property> list = super.listedTypes();
         list.add(def(NONLINEAR_PRECISION));
+        list.add(def(ANDERSON_DEPTH));
         return list;
     }
 
@@ -132,6 +151,8 @@ public class ExplicitNonlinearSolver extends ExplicitScheme implements Solver<No
 
         if (type == NONLINEAR_PRECISION) {
             setNonlinearPrecision(property);
+        } else if (type == ANDERSON_DEPTH) {
+            setAndersonDepth(property);
         } else {
             throw new IllegalArgumentException("Property not recognised: " + property);
         }
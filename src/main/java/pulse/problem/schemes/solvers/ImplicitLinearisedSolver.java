@@ -4,6 +4,7 @@ import static java.lang.Math.pow;
 
 import pulse.problem.schemes.DifferenceScheme;
 import pulse.problem.schemes.ImplicitScheme;
+import pulse.problem.schemes.VariableTimeStep;
 import pulse.problem.statements.ClassicalProblem;
 import pulse.problem.statements.Problem;
 import pulse.properties.NumericProperty;
@@ -46,7 +47,7 @@ import pulse.properties.NumericProperty;
  * @see super.solve(Problem)
  */
 public class ImplicitLinearisedSolver<T extends ClassicalProblem> extends ImplicitScheme
-        implements Solver<T> {
+        implements Solver<T>, VariableTimeStep {
 
     private static final long serialVersionUID = -5182202341972279175L;
 
@@ -58,6 +59,7 @@ public class ImplicitLinearisedSolver<T extends ClassicalProblem> extends Implic
     protected double _2HTAU;
 
     private double zeta;
+    private double Bi1;
 
     public ImplicitLinearisedSolver() {
         super();
@@ -79,28 +81,51 @@ public class ImplicitLinearisedSolver<T extends ClassicalProblem> extends Implic
 
         N = (int) grid.getGridDensity().getValue();
         final double hx = grid.getXStep();
-        tau = grid.getTimeStep();
 
         zeta = (double) ((ClassicalProblem) problem).getGeometricFactor().getValue();
 
-        final double Bi1 = (double) problem.getProperties().getHeatLoss().getValue();
+        Bi1 = (double) problem.getProperties().getHeatLoss().getValue();
 
-        Bi1HTAU = Bi1 * hx * tau;
+        HH = hx * hx;
+
+        adjustTimeStep(grid.getTimeStep(), !isFactorisationReused());
+    }
+
+    /**
+     * The {@code alpha} coefficients only depend on the grid and the Biot
+     * number.
+     */
+    @Override
+    protected double[] factorisationParameters(Problem problem) {
+        return new double[]{(double) problem.getProperties().getHeatLoss().getValue()};
+    }
+
+    @Override
+    public int getTemporalOrder() {
+        return 1;
+    }
+
+    @Override
+    public void adjustTimeStep(double tau, boolean factorise) {
+        final double hx = getGrid().getXStep();
+        this.tau = tau;
 
         // precalculated constants
-        HH = hx * hx;
+        Bi1HTAU = Bi1 * hx * tau;
         _2HTAU = 2. * hx * tau;
 
-        final double alpha0 = 2. * tau / (2. * Bi1HTAU + 2. * tau + hx * hx);
-        final var tridiagonal = getTridiagonalMatrixAlgorithm();
-        tridiagonal.setAlpha(1, alpha0);
+        if (factorise) {
+            final double alpha0 = 2. * tau / (2. * Bi1HTAU + 2. * tau + hx * hx);
+            final var tridiagonal = getTridiagonalMatrixAlgorithm();
+            tridiagonal.setAlpha(1, alpha0);
 
-        // coefficients for difference equation
-        tridiagonal.setCoefA(1. / pow(hx, 2));
-        tridiagonal.setCoefB(1. / tau + 2. / pow(hx, 2));
-        tridiagonal.setCoefC(1. / pow(hx, 2));
+            // coefficients for difference equation
+            tridiagonal.setCoefA(1. / pow(hx, 2));
+            tridiagonal.setCoefB(1. / tau + 2. / pow(hx, 2));
+            tridiagonal.setCoefC(1. / pow(hx, 2));
 
-        tridiagonal.evaluateAlpha();
+            tridiagonal.evaluateAlpha();
+        }
     }
 
     @Override
@@ -124,7 +149,9 @@ public class ImplicitLinearisedSolver<T extends ClassicalProblem> extends Implic
     @Override
     public DifferenceScheme copy() {
         var grid = getGrid();
-        return new ImplicitLinearisedSolver(grid.getGridDensity(), grid.getTimeFactor(), getTimeLimit());
+        var copy = new ImplicitLinearisedSolver(grid.getGridDensity(), grid.getTimeFactor(), getTimeLimit());
+        copy.setStepTolerance(getStepTolerance());
+        return copy;
     }
 
     @Override
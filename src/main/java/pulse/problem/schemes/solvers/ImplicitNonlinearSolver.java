@@ -15,6 +15,12 @@ import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
 import static pulse.properties.NumericPropertyKeyword.NONLINEAR_PRECISION;
 
+/**
+ * Solves the {@code NonlinearProblem} with a fully implicit scheme. The
+ * radiative terms of the boundary conditions are linearised around the last
+ * iteration, so that each iteration is a Newton step with the tridiagonal
+ * Jacobian of the scheme, which usually converges in two iterations.
+ */
 public class ImplicitNonlinearSolver extends ImplicitScheme implements Solver<NonlinearProblem>, FixedPointIterations {
 
     private static final long serialVersionUID = -6263519219698662707L;
@@ -24,9 +30,9 @@ public class ImplicitNonlinearSolver extends ImplicitScheme implements Solver<No
 
     private double dT_T;
 
+    private double a1;
     private double b1;
     private double c1;
-    private double c2;
     private double b2;
     private double b3;
 
@@ -68,7 +74,7 @@ public class ImplicitNonlinearSolver extends ImplicitScheme implements Solver<No
         dT_T = dT / T;
 
         // constant for bc calc
-        final double a1 = 2. * tau / (HH + 2. * tau);
+        a1 = 2. * tau / (HH + 2. * tau);
         b1 = HH / (2. * tau + HH);
         b2 = a1 * hx;
         b3 = Bi1 * T / (4.0 * dT);
@@ -79,10 +85,6 @@ public class ImplicitNonlinearSolver extends ImplicitScheme implements Solver<No
         tridiagonal.setCoefA(1.0 / HH);
         tridiagonal.setCoefB(1.0 / tau + 2.0 / HH);
         tridiagonal.setCoefC(1.0 / HH);
-
-        tridiagonal.setAlpha(1, a1);
-        tridiagonal.evaluateAlpha();
-        c2 = 1. / (HH + 2. * tau - 2 * tridiagonal.getAlpha()[N] * tau);
     }
 
     @Override
@@ -138,16 +140,51 @@ public class ImplicitNonlinearSolver extends ImplicitScheme implements Solver<No
         super.timeStep(m);
     }
 
+    /**
+     * Sets {@code alpha}, which depends on the linearised radiative term at
+     * the front face, before calculating {@code beta}.
+     */
+    @Override
+    public void leftBoundary(int m) {
+        var tridiagonal = getTridiagonalMatrixAlgorithm();
+        tridiagonal.setAlpha(1, a1 / (1.0 + b2 * b3 * radiationDerivative(getCurrentSolution()[0])));
+        tridiagonal.evaluateAlpha();
+        super.leftBoundary(m);
+    }
+
+    /**
+     * Solves the rear boundary condition with the radiative term linearised
+     * around the last iteration.
+     */
     @Override
     public double evalRightBoundary(double alphaN, double betaN) {
-        return c2 * (2. * betaN * tau + HH * getPreviousSolution()[N]
-                + c1 * (fastPowLoop(getCurrentSolution()[N] * dT_T + 1, 4) - 1));
+        final double V = getCurrentSolution()[N];
+        final double derivative = radiationDerivative(V);
+        return (2. * betaN * tau + HH * getPreviousSolution()[N]
+                + c1 * (fastPowLoop(V * dT_T + 1, 4) - 1 - derivative * V))
+                / (HH + 2. * tau - 2. * alphaN * tau - c1 * derivative);
     }
 
+    /**
+     * Solves the front boundary condition with the radiative term linearised
+     * around the last iteration. The implicit part of the term is included in
+     * {@code alpha}.
+     */
     @Override
     public double firstBeta() {
-        return b1 * getPreviousSolution()[0] + b2 * (getCurrentPulseValue()
-                - b3 * (fastPowLoop(getCurrentSolution()[0] * dT_T + 1, 4) - 1));
+        final double V = getCurrentSolution()[0];
+        final double derivative = radiationDerivative(V);
+        return (b1 * getPreviousSolution()[0] + b2 * (getCurrentPulseValue()
+                - b3 * (fastPowLoop(V * dT_T + 1, 4) - 1 - derivative * V)))
+                / (1.0 + b2 * b3 * derivative);
+    }
+
+    /**
+     * The derivative of (&theta;&Delta;T/T + 1)<sup>4</sup> with respect to
+     * the dimensionless temperature &theta;.
+     */
+    private double radiationDerivative(final double theta) {
+        return 4.0 * dT_T * fastPowLoop(theta * dT_T + 1, 3);
     }
 
 }
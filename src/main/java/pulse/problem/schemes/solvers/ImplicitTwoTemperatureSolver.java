@@ -1,30 +1,42 @@
 package pulse.problem.schemes.solvers;
 
-import java.util.Set;
 import static pulse.problem.schemes.DistributedDetection.evaluateSignal;
 import static pulse.problem.statements.model.SpectralRange.LASER;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.GRID_DENSITY;
+import static pulse.properties.NumericPropertyKeyword.TAU_FACTOR;
 import static pulse.ui.Messages.getString;
 
+import pulse.problem.schemes.BlockTridiagonalAlgorithm;
 import pulse.problem.schemes.DifferenceScheme;
-import pulse.problem.schemes.FixedPointIterations;
-import pulse.problem.schemes.ImplicitScheme;
-import pulse.problem.schemes.TridiagonalMatrixAlgorithm;
+import pulse.problem.schemes.Grid;
+import pulse.problem.schemes.OneDimensionalScheme;
 import pulse.problem.statements.Problem;
 import pulse.problem.statements.TwoTemperatureModel;
 import pulse.problem.statements.model.AbsorptionModel;
 import pulse.problem.statements.model.TwoTemperatureProperties;
-import static pulse.properties.NumericProperties.def;
-import static pulse.properties.NumericProperties.derive;
 import pulse.properties.NumericProperty;
-import pulse.properties.NumericPropertyKeyword;
-import static pulse.properties.NumericPropertyKeyword.NONLINEAR_PRECISION;
 
-public class ImplicitTwoTemperatureSolver extends ImplicitScheme
-        implements Solver<TwoTemperatureModel>, FixedPointIterations {
+/**
+ * A fully implicit scheme for the two-temperature model, where the solid and
+ * the gas exchange heat at each grid point. Both temperatures are found at
+ * once from a block-tridiagonal system with 2x2 blocks, so that each time
+ * step takes a single sweep of the {@code BlockTridiagonalAlgorithm} and needs
+ * no iterations between the two phases. The matrix does not change during the
+ * calculation and is factorised in {@code prepare}.
+ * <p>
+ * Since the boundary conditions are part of the block system, this scheme
+ * does not extend the scalar sweep of {@code ImplicitScheme}.
+ * </p>
+ *
+ * @see BlockTridiagonalAlgorithm
+ */
+public class ImplicitTwoTemperatureSolver extends OneDimensionalScheme
+        implements Solver<TwoTemperatureModel> {
 
     private static final long serialVersionUID = 7955478815933535623L;
     private AbsorptionModel absorption;
-    private TridiagonalMatrixAlgorithm gasSolver;
+    private BlockTridiagonalAlgorithm block;
 
     private int N;
     private double hBi;
@@ -34,79 +46,49 @@ public class ImplicitTwoTemperatureSolver extends ImplicitScheme
     private double _05HH_TAU;
 
     private double[] gasTemp;
+    private double[] absorbed;
 
     private double diffRatio;
     private double g;
     private double gPrime;
 
-    private double nonlinearPrecision;
-
     public ImplicitTwoTemperatureSolver() {
         super();
-        nonlinearPrecision = (double) def(NONLINEAR_PRECISION).getValue();
+        setGrid(new Grid(derive(GRID_DENSITY, 30), derive(TAU_FACTOR, 0.25)));
     }
 
     public ImplicitTwoTemperatureSolver(NumericProperty N, NumericProperty timeFactor, NumericProperty timeLimit) {
-        super(N, timeFactor, timeLimit);
-        nonlinearPrecision = (double) def(NONLINEAR_PRECISION).getValue();
-    }
-
-    private void initSolidPart() {
-        var grid = getGrid();
-        final double hx = grid.getXStep();
-
-        var solid = new TridiagonalMatrixAlgorithm(grid) {
-
-            @Override
-            public double phi(final int i) {
-                return getCurrentPulseValue() * absorption.absorption(LASER, i * hx)
-                        + g * gasTemp[i];
-            }
-
-        };
-
-        solid.setCoefA(1.0 / HH);
-        solid.setCoefB(1.0 / tau + 2.0 / HH + g);
-        solid.setCoefC(1.0 / HH);
-
-        solid.setAlpha(1, 1.0 / (1.0 + hBi + _05HH_TAU + 0.5 * HH * g));
-        solid.evaluateAlpha();
-        setTridiagonalMatrixAlgorithm(solid);
+        super(timeLimit);
+        setGrid(new Grid(N, timeFactor));
     }
 
-    private void initGasPart() {
-        var grid = getGrid();
-
-        gasTemp = new double[N + 1];
-        var solidTemp = this.getCurrentSolution();
-
-        gasSolver = new TridiagonalMatrixAlgorithm(grid) {
-
-            @Override
-            public double phi(final int i) {
-                return gPrime * solidTemp[i];
-            }
+    /**
+     * Sets the coefficients of the heat equations for the solid (first) and
+     * the gas (second), multiplied by {@code -1} to make the diagonal
+     * positive. The boundary equations are those of the separate problems
+     * with the three-term Taylor expansion, where the exchange terms are
+     * moved to the left-hand side.
+     */
+    private void initBlock() {
+        block = new BlockTridiagonalAlgorithm(getGrid());
 
-            @Override
-            public void evaluateAlpha() {
-                setAlpha(1, 1.0 / (1.0 + hBiPrime + diffRatio * (_05HH_TAU + 0.5 * HH * gPrime)));
-                super.evaluateAlpha();
-            }
+        final double a = 1.0 / HH;
+        final double aPrime = a / diffRatio;
 
-            @Override
-            public void evaluateBeta(final double[] U, final int start, final int endExclusive) {
-                setBeta(1, diffRatio * (0.5 * HH * phi(0) + _05HH_TAU * U[0]) * getAlpha()[1]);
-                super.evaluateBeta(U, start, endExclusive);
-            }
+        block.setCoefficients(0, 0.0, 1.0 + hBi + _05HH_TAU + 0.5 * HH * g, -0.5 * HH * g, -1.0,
+                0.0, -diffRatio * 0.5 * HH * gPrime,
+                1.0 + hBiPrime + diffRatio * (_05HH_TAU + 0.5 * HH * gPrime), -1.0);
 
-        };
+        for (int i = 1; i < N; i++) {
+            block.setCoefficients(i, -a, 1.0 / tau + 2.0 * a + g, -g, -a,
+                    -aPrime, -gPrime, 1.0 / tau + gPrime + 2.0 * aPrime, -aPrime);
+        }
 
-        double invDiffRatio = 1.0 / diffRatio;
-        gasSolver.setCoefA(invDiffRatio / HH);
-        gasSolver.setCoefB(1.0 / tau + gPrime + 2.0 / HH * invDiffRatio);
-        gasSolver.setCoefC(invDiffRatio / HH);
+        block.setCoefficients(N, -1.0, 1.0 + _05HH_TAU + 0.5 * HH * g + hBi, -0.5 * HH * g, 0.0,
+                -1.0, -diffRatio * 0.5 * HH * gPrime,
+                1.0 + diffRatio * (_05HH_TAU + 0.5 * HH * gPrime) + hBiPrime, 0.0);
 
-        gasSolver.evaluateAlpha();
+        block.factorise();
     }
 
     @Override
@@ -134,8 +116,13 @@ public class ImplicitTwoTemperatureSolver extends ImplicitScheme
         diffRatio = model.diffusivityRatio();
         gPrime = (double) ttp.getGasExchangeCoefficient().getValue();
 
-        initGasPart();
-        initSolidPart();
+        gasTemp = new double[N + 1];
+        absorbed = new double[N + 1];
+        for (int i = 0; i <= N; i++) {
+            absorbed[i] = absorption.absorption(LASER, i * hx);
+        }
+
+        initBlock();
     }
 
     @Override
@@ -144,40 +131,34 @@ public class ImplicitTwoTemperatureSolver extends ImplicitScheme
         runTimeSequence(problem);
     }
 
+    /**
+     * Calculates the temperatures of the solid and the gas at the time step
+     * {@code m} with a single sweep of the block algorithm.
+     *
+     * @param m the time step
+     */
     @Override
     public void timeStep(final int m) throws SolverException {
-        doIterations(gasTemp, nonlinearPrecision, m);
-    }
+        final var U = getPreviousSolution();
+        final double pls = getCurrentPulseValue();
+        final double _05HH = 0.5 * HH;
 
-    @Override
-    public void iteration(int m) throws SolverException {
-        //first solve for the solid
-        super.timeStep(m);
-        //then for the gas
-        gasSolver.evaluateBeta(gasTemp);
-        gasTemp[N] = (diffRatio * (0.5 * HH * gasSolver.phi(N) + _05HH_TAU * gasTemp[N])
-                + gasSolver.getBeta()[N]) / (1.0 + diffRatio * (_05HH_TAU + 0.5 * HH * gPrime)
-                + hBiPrime - gasSolver.getAlpha()[N]);
-        gasSolver.sweep(gasTemp);
-    }
+        block.setRightHandSide(0, _05HH_TAU * U[0] + _05HH * pls * absorbed[0],
+                diffRatio * _05HH_TAU * gasTemp[0]);
 
-    @Override
-    public double signal() {
-        return evaluateSignal(absorption, getGrid(), getCurrentSolution());
-    }
+        for (int i = 1; i < N; i++) {
+            block.setRightHandSide(i, U[i] / tau + pls * absorbed[i], gasTemp[i] / tau);
+        }
 
-    @Override
-    public double evalRightBoundary(final double alphaN, final double betaN) {
-        var tridiagonal = this.getTridiagonalMatrixAlgorithm();
-        return (_05HH_TAU * getPreviousSolution()[N] + 0.5 * HH * tridiagonal.phi(N) + betaN)
-                / (1.0 + _05HH_TAU + 0.5 * HH * g + hBi - alphaN);
+        block.setRightHandSide(N, _05HH_TAU * U[N] + _05HH * pls * absorbed[N],
+                diffRatio * _05HH_TAU * gasTemp[N]);
+
+        block.solve(getCurrentSolution(), gasTemp);
     }
 
     @Override
-    public double firstBeta() {
-        var tridiagonal = this.getTridiagonalMatrixAlgorithm();
-        return (_05HH_TAU * getPreviousSolution()[0] + 0.5 * HH * tridiagonal.phi(0))
-                * tridiagonal.getAlpha()[1];
+    public double signal() {
+        return evaluateSignal(absorption, getGrid(), getCurrentSolution());
     }
 
     @Override
@@ -202,26 +183,4 @@ public class ImplicitTwoTemperatureSolver extends ImplicitScheme
         return new Class[]{TwoTemperatureModel.class};
     }
 
-    public NumericProperty getNonlinearPrecision() {
-        return derive(NONLINEAR_PRECISION, nonlinearPrecision);
-    }
-
-    public void setNonlinearPrecision(NumericProperty nonlinearPrecision) {
-        this.nonlinearPrecision = (double) nonlinearPrecision.getValue();
-    }
-
-    @Override
-    public Set<NumericPropertyKeyword> listedKeywords() {
-        var set = super.listedKeywords();
-        set.add(NONLINEAR_PRECISION);
-        return set;
-    }
-
-    @Override
-    public void set(NumericPropertyKeyword type, NumericProperty property) {
-        if (type == NONLINEAR_PRECISION) {
-            setNonlinearPrecision(property);
-        }
-    }
-
 }
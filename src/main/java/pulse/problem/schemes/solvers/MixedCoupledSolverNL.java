@@ -15,12 +15,16 @@
  */
 package pulse.problem.schemes.solvers;
 
+import java.util.Set;
+
+import pulse.problem.schemes.AndersonMixing;
 import pulse.problem.schemes.DifferenceScheme;
 import pulse.problem.schemes.FixedPointIterations;
 import static pulse.properties.NumericProperties.def;
 import static pulse.properties.NumericProperties.derive;
 import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
+import static pulse.properties.NumericPropertyKeyword.ANDERSON_DEPTH;
 import static pulse.properties.NumericPropertyKeyword.NONLINEAR_PRECISION;
 import pulse.ui.Messages;
 
@@ -32,6 +36,7 @@ public class MixedCoupledSolverNL extends MixedCoupledSolver implements FixedPoi
 
     private static final long serialVersionUID = -8344384560376683594L;
     private double nonlinearPrecision;
+    private AndersonMixing mixing;
 
     public MixedCoupledSolverNL() {
         super();
@@ -70,10 +75,32 @@ public class MixedCoupledSolverNL extends MixedCoupledSolver implements FixedPoi
         this.nonlinearPrecision = (double) nonlinearPrecision.getValue();
     }
 
+    @Override
+    public AndersonMixing getMixing() {
+        return mixing;
+    }
+
+    public final NumericProperty getAndersonDepth() {
+        return AndersonMixing.depthOf(mixing);
+    }
+
+    public final void setAndersonDepth(NumericProperty depth) {
+        mixing = AndersonMixing.forDepth(depth);
+    }
+
+    @Override
+    public Set<NumericPropertyKeyword> listedKeywords() {
+        var set = super.listedKeywords();
+        set.add(ANDERSON_DEPTH);
+        return set;
+    }
+
     @Override
     public void set(NumericPropertyKeyword type, NumericProperty property) {
         if (type == NONLINEAR_PRECISION) {
             setNonlinearPrecision(property);
+        } else if (type == ANDERSON_DEPTH) {
+            setAndersonDepth(property);
         } else {
             super.set(type, property);
         }
@@ -82,7 +109,9 @@ public class MixedCoupledSolverNL extends MixedCoupledSolver implements FixedPoi
     @Override
     public DifferenceScheme copy() {
         var grid = getGrid();
-        return new MixedCoupledSolverNL(grid.getGridDensity(), grid.getTimeFactor(), getTimeLimit());
+        var copy = new MixedCoupledSolverNL(grid.getGridDensity(), grid.getTimeFactor(), getTimeLimit());
+        copy.setAndersonDepth(getAndersonDepth());
+        return copy;
     }
 
     @Override
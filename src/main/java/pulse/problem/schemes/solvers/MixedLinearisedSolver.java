@@ -5,6 +5,7 @@ import static java.lang.Math.pow;
 import pulse.problem.schemes.DifferenceScheme;
 import pulse.problem.schemes.MixedScheme;
 import pulse.problem.schemes.TridiagonalMatrixAlgorithm;
+import pulse.problem.schemes.VariableTimeStep;
 import pulse.problem.statements.ClassicalProblem;
 import pulse.problem.statements.Problem;
 import pulse.properties.NumericProperty;
@@ -48,7 +49,7 @@ import pulse.properties.NumericProperty;
  *
  * @see super.solve(Problem)
  */
-public class MixedLinearisedSolver extends MixedScheme implements Solver<ClassicalProblem> {
+public class MixedLinearisedSolver extends MixedScheme implements Solver<ClassicalProblem>, VariableTimeStep {
 
     private static final long serialVersionUID = 2233988060956648641L;
     private double b1;
@@ -58,6 +59,9 @@ public class MixedLinearisedSolver extends MixedScheme implements Solver<Classic
     private double c2;
 
     private double zeta;
+    private double Bi1;
+    private double HH;
+    private double tau;
 
     private final static double EPS = 1e-7; // a small value ensuring numeric stability
 
@@ -80,54 +84,75 @@ public class MixedLinearisedSolver extends MixedScheme implements Solver<Classic
         var grid = getGrid();
 
         final double hx = grid.getXStep();
-        final double tau = grid.getTimeStep();
 
-        final double Bi1 = (double) problem.getProperties().getHeatLoss().getValue();
+        Bi1 = (double) problem.getProperties().getHeatLoss().getValue();
 
         // precalculated constants
-        final double HH = pow(hx, 2);
-        final double Bi1HTAU = Bi1 * hx * tau;
-
-        // constant for boundary-conditions calculation
-        b1 = 1. / (Bi1HTAU + HH + tau);
-        b2 = -hx * (Bi1 * tau - hx);
-        b3 = hx * tau;
-        c1 = b2;
-        c2 = Bi1HTAU + HH;
+        HH = pow(hx, 2);
 
         zeta = (double) ((ClassicalProblem) problem).getGeometricFactor().getValue();
 
-        var tridiagonal = new TridiagonalMatrixAlgorithm(grid) {
+        adjustTimeStep(grid.getTimeStep(), !isFactorisationReused());
+    }
+
+    /**
+     * The {@code alpha} coefficients only depend on the grid and the Biot
+     * number.
+     */
+    @Override
+    protected double[] factorisationParameters(Problem problem) {
+        return new double[]{(double) problem.getProperties().getHeatLoss().getValue()};
+    }
+
+    @Override
+    protected TridiagonalMatrixAlgorithm createTridiagonal(double tau) {
+        return new TridiagonalMatrixAlgorithm(getGrid(), tau) {
 
             @Override
             public double phi(int i) {
                 final var U = getPreviousSolution();
-                return U[i] / tau + (U[i + 1] - 2. * U[i] + U[i - 1]) / HH;
+                return U[i] / getTimeStep() + (U[i + 1] - 2. * U[i] + U[i - 1]) / HH;
             }
 
         };
+    }
 
-        setTridiagonalMatrixAlgorithm(tridiagonal);
+    @Override
+    public int getTemporalOrder() {
+        return 2;
+    }
 
-        final double a1 = tau / (Bi1HTAU + HH + tau);
-        tridiagonal.setAlpha(1, a1);
+    @Override
+    public void adjustTimeStep(double tau, boolean factorise) {
+        final double hx = getGrid().getXStep();
+        final double Bi1HTAU = Bi1 * hx * tau;
+        this.tau = tau;
+
+        // constant for boundary-conditions calculation
+        b1 = 1. / (Bi1HTAU + HH + tau);
+        b2 = -hx * (Bi1 * tau - hx);
+        b3 = hx * tau;
+        c1 = b2;
+        c2 = Bi1HTAU + HH;
 
-        // coefficients for the finite-difference heat equation
-        tridiagonal.setCoefA(1. / pow(hx, 2));
-        tridiagonal.setCoefB(2. / tau + 2. / pow(hx, 2));
-        tridiagonal.setCoefC(1. / pow(hx, 2));
+        if (factorise) {
+            final var tridiagonal = getTridiagonalMatrixAlgorithm();
+            final double a1 = tau / (Bi1HTAU + HH + tau);
+            tridiagonal.setAlpha(1, a1);
 
-        tridiagonal.evaluateAlpha();
+            // coefficients for the finite-difference heat equation
+            tridiagonal.setCoefA(1. / pow(hx, 2));
+            tridiagonal.setCoefB(2. / tau + 2. / pow(hx, 2));
+            tridiagonal.setCoefC(1. / pow(hx, 2));
 
+            tridiagonal.evaluateAlpha();
+        }
     }
 
     @Override
     public double evalRightBoundary(final double alphaN, final double betaN) {
         final var U = getPreviousSolution();
-
-        final var grid = getGrid();
-        final double tau = grid.getTimeStep();
-        final int N = (int) grid.getGridDensity().getValue();
+        final int N = (int) getGrid().getGridDensity().getValue();
 
         return (c1 * U[N] + tau * betaN + b3 * (1.0 - zeta) * getCurrentPulseValue()
                 - tau * (U[N] - U[N - 1])) / (c2 - tau * (alphaN - 1));
@@ -142,7 +167,6 @@ public class MixedLinearisedSolver extends MixedScheme implements Solver<Classic
 
     @Override
     public double firstBeta() {
-        final double tau = getGrid().getTimeStep();
         final var U = getPreviousSolution();
         return b1 * (b2 * U[0] + b3 * zeta * getCurrentPulseValue() - tau * (U[0] - U[1]));
     }
@@ -156,7 +180,9 @@ public class MixedLinearisedSolver extends MixedScheme implements Solver<Classic
     @Override
     public DifferenceScheme copy() {
         var grid = getGrid();
-        return new MixedLinearisedSolver(grid.getGridDensity(), grid.getTimeFactor(), getTimeLimit());
+        var copy = new MixedLinearisedSolver(grid.getGridDensity(), grid.getTimeFactor(), getTimeLimit());
+        copy.setStepTolerance(getStepTolerance());
+        return copy;
     }
 
     @Override
@@ -49,6 +49,7 @@ public class PenetrationProblem extends ClassicalProblem {
     }
 
     public void setAbsorptionModel(AbsorptionModel model) {
+        release(this.absorption);
         this.absorption = model;
         this.absorption.setParent(this);
     }
@@ -9,6 +9,8 @@ import static pulse.properties.NumericPropertyKeyword.TIME_SHIFT;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
@@ -40,6 +42,7 @@ import pulse.tasks.SearchTask;
 import pulse.util.InstanceDescriptor;
 import pulse.util.PropertyHolder;
 import pulse.util.Reflexive;
+import pulse.util.ReflexiveFinder;
 
 /**
  * A {@code Problem} is an abstract class defining the general rules for
@@ -63,6 +66,8 @@ public abstract class Problem extends PropertyHolder implements Reflexive, Optim
     private Pulse pulse;
 
     private static boolean hideDetailedAdjustment = true;
+    private static Map<Class<?>, List<Class<? extends DifferenceScheme>>> solutionClasses = new ConcurrentHashMap<>();
+
     private ProblemComplexity complexity = ProblemComplexity.LOW;
 
     private InstanceDescriptor<? extends Baseline> instanceDescriptor
@@ -103,6 +108,7 @@ public abstract class Problem extends PropertyHolder implements Reflexive, Optim
     public abstract Problem copy();
 
     public final void setHeatingCurve(HeatingCurve curve) {
+        release(this.curve);
         this.curve = curve;
         curve.setParent(this);
     }
@@ -129,14 +135,22 @@ public abstract class Problem extends PropertyHolder implements Reflexive, Optim
      * the instances of those schemes return a non-{@code null} result when
      * calling the {@code solver(Problem)} method.
      * </p>
+     * <p>
+     * The matching scheme classes are determined once for each class of
+     * problem. New instances of those classes are returned on every call, as
+     * the caller may change their properties.
+     * </p>
      *
      * @return a {@code List} of available {@code DifferenceScheme}s for solving
      * this {@code Problem}.
      */
     public final List<DifferenceScheme> availableSolutions() {
-        var allSchemes = Reflexive.instancesOf(DifferenceScheme.class);
-        return allSchemes.stream().filter(scheme -> scheme instanceof Solver)
-                .filter(s -> Arrays.asList(s.domain()).contains(this.getClass()))
+        var classes = solutionClasses.computeIfAbsent(getClass(), problemClass
+                -> Reflexive.instancesOf(DifferenceScheme.class).stream()
+                        .filter(scheme -> scheme instanceof Solver)
+                        .filter(s -> Arrays.asList(s.domain()).contains(problemClass))
+                        .map(s -> s.getClass()).collect(Collectors.toList()));
+        return classes.stream().map(c -> (DifferenceScheme) ReflexiveFinder.simpleInstance(c))
                 .collect(Collectors.toList());
     }
 
@@ -167,6 +181,7 @@ public abstract class Problem extends PropertyHolder implements Reflexive, Optim
      * @param pulse a {@code Pulse} object
      */
     public final void setPulse(Pulse pulse) {
+        release(this.pulse);
         this.pulse = pulse;
         this.pulse.setParent(this);
     }
@@ -414,6 +429,7 @@ public abstract class Problem extends PropertyHolder implements Reflexive, Optim
      */
     public final void setBaseline(Baseline baseline) {
         instanceDescriptor.setSelectedDescriptor(baseline.getClass().getSimpleName());
+        release(this.baseline);
         this.baseline = baseline.copy();
         this.baseline.setParent(this);
         curve.apply(this.baseline);
@@ -439,6 +455,7 @@ public abstract class Problem extends PropertyHolder implements Reflexive, Optim
     }
 
     public final void setProperties(ThermalProperties properties) {
+        release(this.properties);
         this.properties = properties;
         this.properties.setParent(this);
     }
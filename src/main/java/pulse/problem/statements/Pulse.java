@@ -220,6 +220,7 @@ public class Pulse extends PropertyHolder {
     }
 
     public void setPulseShape(PulseTemporalShape pulseShape) {
+        release(this.pulseShape);
         this.pulseShape = pulseShape;
         pulseShape.setParent(this);
 
@@ -1,6 +1,9 @@
 package pulse.properties;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import pulse.io.export.XMLConverter;
 
@@ -14,12 +17,44 @@ public class NumericProperties {
      * The list of default properties read that is created by reading the
      * default {@code .xml} file.
      */
-    private final static List<NumericProperty> DEFAULT = XMLConverter.readDefaultXML();
+    private final static List<NumericProperty> DEFAULT
+            = Collections.unmodifiableList(XMLConverter.readDefaultXML());
+
+    /**
+     * A constant-time lookup table of the default properties, populated once
+     * from the {@code DEFAULT} list. The patterns stored in this map are never
+     * handed out directly -- only copies are.
+     */
+    private final static Map<NumericPropertyKeyword, NumericProperty> REGISTRY = registry();
 
     private NumericProperties() {
         //empty constructor
     }
 
+    private static Map<NumericPropertyKeyword, NumericProperty> registry() {
+        var map = new EnumMap<NumericPropertyKeyword, NumericProperty>(NumericPropertyKeyword.class);
+        for (NumericProperty p : DEFAULT) {
+            map.putIfAbsent(p.getType(), p);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Retrieves the default pattern for {@code keyword}.
+     *
+     * @param keyword one of the constant {@code NumericPropertyKeyword}s
+     * @return the pattern stored in the registry
+     * @throws IllegalArgumentException if no default has been defined for
+     * {@code keyword}
+     */
+    private static NumericProperty pattern(NumericPropertyKeyword keyword) {
+        var p = REGISTRY.get(keyword);
+        if (p == null) {
+            throw new IllegalArgumentException("No default property defined for " + keyword);
+        }
+        return p;
+    }
+
     /**
      * Checks whether the {@code val} that is going to be passed to the
      * {@code property} (a) has the same type as the {@code property.getValue()}
@@ -76,7 +111,19 @@ public class NumericProperties {
      * @see pulse.properties.NumericPropertyKeyword
      */
     public static NumericProperty def(NumericPropertyKeyword keyword) {
-        return new NumericProperty(DEFAULT.stream().filter(p -> p.getType() == keyword).findFirst().get());
+        return new NumericProperty(pattern(keyword));
+    }
+
+    /**
+     * Retrieves the default value associated with {@code keyword} without
+     * creating a new {@code NumericProperty}.
+     *
+     * @param keyword one of the constant {@code NumericPropertyKeyword}s
+     * @return the default value (either an {@code Integer} or a {@code Double})
+     * @see def(NumericPropertyKeyword)
+     */
+    public static Number defaultValue(NumericPropertyKeyword keyword) {
+        return (Number) pattern(keyword).getValue();
     }
 
     /**
@@ -112,11 +159,11 @@ public class NumericProperties {
      * @see pulse.properties.NumericPropertyKeyword
      */
     public static NumericProperty derive(NumericPropertyKeyword keyword, Number value) {
-        return new NumericProperty(value, DEFAULT.stream().filter(p -> p.getType() == keyword).findFirst().get());
+        return new NumericProperty(value, pattern(keyword));
     }
 
     public static boolean isDiscrete(NumericPropertyKeyword key) {
-        return def(key).isDiscrete();
+        return pattern(key).isDiscrete();
     }
 
 }
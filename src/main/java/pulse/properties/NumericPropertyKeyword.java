@@ -39,6 +39,11 @@ public enum NumericPropertyKeyword {
      * The precision parameter used to solve nonlinear problems.
      */
     NONLINEAR_PRECISION,
+    /**
+     * The number of previous iterations used by Anderson mixing in nonlinear
+     * solvers. Zero means plain fixed-point iterations.
+     */
+    ANDERSON_DEPTH,
     /**
      * Pulse width (time).
      */
@@ -51,6 +56,11 @@ public enum NumericPropertyKeyword {
      * Calculation time limit.
      */
     TIME_LIMIT,
+    /**
+     * The local error tolerance of adaptive time steps. Zero means the time
+     * step is fixed.
+     */
+    STEP_TOLERANCE,
     /**
      * Grid (space partitioning) density.
      */
@@ -12,18 +12,25 @@ import pulse.properties.NumericPropertyKeyword;
 import pulse.search.direction.IterativeState;
 import pulse.search.direction.PathOptimiser;
 import pulse.tasks.processing.Buffer;
-import static pulse.tasks.processing.Buffer.getSize;
 import pulse.util.Accessible;
+import pulse.util.jfr.IterationEvent;
+import pulse.util.metrics.Counter;
+import pulse.util.metrics.Metrics;
 
 public abstract class GeneralTask<I extends DiscreteInput, R extends Response>
         extends Accessible implements Runnable {
 
+    private final static Counter bufferCycles = Metrics.getInstance().counter(Metrics.BUFFER_CYCLES);
+
     private IterativeState path;    //current sate
     private IterativeState best;    //best state 
 
     private final Buffer buffer;
     private PathOptimiser optimiser;
 
+    private SearchConfiguration configuration;
+    private transient SearchConfiguration active;
+
     public GeneralTask() {
         buffer = new Buffer();
         buffer.setParent(this);
@@ -60,16 +67,31 @@ public abstract class GeneralTask<I extends DiscreteInput, R extends Response>
      * successful will be determined by comparing the associated
      * <i>R</i><sup>2</sup> value with the {@code SUCCESS_CUTOFF}.
      * </p>
+     * <p>
+     * The search configuration is resolved once at the start of the run and
+     * remains the same until the run is over.
+     * </p>
+     *
+     * @see getConfiguration()
      */
     @Override
     public void run() {
-        setDefaultOptimiser();
-        best = null;
+        active = configuration != null ? configuration : defaultConfiguration();
+        try {
+            search();
+        } finally {
+            active = null;
+        }
+    }
+
+    private void search() {
+        setOptimiser(active.getOptimiser());
+        best = resume();
         setIterativeState(optimiser.initState(this));
 
-        double errorTolerance = (double) optimiser.getErrorTolerance().getValue();
-        int bufferSize = (Integer) getSize().getValue();
-        buffer.init();
+        double errorTolerance = optimiser.getErrorToleranceValue();
+        int bufferSize = active.getBufferSize();
+        buffer.init(bufferSize);
         //correlationBuffer.clear();
 
         /* search cycle */
@@ -77,10 +99,8 @@ public abstract class GeneralTask<I extends DiscreteInput, R extends Response>
         List<CompletableFuture<Void>> bufferFutures = new ArrayList<>(bufferSize);
         var singleThreadExecutor = Executors.newSingleThreadExecutor();
 
-        var response = getResponse();
-
         try {
-            response.objectiveFunction(this);
+            objectiveFunction();
         } catch (SolverException e1) {
             onSolverException(e1);
         }
@@ -94,7 +114,7 @@ public abstract class GeneralTask<I extends DiscreteInput, R extends Response>
 
                 try {
                     for (boolean finished = false; !finished;) {
-                        finished = optimiser.iteration(this);
+                        finished = quietIteration();
                     }
                 } catch (SolverException e) {
                     onSolverException(e);
@@ -107,22 +127,21 @@ public abstract class GeneralTask<I extends DiscreteInput, R extends Response>
                         //assign the global best parameters
                         assign(path.getParameters());
                         //and try to re-calculate
-                        response.objectiveFunction(this);
+                        objectiveFunction();
                     } catch (SolverException ex) {
                         onSolverException(ex);
                     }
                 }
 
-                final var j = i;
-
-                bufferFutures.add(CompletableFuture.runAsync(() -> {
-                    buffer.fill(this, j);
-                    intermediateProcessing();
-                }, singleThreadExecutor));
+                //the buffer is filled before the next iteration changes the parameters
+                buffer.fill(this, i);
+                iterationCompleted();
+                bufferFutures.add(CompletableFuture.runAsync(this::intermediateProcessing, singleThreadExecutor));
 
             }
 
             bufferFutures.forEach(future -> future.join());
+            bufferCycles.increment();
 
         } while (buffer.isErrorTooHigh(errorTolerance)
                 && isInProgress());
@@ -135,8 +154,51 @@ public abstract class GeneralTask<I extends DiscreteInput, R extends Response>
 
     }
 
+    /**
+     * Runs a single optimiser iteration in quiet mode, so that the changes made
+     * to the properties of this task are reported to the upper levels of the
+     * hierarchy only once, after the iteration completes.
+     *
+     * @return {@code true} if the iteration has been accepted by the optimiser
+     * @throws SolverException if the optimiser fails
+     * @see pulse.util.UpwardsNavigable.enterQuietMode()
+     */
+    private boolean quietIteration() throws SolverException {
+        var event = new IterationEvent();
+        event.begin();
+        enterQuietMode();
+        try {
+            boolean accepted = optimiser.iteration(this);
+            event.finish(this, optimiser, accepted);
+            return accepted;
+        } finally {
+            exitQuietMode();
+        }
+    }
+
     public abstract boolean isInProgress();
 
+    /**
+     * Override this to continue a previously interrupted search. This is
+     * invoked at the start of {@code run()}, before the optimiser state is
+     * initialised, and may assign new parameter values to this task.
+     *
+     * @return the global best state of the interrupted search, or {@code null}
+     * (default) to start afresh
+     */
+    protected IterativeState resume() {
+        return null;
+    }
+
+    /**
+     * Override this to take a snapshot of the search state after an iteration.
+     * Unlike {@code intermediateProcessing()}, this is invoked by the search
+     * thread before the next iteration starts. Empty by default.
+     */
+    protected void iterationCompleted() {
+        //empty
+    }
+
     /**
      * Override this to add intermediate processing of results e.g. with a
      * correlation test.
@@ -199,11 +261,49 @@ public abstract class GeneralTask<I extends DiscreteInput, R extends Response>
         this.optimiser = optimiser;
     }
 
-    public void setDefaultOptimiser() {
-        var instance = PathOptimiser.getInstance();
-        if (optimiser == null || optimiser != instance) {
-            setOptimiser(PathOptimiser.getInstance());
+    /**
+     * @return the optimiser used in the current (or the last) run
+     */
+    public final PathOptimiser getOptimiser() {
+        return optimiser;
+    }
+
+    /**
+     * Gets the search configuration of this task. While the task is running,
+     * this is the configuration resolved at the start of the run. Otherwise,
+     * this is either the configuration assigned to this task or, if none has
+     * been assigned, the default configuration.
+     *
+     * @return the search configuration
+     * @see defaultConfiguration()
+     */
+    public SearchConfiguration getConfiguration() {
+        if (active != null) {
+            return active;
         }
+        return configuration != null ? configuration : defaultConfiguration();
+    }
+
+    /**
+     * Assigns a search configuration to this task, which will be used by
+     * subsequent runs instead of the default configuration.
+     *
+     * @param configuration a configuration, or {@code null} to revert to the
+     * default configuration
+     */
+    public void setConfiguration(SearchConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Creates the configuration used when none has been assigned to this task.
+     * By default, this captures the current static settings.
+     *
+     * @return the default configuration
+     * @see pulse.search.SearchConfiguration.defaults()
+     */
+    protected SearchConfiguration defaultConfiguration() {
+        return SearchConfiguration.defaults();
     }
 
     public double objectiveFunction() throws SolverException {
@@ -0,0 +1,143 @@
+package pulse.search;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import pulse.properties.Flag;
+import pulse.properties.NumericPropertyKeyword;
+import pulse.search.direction.ActiveFlags;
+import pulse.search.direction.PathOptimiser;
+import pulse.search.statistics.NormalityTest;
+import pulse.search.statistics.OptimiserStatistic;
+import pulse.tasks.processing.Buffer;
+import pulse.util.PropertyHolder;
+
+/**
+ * An immutable set of search settings used by a {@code GeneralTask}: the path
+ * optimiser, the search flags, the buffer size and the descriptors of the
+ * optimiser statistic and the normality test.
+ * <p>
+ * The static settings ({@code PathOptimiser.getInstance()},
+ * {@code ActiveFlags}, {@code Buffer.getSize()} and the selected statistic
+ * descriptors) only serve as defaults, which are captured by
+ * {@code defaults()}. A task with its own configuration does not depend on
+ * these, so that tasks with different settings may run concurrently. Note the
+ * optimiser itself is shared by reference; use {@code PathOptimiser.copy()} to
+ * give a task an optimiser with independent settings.
+ * </p>
+ *
+ * @see pulse.search.GeneralTask.setConfiguration(SearchConfiguration)
+ */
+public final class SearchConfiguration implements Serializable {
+
+    private static final long serialVersionUID = 2398011593204760148L;
+
+    private final PathOptimiser optimiser;
+    private final List<Flag> flags;
+    private final List<NumericPropertyKeyword> activeTypes;
+    private final int bufferSize;
+    private final String optimiserStatistic;
+    private final String normalityTest;
+
+    public SearchConfiguration(PathOptimiser optimiser, List<Flag> flags, int bufferSize,
+            String optimiserStatistic, String normalityTest) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Illegal buffer size: " + bufferSize);
+        }
+        this.optimiser = optimiser;
+        this.flags = Collections.unmodifiableList(copyOf(flags));
+        this.activeTypes = Collections.unmodifiableList(ActiveFlags.selectActiveTypes(this.flags));
+        this.bufferSize = bufferSize;
+        this.optimiserStatistic = optimiserStatistic;
+        this.normalityTest = normalityTest;
+    }
+
+    /**
+     * Captures the current static settings.
+     *
+     * @return a configuration equivalent to the current defaults
+     */
+    public static SearchConfiguration defaults() {
+        return new SearchConfiguration(PathOptimiser.getInstance(), ActiveFlags.getAllFlags(),
+                Buffer.getSizeValue(), OptimiserStatistic.getSelectedOptimiserDescriptor(),
+                NormalityTest.getSelectedTestDescriptor());
+    }
+
+    public SearchConfiguration withOptimiser(PathOptimiser optimiser) {
+        return new SearchConfiguration(optimiser, flags, bufferSize, optimiserStatistic, normalityTest);
+    }
+
+    /**
+     * Creates a configuration where the flags matching the types of those in
+     * {@code changed} take their values. Other flags are left as they are.
+     *
+     * @param changed a list of flags
+     * @return a new configuration
+     */
+    public SearchConfiguration withFlags(List<Flag> changed) {
+        var newFlags = copyOf(flags);
+        for (var f : newFlags) {
+            changed.stream().filter(c -> c.getType() == f.getType()).findFirst()
+                    .ifPresent(c -> f.setValue((boolean) c.getValue()));
+        }
+        return new SearchConfiguration(optimiser, newFlags, bufferSize, optimiserStatistic, normalityTest);
+    }
+
+    public SearchConfiguration withBufferSize(int bufferSize) {
+        return new SearchConfiguration(optimiser, flags, bufferSize, optimiserStatistic, normalityTest);
+    }
+
+    public SearchConfiguration withOptimiserStatistic(String descriptor) {
+        return new SearchConfiguration(optimiser, flags, bufferSize, descriptor, normalityTest);
+    }
+
+    public SearchConfiguration withNormalityTest(String descriptor) {
+        return new SearchConfiguration(optimiser, flags, bufferSize, optimiserStatistic, descriptor);
+    }
+
+    public PathOptimiser getOptimiser() {
+        return optimiser;
+    }
+
+    /**
+     * @return a copy of the search flags
+     */
+    public List<Flag> getFlags() {
+        return copyOf(flags);
+    }
+
+    /**
+     * Selects the active parameters listed by {@code listed}.
+     *
+     * @param listed a property holder, may be {@code null}
+     * @return the types of the active flags that are listed by {@code listed},
+     * or an empty list if {@code listed} is {@code null}
+     * @see pulse.search.direction.ActiveFlags.selectActiveAndListed(List,PropertyHolder)
+     */
+    public List<NumericPropertyKeyword> activeAndListed(PropertyHolder listed) {
+        if (listed == null) {
+            return new ArrayList<>();
+        }
+        return activeTypes.stream().filter(listed::isListedNumericType).collect(Collectors.toList());
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public String getOptimiserStatisticDescriptor() {
+        return optimiserStatistic;
+    }
+
+    public String getNormalityTestDescriptor() {
+        return normalityTest;
+    }
+
+    private static List<Flag> copyOf(List<Flag> flags) {
+        return flags.stream().map(Flag::new).collect(Collectors.toList());
+    }
+
+}
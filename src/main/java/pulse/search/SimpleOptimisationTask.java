@@ -6,13 +6,9 @@ import pulse.DiscreteInput;
 import pulse.math.ParameterIdentifier;
 import pulse.math.ParameterVector;
 import pulse.problem.schemes.solvers.SolverException;
-import pulse.properties.Flag;
 import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
-import pulse.search.direction.ActiveFlags;
-import static pulse.search.direction.ActiveFlags.selectActiveAndListed;
 import pulse.search.direction.LMOptimiser;
-import pulse.search.direction.PathOptimiser;
 import pulse.util.PropertyHolder;
 
 /**
@@ -31,15 +27,6 @@ public abstract class SimpleOptimisationTask<T extends PropertyHolder & Optimisa
         this.optimisable = optimisable;
     }
 
-    @Override
-    public void run() {
-        var optimiser = PathOptimiser.getInstance();
-        if (optimiser == null) {
-            PathOptimiser.setInstance(LMOptimiser.getInstance());
-        }
-        super.run();
-    }
-
     /**
      * Generates a search vector (= optimisation vector) using the search flags
      * set by the {@code PathSolver}.
@@ -77,12 +64,16 @@ public abstract class SimpleOptimisationTask<T extends PropertyHolder & Optimisa
 
     @Override
     public List<NumericPropertyKeyword> activeParameters() {
-        return selectActiveAndListed(ActiveFlags.getAllFlags(), optimisable);
+        return getConfiguration().activeAndListed(optimisable);
     }
 
+    /**
+     * Uses the Levenberg-Marquardt optimiser regardless of the optimiser
+     * selected by default.
+     */
     @Override
-    public void setDefaultOptimiser() {
-        setOptimiser(LMOptimiser.getInstance());
+    protected SearchConfiguration defaultConfiguration() {
+        return super.defaultConfiguration().withOptimiser(LMOptimiser.getInstance());
     }
 
     @Override
@@ -24,7 +24,7 @@ public abstract class SimpleResponse implements Response {
     @Override
     public double objectiveFunction(GeneralTask task) {
         rs.evaluate(task);
-        return (double) rs.getStatistic().getValue();
+        return rs.getStatisticValue();
     }
 
     @Override
@@ -59,7 +59,7 @@ public abstract class CompositePathOptimiser extends GradientBasedOptimiser {
 
         } else {
 
-            double initialCost = task.getResponse().objectiveFunction(task);
+            double initialCost = task.objectiveFunction();
             p.setCost(initialCost);
             var parameters = task.searchVector();
 
@@ -77,7 +77,7 @@ public abstract class CompositePathOptimiser extends GradientBasedOptimiser {
                 task.assign(candidateVector); // assign new parameters
             }
 
-            double newCost = task.getResponse().objectiveFunction(task);
+            double newCost = task.objectiveFunction();
             // calculate the sum of squared residuals
 
             if (newCost > initialCost - EPS
@@ -115,6 +115,7 @@ public abstract class CompositePathOptimiser extends GradientBasedOptimiser {
      * @param linearSearch a {@code LinearSolver}
      */
     public void setLinearSolver(LinearOptimiser linearSearch) {
+        release(this.linearSolver);
         this.linearSolver = linearSearch;
         linearSolver.setParent(this);
         super.parameterListChanged();
@@ -53,7 +53,7 @@ public class GradientGuidedPath extends IterativeState {
     public void configure(GeneralTask t) {
         super.reset();
         try {
-            this.gradient = ((GradientBasedOptimiser) PathOptimiser.getInstance()).gradient(t);
+            this.gradient = ((GradientBasedOptimiser) t.getOptimiser()).gradient(t);
         } catch (SolverException ex) {
             t.onSolverException(new SolverException("Gradient calculation error", OPTIMISATION_ERROR));
             ex.printStackTrace();
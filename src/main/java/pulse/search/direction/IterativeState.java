@@ -25,6 +25,7 @@ public class IterativeState implements Serializable {
     public IterativeState(IterativeState other) {
         this.parameters = new ParameterVector(other.parameters);
         this.cost = other.cost;
+        this.iteration = other.iteration;
     }
 
     public IterativeState(GeneralTask t) {
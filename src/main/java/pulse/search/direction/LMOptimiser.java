@@ -27,6 +27,9 @@ import static pulse.search.direction.CompositePathOptimiser.EPS;
 import pulse.search.statistics.OptimiserStatistic;
 import pulse.search.statistics.SumOfSquares;
 import pulse.ui.Messages;
+import pulse.util.jfr.JacobianEvent;
+import pulse.util.metrics.Counter;
+import pulse.util.metrics.Metrics;
 
 /**
  * Given an objective function equal to the sum of squared residuals,
@@ -38,6 +41,8 @@ public class LMOptimiser extends GradientBasedOptimiser {
 
     private static final long serialVersionUID = -7954867240278082038L;
     private static final LMOptimiser instance = new LMOptimiser();
+    private static final Counter jacobianBuilds = Metrics.getInstance().counter(Metrics.JACOBIAN_BUILDS);
+    private static final Counter rejections = Metrics.getInstance().counter(Metrics.LM_REJECTIONS);
     private double dampingRatio;
 
     /**
@@ -98,6 +103,7 @@ public class LMOptimiser extends GradientBasedOptimiser {
                 task.assign(parameters); // roll back if cost increased
                 p.setComputeJacobian(true);
                 p.incrementFailedAttempts();
+                rejections.increment();
                 accept = false;
             } else {
                 task.storeState();
@@ -173,6 +179,9 @@ public class LMOptimiser extends GradientBasedOptimiser {
      * @see pulse.search.statistics.ResidualStatistic.calculateResiduals()
      */
     public RectangularMatrix jacobian(GeneralTask task) throws SolverException {
+        jacobianBuilds.increment();
+        var event = new JacobianEvent();
+        event.begin();
 
         var residualCalculator = task.getResponse().getOptimiserStatistic();
 
@@ -225,6 +234,7 @@ public class LMOptimiser extends GradientBasedOptimiser {
         // revert to original params
         task.assign(params);
 
+        event.finish(task, numParams, numPoints);
         return Matrices.createMatrix(jacobian);
 
     }
@@ -1,11 +1,15 @@
 package pulse.search.direction;
 
-import static pulse.properties.NumericProperties.def;
+import static pulse.properties.NumericProperties.defaultValue;
 import static pulse.properties.NumericProperties.derive;
 import static pulse.properties.NumericProperty.requireType;
 import static pulse.properties.NumericPropertyKeyword.ERROR_TOLERANCE;
 import static pulse.properties.NumericPropertyKeyword.ITERATION_LIMIT;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.List;
 import java.util.Set;
 
@@ -19,6 +23,7 @@ import pulse.search.statistics.OptimiserStatistic;
 import pulse.tasks.TaskManager;
 import pulse.util.PropertyHolder;
 import pulse.util.Reflexive;
+import pulse.util.ReplacingObjectOutputStream;
 
 /**
  * An abstract class that defines the mathematical basis of solving the reverse
@@ -66,8 +71,8 @@ public abstract class PathOptimiser extends PropertyHolder implements Reflexive
      * @see pulse.properties.Flag.defaultList()
      */
     public void reset() {
-        maxIterations = (int) def(ITERATION_LIMIT).getValue();
-        errorTolerance = (double) def(ERROR_TOLERANCE).getValue();
+        maxIterations = defaultValue(ITERATION_LIMIT).intValue();
+        errorTolerance = defaultValue(ERROR_TOLERANCE).doubleValue();
         ActiveFlags.reset();
     }
 
@@ -107,6 +112,17 @@ public abstract class PathOptimiser extends PropertyHolder implements Reflexive
         return derive(ERROR_TOLERANCE, errorTolerance);
     }
 
+    /**
+     * Retrieves the error tolerance as a primitive value, avoiding the creation
+     * of a {@code NumericProperty}.
+     *
+     * @return the error tolerance
+     * @see getErrorTolerance()
+     */
+    public double getErrorToleranceValue() {
+        return errorTolerance;
+    }
+
     public void setErrorTolerance(NumericProperty errorTolerance) {
         requireType(errorTolerance, ERROR_TOLERANCE);
         this.errorTolerance = (double) errorTolerance.getValue();
@@ -200,6 +216,33 @@ public abstract class PathOptimiser extends PropertyHolder implements Reflexive
         return instance;
     }
 
+    /**
+     * Creates a deep copy of this optimiser, which is detached from the
+     * {@code TaskManager}. The settings of the copy can be changed without
+     * affecting this optimiser, e.g. to give an individual task its own
+     * optimiser.
+     *
+     * @return a copy of this optimiser
+     * @see pulse.search.SearchConfiguration.withOptimiser(PathOptimiser)
+     */
+    public PathOptimiser copy() {
+        var bytes = new ByteArrayOutputStream();
+
+        try {
+            try (var out = new ReplacingObjectOutputStream(bytes,
+                    obj -> obj instanceof TaskManager ? null : obj)) {
+                out.writeObject(this);
+            }
+            try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                var copy = (PathOptimiser) in.readObject();
+                copy.initListeners();
+                return copy;
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to copy " + this, e);
+        }
+    }
+
     public static void setInstance(PathOptimiser selectedPathOptimiser) {
         PathOptimiser.instance = selectedPathOptimiser;
         selectedPathOptimiser.setParent(TaskManager.getManagerInstance());
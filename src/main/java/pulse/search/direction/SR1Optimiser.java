@@ -21,7 +21,11 @@ public class SR1Optimiser extends CompositePathOptimiser {
 
     private SR1Optimiser() {
         super();
-        this.setSolver(path -> ((ComplexPath) path).getInverseHessian().multiply(path.getGradient().inverted()));
+        this.setSolver(path -> {
+            var dir = ((ComplexPath) path).getInverseHessian().multiply(path.getGradient().inverted());
+            path.setDirection(dir);
+            return dir;
+        });
     }
 
     /**
@@ -1,6 +1,8 @@
 package pulse.search.direction.pso;
 
-public interface Mover {
+import java.io.Serializable;
+
+public interface Mover extends Serializable {
 
     public ParticleState attemptMove(Particle p, Particle[] neighbours, ParticleState gBest);
 
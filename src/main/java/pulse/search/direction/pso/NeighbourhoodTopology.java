@@ -1,6 +1,8 @@
 package pulse.search.direction.pso;
 
-public interface NeighbourhoodTopology {
+import java.io.Serializable;
+
+public interface NeighbourhoodTopology extends Serializable {
 
     public Particle[] neighbours(Particle p, SwarmState ss);
 
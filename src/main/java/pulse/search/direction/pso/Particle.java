@@ -18,6 +18,8 @@
  */
 package pulse.search.direction.pso;
 
+import java.io.Serializable;
+
 import pulse.problem.schemes.solvers.SolverException;
 import pulse.search.GeneralTask;
 import pulse.tasks.SearchTask;
@@ -25,7 +27,9 @@ import pulse.tasks.SearchTask;
 /**
  * Class defining a particle - the basic unit of a swarm.
  */
-public class Particle {
+public class Particle implements Serializable {
+
+    private static final long serialVersionUID = 4826718311063185532L;
 
     private int id;
 
@@ -1,9 +1,13 @@
 package pulse.search.direction.pso;
 
+import java.io.Serializable;
+
 import pulse.math.ParameterVector;
 import pulse.math.linear.Vector;
 
-public class ParticleState {
+public class ParticleState implements Serializable {
+
+    private static final long serialVersionUID = -3149542418001270647L;
 
     private ParameterVector position;
     private ParameterVector velocity;
@@ -9,7 +9,6 @@ import pulse.problem.schemes.solvers.SolverException;
 import pulse.search.GeneralTask;
 import pulse.search.direction.GradientBasedOptimiser;
 import pulse.search.direction.GradientGuidedPath;
-import pulse.search.direction.PathOptimiser;
 import pulse.tasks.SearchTask;
 import pulse.ui.Messages;
 
@@ -89,7 +88,7 @@ public class WolfeOptimiser extends LinearOptimiser {
         double randomConfinedValue = 0;
         double g2p;
 
-        var optimiser = (GradientBasedOptimiser) PathOptimiser.getInstance();
+        var optimiser = (GradientBasedOptimiser) task.getOptimiser();
 
         for (double initialLength = segment.length(); segment.length() / initialLength > searchResolution;) {
 
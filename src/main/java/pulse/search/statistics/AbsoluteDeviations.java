@@ -1,7 +1,5 @@
 package pulse.search.statistics;
 
-import static pulse.properties.NumericProperties.derive;
-import static pulse.properties.NumericPropertyKeyword.OPTIMISER_STATISTIC;
 import pulse.search.GeneralTask;
 
 /**
@@ -34,12 +32,12 @@ public class AbsoluteDeviations extends OptimiserStatistic {
         calculateResiduals(t);
         final double statistic = getResiduals().stream()
                 .mapToDouble(a -> Math.abs(a)).average().getAsDouble();
-        setStatistic(derive(OPTIMISER_STATISTIC, statistic));
+        setStatisticValue(statistic);
     }
 
     @Override
     public double variance() {
-        final double stat = (double) this.getStatistic().getValue();
+        final double stat = getStatisticValue();
         return stat * stat;
     }
 
@@ -59,6 +59,16 @@ public abstract class NormalityTest extends ResidualStatistic {
         this.statistic = (double) statistic.getValue();
     }
 
+    @Override
+    public double getStatisticValue() {
+        return statistic;
+    }
+
+    @Override
+    protected void setStatisticValue(double statistic) {
+        this.statistic = statistic;
+    }
+
     @Override
     public void set(NumericPropertyKeyword type, NumericProperty property) {
         if (type == TEST_STATISTIC) {
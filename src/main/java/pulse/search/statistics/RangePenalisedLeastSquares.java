@@ -1,8 +1,6 @@
 package pulse.search.statistics;
 
 import pulse.input.IndexRange;
-import static pulse.properties.NumericProperties.derive;
-import static pulse.properties.NumericPropertyKeyword.OPTIMISER_STATISTIC;
 import pulse.search.GeneralTask;
 
 /**
@@ -40,12 +38,12 @@ public class RangePenalisedLeastSquares extends SumOfSquares {
     public void evaluate(GeneralTask t) {
         calculateResiduals(t);
         super.evaluate(t);
-        final double ssr = (double) getStatistic().getValue();
+        final double ssr = getStatisticValue();
         var x = t.getInput().getX();
         double partialRange = t.getInput().bounds().length();
         double fullRange = x.get(x.size() - 1) - x.get(IndexRange.closestLeft(0.0, x));
         final double statistic = ssr + lambda * (fullRange - partialRange) / fullRange;
-        setStatistic(derive(OPTIMISER_STATISTIC, statistic));
+        setStatisticValue(statistic);
     }
 
     @Override
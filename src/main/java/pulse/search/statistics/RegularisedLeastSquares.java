@@ -1,7 +1,5 @@
 package pulse.search.statistics;
 
-import static pulse.properties.NumericProperties.derive;
-import static pulse.properties.NumericPropertyKeyword.OPTIMISER_STATISTIC;
 import pulse.search.GeneralTask;
 
 /**
@@ -47,9 +45,9 @@ public class RegularisedLeastSquares extends SumOfSquares {
     public void evaluate(GeneralTask t) {
         calculateResiduals(t);
         super.evaluate(t);
-        final double ssr = (double) getStatistic().getValue();
+        final double ssr = getStatisticValue();
         final double statistic = ssr + lambda * t.searchVector().toVector().lengthSq();
-        setStatistic(derive(OPTIMISER_STATISTIC, statistic));
+        setStatisticValue(statistic);
     }
 
     @Override
@@ -167,6 +167,26 @@ public abstract class ResidualStatistic extends Statistic {
         this.statistic = (double) statistic.getValue();
     }
 
+    /**
+     * Retrieves the value of this statistic without wrapping it in a
+     * {@code NumericProperty}. Intended for use by the optimisers.
+     *
+     * @return the statistic value
+     */
+    public double getStatisticValue() {
+        return statistic;
+    }
+
+    /**
+     * Sets the value of this statistic without the overhead of creating and
+     * type-checking a {@code NumericProperty}.
+     *
+     * @param statistic the new statistic value
+     */
+    protected void setStatisticValue(double statistic) {
+        this.statistic = statistic;
+    }
+
     @Override
     public void set(NumericPropertyKeyword type, NumericProperty property) {
         if (type == OPTIMISER_STATISTIC) {
@@ -1,7 +1,5 @@
 package pulse.search.statistics;
 
-import static pulse.properties.NumericProperties.derive;
-import static pulse.properties.NumericPropertyKeyword.OPTIMISER_STATISTIC;
 import pulse.search.GeneralTask;
 
 /**
@@ -45,7 +43,7 @@ public class SumOfSquares extends OptimiserStatistic {
         calculateResiduals(t);
         final double statistic = getResiduals().stream().mapToDouble(r -> r * r)
                 .average().getAsDouble();
-        setStatistic(derive(OPTIMISER_STATISTIC, statistic));
+        setStatisticValue(statistic);
     }
 
     @Override
@@ -55,7 +53,7 @@ public class SumOfSquares extends OptimiserStatistic {
 
     @Override
     public double variance() {
-        return (double) getStatistic().getValue();
+        return getStatisticValue();
     }
 
     @Override
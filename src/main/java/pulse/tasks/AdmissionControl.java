@@ -0,0 +1,266 @@
+package pulse.tasks;
+
+import static java.lang.Runtime.getRuntime;
+import static java.lang.management.ManagementFactory.getMemoryPoolMXBeans;
+import static pulse.tasks.logs.Status.QUEUED;
+
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import pulse.problem.schemes.Grid2D;
+import pulse.util.metrics.Metrics;
+
+/**
+ * Decides when the tasks submitted by the {@code TaskManager} may start, so
+ * that running many large calculations at once does not exhaust the heap.
+ * <p>
+ * Each task is assigned a memory estimate based on the grid of its difference
+ * scheme, the complexity of its problem, the size of its data and the number
+ * of calculations it keeps. A task is admitted if the estimates of all
+ * admitted tasks fit into a fraction of the maximum heap size and no heap
+ * pool has exceeded its collection usage threshold, i.e. the heap has not
+ * been found above that fraction right after a garbage collection. Otherwise
+ * the task waits in the queue with the {@code QUEUED} status and is admitted
+ * when another task finishes. If no task is running, the next task is always
+ * admitted.
+ * </p>
+ *
+ * @see TaskManager#execute(SearchTask)
+ */
+public class AdmissionControl {
+
+    private final static double DEFAULT_HEAP_FRACTION = 0.75;
+
+    /*
+     * Rough sizes used by the estimate: the arrays of a difference scheme per
+     * grid node, a boxed data point and the fixed overhead of a task (logs,
+     * buffer and listeners)
+     */
+    private final static long BYTES_PER_NODE = 16 * Double.BYTES;
+    private final static long BYTES_PER_POINT = 4 * 32;
+    private final static long TASK_OVERHEAD = 256 * 1024;
+
+    private static AdmissionControl instance = new AdmissionControl();
+
+    private final Deque<SearchTask> waiting;
+    private final Map<SearchTask, Runnable> actions;
+    private final Map<SearchTask, Long> admitted;
+    private final List<MemoryPoolMXBean> pools;
+    private long reserved;
+    private double heapFraction;
+
+    private AdmissionControl() {
+        waiting = new ArrayDeque<>();
+        actions = new IdentityHashMap<>();
+        admitted = new IdentityHashMap<>();
+        //only the tenured pools support usage thresholds
+        pools = getMemoryPoolMXBeans().stream()
+                .filter(p -> p.getType() == MemoryType.HEAP && p.isUsageThresholdSupported()
+                && p.isCollectionUsageThresholdSupported())
+                .collect(Collectors.toList());
+        setHeapFraction(DEFAULT_HEAP_FRACTION);
+    }
+
+    public static AdmissionControl getInstance() {
+        return instance;
+    }
+
+    /**
+     * Queues {@code t} and runs {@code start} as soon as the task is admitted,
+     * which may happen immediately in the calling thread. The caller must
+     * {@link #release(SearchTask)} the task when it finishes.
+     *
+     * @param t the task
+     * @param start starts the task
+     */
+    public void submit(SearchTask t, Runnable start) {
+        boolean deferred;
+        List<Runnable> ready;
+
+        synchronized (this) {
+            if (admitted.containsKey(t) || actions.containsKey(t)) {
+                return;
+            }
+            waiting.add(t);
+            actions.put(t, start);
+            ready = drain();
+            deferred = actions.containsKey(t);
+        }
+
+        if (deferred) {
+            Metrics.getInstance().counter(Metrics.ADMISSIONS_DEFERRED).increment();
+        }
+        ready.forEach(Runnable::run);
+    }
+
+    /**
+     * Releases the memory reserved for {@code t} and admits the waiting tasks
+     * that now fit.
+     *
+     * @param t a finished task
+     */
+    public void release(SearchTask t) {
+        List<Runnable> ready;
+
+        synchronized (this) {
+            var estimate = admitted.remove(t);
+            if (estimate != null) {
+                reserved -= estimate;
+            }
+            ready = drain();
+        }
+
+        ready.forEach(Runnable::run);
+    }
+
+    /**
+     * Removes {@code t} from the queue if it has not been admitted yet.
+     *
+     * @param t a task
+     */
+    public synchronized void withdraw(SearchTask t) {
+        if (actions.remove(t) != null) {
+            waiting.remove(t);
+        }
+    }
+
+    /**
+     * Admits the waiting tasks in the order of submission, until a task does
+     * not fit. Tasks which are no longer queued, e.g. because they have been
+     * terminated, are started anyway, as they will finish at once.
+     *
+     * @return the actions starting the admitted tasks
+     */
+    private List<Runnable> drain() {
+        var ready = new ArrayList<Runnable>();
+        boolean full = false;
+
+        for (var i = waiting.iterator(); i.hasNext();) {
+            var t = i.next();
+            long estimate = 0;
+
+            if (t.getStatus() == QUEUED) {
+                estimate = estimate(t);
+                full = full || !admitted.isEmpty()
+                        && (reserved + estimate > budget() || isUnderPressure());
+                if (full) {
+                    continue;
+                }
+            }
+
+            i.remove();
+            admitted.put(t, estimate);
+            reserved += estimate;
+            ready.add(actions.remove(t));
+        }
+
+        return ready;
+    }
+
+    /**
+     * Checks if any heap pool has been above the threshold after the last
+     * garbage collection.
+     *
+     * @return {@code true} if the heap is short of memory
+     */
+    public boolean isUnderPressure() {
+        return pools.stream().anyMatch(MemoryPoolMXBean::isCollectionUsageThresholdExceeded);
+    }
+
+    /**
+     * Estimates the memory required by {@code t}: the arrays of the difference
+     * scheme, scaled by the complexity of the problem, and the heating curves,
+     * for the current and each stored calculation.
+     *
+     * @param t a task
+     * @return the estimate in bytes
+     */
+    public static long estimate(SearchTask t) {
+        var calc = t.getResponse();
+        var scheme = calc.getScheme();
+        var problem = calc.getProblem();
+
+        long nodes = 0;
+        if (scheme != null) {
+            var grid = scheme.getGrid();
+            nodes = ((Number) grid.getGridDensity().getValue()).longValue() + 1;
+            if (grid instanceof Grid2D) {
+                nodes *= nodes;
+            }
+        }
+
+        long factor = 1;
+        if (problem != null) {
+            switch (problem.getComplexity()) {
+                case MODERATE:
+                    factor = 4;
+                    break;
+                case HIGH:
+                    factor = 16;
+                    break;
+                default:
+            }
+        }
+
+        var data = t.getInput();
+        long points = data != null ? data.actualNumPoints() : 0;
+        long calculations = 1 + t.getStoredCalculations().size();
+
+        return TASK_OVERHEAD + calculations * (nodes * factor * BYTES_PER_NODE + points * BYTES_PER_POINT);
+    }
+
+    /**
+     * The memory available to the admitted tasks.
+     *
+     * @return the fraction of the maximum heap size in bytes
+     */
+    public long budget() {
+        return (long) (heapFraction * getRuntime().maxMemory());
+    }
+
+    public synchronized long getReserved() {
+        return reserved;
+    }
+
+    public synchronized int getWaiting() {
+        return waiting.size();
+    }
+
+    public double getHeapFraction() {
+        return heapFraction;
+    }
+
+    /**
+     * Sets the fraction of the heap available to the tasks and the collection
+     * usage thresholds of the heap pools accordingly.
+     *
+     * @param heapFraction a number between 0 and 1
+     */
+    public void setHeapFraction(double heapFraction) {
+        if (!(heapFraction > 0.0 && heapFraction <= 1.0)) {
+            throw new IllegalArgumentException("Illegal heap fraction: " + heapFraction);
+        }
+
+        synchronized (this) {
+            this.heapFraction = heapFraction;
+
+            for (var pool : pools) {
+                long max = pool.getUsage().getMax();
+                if (max > 0) {
+                    pool.setCollectionUsageThreshold((long) (heapFraction * max));
+                }
+            }
+        }
+
+        //a larger budget may admit waiting tasks
+        release(null);
+    }
+
+}
@@ -36,6 +36,7 @@ import pulse.util.InstanceDescriptor;
 import pulse.util.PropertyEvent;
 import pulse.util.PropertyHolder;
 import pulse.util.UpwardsNavigable;
+import pulse.util.jfr.SolveEvent;
 
 public class Calculation extends PropertyHolder implements Comparable<Calculation>, Response {
 
@@ -110,6 +111,7 @@ public class Calculation extends PropertyHolder implements Comparable<Calculatio
      * @param curve
      */
     public void setProblem(Problem problem, ExperimentalData curve) {
+        release(this.problem);
         this.problem = problem;
         problem.setParent(this);
         problem.removeListeners();
@@ -153,6 +155,7 @@ public class Calculation extends PropertyHolder implements Comparable<Calculatio
      * @param curve
      */
     public void setScheme(DifferenceScheme scheme, ExperimentalData curve) {
+        release(this.scheme);
         this.scheme = scheme;
 
         if (problem != null && scheme != null) {
@@ -183,7 +186,10 @@ public class Calculation extends PropertyHolder implements Comparable<Calculatio
             );
             throw new SolverException(sb.toString(), ILLEGAL_PARAMETERS);
         }
+        var event = new SolveEvent();
+        event.begin();
         ((Solver) scheme).solve(problem);
+        event.finish(this);
     }
 
     public Status getStatus() {
@@ -258,6 +264,7 @@ public class Calculation extends PropertyHolder implements Comparable<Calculatio
     }
 
     public void setModelSelectionCriterion(ModelSelectionCriterion rs) {
+        release(this.rs);
         this.rs = rs;
         rs.setParent(this);
         firePropertyChanged(this, instanceDescriptor);
@@ -268,6 +275,7 @@ public class Calculation extends PropertyHolder implements Comparable<Calculatio
     }
 
     public void setOptimiserStatistic(OptimiserStatistic os) {
+        release(this.os);
         this.os = os;
         os.setParent(this);
         initModelCriterion(os);
@@ -282,9 +290,16 @@ public class Calculation extends PropertyHolder implements Comparable<Calculatio
         return problem;
     }
 
+    /**
+     * Creates the optimiser statistic selected in the search configuration of
+     * the owning task or, if there is no owner, the default one.
+     */
     public void initOptimiser() {
-        this.setOptimiserStatistic(
-                instantiate(OptimiserStatistic.class, OptimiserStatistic.getSelectedOptimiserDescriptor()));
+        var task = (SearchTask) specificAncestor(SearchTask.class);
+        var descriptor = task != null
+                ? task.getConfiguration().getOptimiserStatisticDescriptor()
+                : OptimiserStatistic.getSelectedOptimiserDescriptor();
+        this.setOptimiserStatistic(instantiate(OptimiserStatistic.class, descriptor));
         initModelCriterion(os);
     }
 
@@ -350,6 +365,7 @@ public class Calculation extends PropertyHolder implements Comparable<Calculatio
     }
 
     public void setResult(Result result) {
+        release(this.result);
         this.result = result;
         if (result != null) {
             result.setParent(this);
@@ -381,7 +397,7 @@ public class Calculation extends PropertyHolder implements Comparable<Calculatio
     public double objectiveFunction(GeneralTask task) throws SolverException {
         process();
         os.evaluate(task);
-        return (double) os.getStatistic().getValue();
+        return os.getStatisticValue();
     }
 
     @Override
@@ -0,0 +1,343 @@
+package pulse.tasks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import pulse.search.direction.IterativeState;
+import pulse.util.ReplacingObjectOutputStream;
+import pulse.util.SessionFormat;
+
+/**
+ * Periodically saves the progress of running {@code SearchTask}s, so that an
+ * interrupted batch can be resumed later.
+ * <p>
+ * Each task has its own checkpoint file in the checkpoint directory, named
+ * after a fingerprint of the experimental data, so that measurements with the
+ * same external ID in different datasets do not share a file. At most once
+ * per checkpoint interval, the search thread copies the current and best
+ * {@code IterativeState}s, as well as the list of calculations stored by the
+ * task so far. The copy is serialised on a background thread and replaces the
+ * previous record, so that each file holds the latest record only.
+ * </p>
+ * <p>
+ * When resuming is enabled, {@code SearchTask.run()} uses the last record to
+ * restore the search parameters, the global best state and any stored
+ * calculations before the optimiser starts. Searches that have run to
+ * completion are not resumed. The checkpoint file is deleted when a search
+ * completes, when its result is stored, and when the task is cleared or
+ * removed. Checkpointing and resuming are disabled by default.
+ * </p>
+ *
+ * @see pulse.tasks.SearchTask.resume()
+ */
+public class CheckpointStore {
+
+    private static CheckpointStore instance = new CheckpointStore();
+
+    private static boolean enabled = false;
+    private static boolean resumeEnabled = false;
+    private static long intervalMillis = 30_000;
+    private static File directory = new File("Checkpoints/");
+
+    private final ExecutorService writer;
+    private final Map<Identifier, Long> lastWritten;
+
+    private CheckpointStore() {
+        writer = Executors.newSingleThreadExecutor(r -> {
+            var t = new Thread(r, "checkpoint-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        lastWritten = new ConcurrentHashMap<>();
+    }
+
+    public static CheckpointStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Saves the current search state of {@code task}, unless checkpointing is
+     * disabled or the last record for this task has been written less than one
+     * checkpoint interval ago. This should be called by the search thread
+     * between iterations: the state is copied before this method returns,
+     * and only the copy is written in the background.
+     *
+     * @param task a running task
+     */
+    public void checkpoint(SearchTask task) {
+        if (!enabled || task.getIterativeState() == null) {
+            return;
+        }
+
+        var id = task.getIdentifier();
+        long now = System.currentTimeMillis();
+        var last = lastWritten.get(id);
+
+        if (last != null && now - last < intervalMillis) {
+            return;
+        }
+
+        lastWritten.put(id, now);
+
+        var record = new Record();
+        record.current = new IterativeState(task.getIterativeState());
+        var best = task.getBestState();
+        record.best = best != null ? new IterativeState(best) : null;
+        //the stored calculations are copies, which do not change afterwards
+        record.calculations = new ArrayList<>(task.getStoredCalculations());
+        write(task, record);
+    }
+
+    /**
+     * Discards the checkpoint of a search that has completed, which should not
+     * be resumed.
+     *
+     * @param task a task that has finished its search
+     */
+    public void complete(SearchTask task) {
+        if (enabled) {
+            discard(task);
+        }
+    }
+
+    /*
+     * The record is written to a temporary file first, which then replaces
+     * the previous one
+     */
+    private void write(SearchTask task, Record record) {
+        var file = file(task);
+        writer.submit(() -> {
+            try {
+                var bytes = new ByteArrayOutputStream(4096);
+                try (var oos = new ReplacingObjectOutputStream(bytes,
+                        obj -> obj instanceof SearchTask || obj instanceof TaskManager ? null : obj)) {
+                    oos.writeObject(record);
+                }
+
+                directory.mkdirs();
+                var temp = new File(directory, file.getName() + ".tmp");
+                try (var out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                    out.writeInt(bytes.size());
+                    bytes.writeTo(out);
+                }
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                System.err.println("Unable to write checkpoint to " + file + ". Details: ");
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Reads the checkpoint file of {@code task}. Files written by earlier
+     * versions may contain several records, in which case the last complete
+     * record is used, unless it marks a completed search.
+     *
+     * @param task a task
+     * @return the latest checkpoint, or {@code null} if resuming is disabled,
+     * no checkpoint exists or the search has completed
+     */
+    public Checkpoint latest(SearchTask task) {
+        if (!resumeEnabled) {
+            return null;
+        }
+
+        var file = file(task);
+
+        if (!file.exists()) {
+            return null;
+        }
+
+        Record state = null;
+
+        try (var in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+
+            while (true) {
+                var bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+
+                Record record;
+                try (var ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    ois.setObjectInputFilter(SessionFormat.getInputFilter());
+                    record = (Record) ois.readObject();
+                }
+
+                //a completion record has no search state
+                state = record.current != null ? record : null;
+            }
+
+        } catch (EOFException e) {
+            //end of file reached
+        } catch (IOException | ClassNotFoundException e) {
+            System.err.println("Unable to read checkpoint from " + file + ". Details: ");
+            e.printStackTrace();
+        }
+
+        return state != null ? new Checkpoint(state) : null;
+    }
+
+    /**
+     * Deletes the checkpoint file of {@code task} after any pending records
+     * have been written.
+     *
+     * @param task a task
+     */
+    public void discard(SearchTask task) {
+        lastWritten.remove(task.getIdentifier());
+        var file = file(task);
+        writer.submit(() -> file.delete());
+    }
+
+    /*
+     * Uses the external ID (if available) and a digest of the raw data, which
+     * do not depend on the order in which the data has been loaded
+     */
+    private static String key(SearchTask task) {
+        var data = task.getInput();
+        var time = data.getTimeSequence();
+        var signal = data.getSignalData();
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        var point = ByteBuffer.allocate(2 * Double.BYTES);
+        for (int i = 0; i < time.size(); i++) {
+            point.clear();
+            point.putDouble(time.get(i)).putDouble(signal.get(i));
+            digest.update(point.array());
+        }
+
+        int externalId = data.getMetadata().getExternalID();
+        var sb = new StringBuilder(externalId > -1 ? "shot-" + externalId + "-" : "data-");
+        var hash = digest.digest();
+        for (int i = 0; i < 8; i++) {
+            sb.append(String.format("%02x", hash[i]));
+        }
+        return sb.toString();
+    }
+
+    private static File file(SearchTask task) {
+        return new File(directory, key(task) + ".ckpt");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        CheckpointStore.enabled = enabled;
+    }
+
+    public static boolean isResumeEnabled() {
+        return resumeEnabled;
+    }
+
+    public static void setResumeEnabled(boolean resumeEnabled) {
+        CheckpointStore.resumeEnabled = resumeEnabled;
+    }
+
+    public static long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * Sets the minimum time between two consecutive checkpoints of the same
+     * task.
+     *
+     * @param intervalMillis the interval in milliseconds
+     */
+    public static void setIntervalMillis(long intervalMillis) {
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("Illegal interval: " + intervalMillis);
+        }
+        CheckpointStore.intervalMillis = intervalMillis;
+    }
+
+    public static File getDirectory() {
+        return directory;
+    }
+
+    public static void setDirectory(File directory) {
+        CheckpointStore.directory = directory;
+    }
+
+    /**
+     * The latest saved progress of a task.
+     */
+    public static class Checkpoint {
+
+        private final IterativeState current;
+        private final IterativeState best;
+        private final List<Calculation> calculations;
+
+        private Checkpoint(Record state) {
+            this.current = state.current;
+            this.best = state.best;
+            this.calculations = state.calculations != null
+                    ? Collections.unmodifiableList(state.calculations)
+                    : Collections.emptyList();
+        }
+
+        /**
+         * @return the last saved search state
+         */
+        public IterativeState getCurrentState() {
+            return current;
+        }
+
+        /**
+         * @return the global best state at the moment the checkpoint was
+         * taken, or {@code null}
+         */
+        public IterativeState getBestState() {
+            return best;
+        }
+
+        /**
+         * @return the stored calculations, in the order they were stored
+         */
+        public List<Calculation> getCalculations() {
+            return calculations;
+        }
+
+    }
+
+    private static class Record implements Serializable {
+
+        private static final long serialVersionUID = -2095614637519187743L;
+
+        private IterativeState current;
+        private IterativeState best;
+        private List<Calculation> calculations;
+
+    }
+
+}
@@ -2,7 +2,6 @@ package pulse.tasks;
 
 import static pulse.properties.NumericProperties.derive;
 import static pulse.properties.NumericPropertyKeyword.TIME_LIMIT;
-import static pulse.search.direction.PathOptimiser.getInstance;
 import static pulse.tasks.logs.Details.ABNORMAL_DISTRIBUTION_OF_RESIDUALS;
 import static pulse.tasks.logs.Details.INCOMPATIBLE_OPTIMISER;
 import static pulse.tasks.logs.Details.INSUFFICIENT_DATA_IN_PROBLEM_STATEMENT;
@@ -33,10 +32,11 @@ import pulse.input.listeners.ExternalDatasetListener;
 import pulse.math.ParameterIdentifier;
 import pulse.math.ParameterVector;
 import pulse.problem.schemes.solvers.SolverException;
+import pulse.search.direction.IterativeState;
 import pulse.properties.NumericProperty;
 import pulse.properties.NumericPropertyKeyword;
 import pulse.search.GeneralTask;
-import pulse.search.direction.ActiveFlags;
+import pulse.search.SearchConfiguration;
 import pulse.search.statistics.CorrelationTest;
 import pulse.search.statistics.NormalityTest;
 import pulse.tasks.listeners.DataCollectionListener;
@@ -49,6 +49,10 @@ import pulse.tasks.logs.LogEntry;
 import pulse.tasks.logs.StateEntry;
 import pulse.tasks.logs.Status;
 import pulse.tasks.processing.CorrelationBuffer;
+import pulse.util.jfr.StatisticalTestEvent;
+import pulse.util.jfr.TaskRunEvent;
+import pulse.util.metrics.Counter;
+import pulse.util.metrics.Metrics;
 import static pulse.tasks.logs.Status.AWAITING_TERMINATION;
 
 /**
@@ -84,6 +88,7 @@ public class SearchTask extends GeneralTask {
      */
     private transient List<DataCollectionListener> listeners;
     private transient List<StatusChangeListener> statusChangeListeners;
+    private transient Counter evaluations;
 
     /**
      * <p>
@@ -103,7 +108,7 @@ public class SearchTask extends GeneralTask {
         curve.setParent(this);
         correlationBuffer = new CorrelationBuffer();
         initListeners();
-        clear();
+        reset();
     }
 
     private void updateThermalProperties() {
@@ -147,11 +152,23 @@ public class SearchTask extends GeneralTask {
      * curve.getTimeShift().getValue(); scheme.setTimeLimit(derive(TIME_LIMIT,
      * RELATIVE_TIME_MARGIN * curve.timeLimit() - startTime)); } });
      * </p>
+     * <p>
+     * The checkpoint of this task is discarded, so that a cleared task is not
+     * resumed from its previous search.
+     * </p>
      */
     public void clear() {
+        reset();
+        CheckpointStore.getInstance().discard(this);
+    }
+
+    private void reset() {
         stored = new ArrayList<>();
         curve.resetRanges();
         correlationBuffer.clear();
+        if (log != null) {
+            log.close();
+        }
         log = new Log(this);
 
         initCorrelationTest();
@@ -195,6 +212,7 @@ public class SearchTask extends GeneralTask {
      * @param curve the {@code ExperimentalData}.
      */
     public void setExperimentalCurve(ExperimentalData curve) {
+        release(this.curve);
         this.curve = curve;
 
         if (curve != null) {
@@ -222,7 +240,7 @@ public class SearchTask extends GeneralTask {
 
         if (status != DONE) {
 
-            var pathSolver = getInstance();
+            var pathSolver = getConfiguration().getOptimiser();
             var s = INCOMPLETE;
 
             if (current.getProblem() == null) {
@@ -237,7 +255,7 @@ public class SearchTask extends GeneralTask {
                 s.setDetails(MISSING_OPTIMISER);
             } else if (getBuffer() == null) {
                 s.setDetails(MISSING_BUFFER);
-            } else if (!getInstance().compatibleWith(current.getOptimiserStatistic())) {
+            } else if (!pathSolver.compatibleWith(current.getOptimiserStatistic())) {
                 s.setDetails(INCOMPATIBLE_OPTIMISER);
             } else {
                 s = READY;
@@ -257,6 +275,20 @@ public class SearchTask extends GeneralTask {
         return log;
     }
 
+    /**
+     * Calculates the objective function and counts this evaluation in the
+     * {@value Metrics#OBJECTIVE_EVALUATIONS} metric of this task.
+     */
+    @Override
+    public double objectiveFunction() throws SolverException {
+        if (evaluations == null) {
+            evaluations = Metrics.getInstance().counter(Metrics.OBJECTIVE_EVALUATIONS,
+                    "task", String.valueOf(identifier.getValue()));
+        }
+        evaluations.increment();
+        return super.objectiveFunction();
+    }
+
     private void notifyDataListeners(LogEntry e) {
         for (var l : listeners) {
             l.onDataCollected(e);
@@ -286,7 +318,13 @@ public class SearchTask extends GeneralTask {
 
         current.getProblem().parameterListChanged(); // get updated list of parameters
 
-        super.run();
+        var event = new TaskRunEvent();
+        event.begin();
+        try {
+            super.run();
+        } finally {
+            event.finish(this);
+        }
     }
 
     /**
@@ -305,16 +343,50 @@ public class SearchTask extends GeneralTask {
         }
     }
 
+    /**
+     * Releases the resources held by this task after it has been removed from
+     * the {@code TaskManager}.
+     */
+    void dispose() {
+        log.close();
+        CheckpointStore.getInstance().discard(this);
+        Metrics.getInstance().removeCounter(Metrics.OBJECTIVE_EVALUATIONS,
+                "task", String.valueOf(identifier.getValue()));
+    }
+
+    /**
+     * Assigns the search configuration and re-creates the normality test and
+     * the optimiser statistic of the current calculation if the configuration
+     * selects different ones.
+     */
+    @Override
+    public void setConfiguration(SearchConfiguration configuration) {
+        super.setConfiguration(configuration);
+        var c = getConfiguration();
+
+        if (!normalityTest.getDescriptor().equals(c.getNormalityTestDescriptor())) {
+            initNormalityTest();
+        }
+
+        if (!current.getOptimiserStatistic().getDescriptor().equals(c.getOptimiserStatisticDescriptor())) {
+            current.initOptimiser();
+        }
+
+        checkProblems();
+    }
+
     public NormalityTest getNormalityTest() {
         return normalityTest;
     }
 
     public void initNormalityTest() {
-        normalityTest = instantiate(NormalityTest.class, NormalityTest.getSelectedTestDescriptor());
+        release(normalityTest);
+        normalityTest = instantiate(NormalityTest.class, getConfiguration().getNormalityTestDescriptor());
         normalityTest.setParent(this);
     }
 
     public void initCorrelationTest() {
+        release(correlationTest);
         correlationTest = CorrelationTest.init();
         correlationTest.setParent(this);
     }
@@ -334,6 +406,8 @@ public class SearchTask extends GeneralTask {
     public void storeCalculation() {
         var copy = new Calculation(current);
         stored.add(copy);
+        //the result is now part of the task, so the search need not be resumed
+        CheckpointStore.getInstance().discard(this);
     }
 
     public void switchTo(Calculation calc) {
@@ -347,6 +421,34 @@ public class SearchTask extends GeneralTask {
         fireRepositoryEvent(e);
     }
 
+    /**
+     * Takes over the outcome of a search that has been run on a copy of this
+     * task elsewhere, e.g. by a remote worker. The status of {@code calc}
+     * becomes the status of this task and is logged.
+     *
+     * @param calc the final calculation of the copy
+     * @param calculations the calculations stored by the copy
+     * @see pulse.tasks.remote.Coordinator
+     */
+    public void adopt(Calculation calc, List<Calculation> calculations) {
+        current.setParent(null);
+        current = calc;
+        current.setParent(this);
+        stored = new ArrayList<>(calculations);
+        notifyStatusListeners(new StateEntry(this, calc.getStatus()));
+    }
+
+    /**
+     * Passes an entry logged by a copy of this task, which is run elsewhere,
+     * to the listeners of this task.
+     *
+     * @param e a log entry of the copy
+     * @see adopt(Calculation, List)
+     */
+    public void relay(LogEntry e) {
+        notifyDataListeners(e);
+    }
+
     /**
      * Finds the best calculation by comparing those already stored by their
      * model selection statistics.
@@ -386,6 +488,46 @@ public class SearchTask extends GeneralTask {
         notifyDataListeners(new DataLogEntry(this));
     }
 
+    @Override
+    protected void iterationCompleted() {
+        CheckpointStore.getInstance().checkpoint(this);
+    }
+
+    /**
+     * Restores the calculations stored previously (if this task has none) and
+     * the search parameters from the latest checkpoint, if resuming is enabled.
+     *
+     * @return the global best state saved in the checkpoint, or {@code null}
+     * @see pulse.tasks.CheckpointStore
+     */
+    @Override
+    protected IterativeState resume() {
+        var checkpoint = CheckpointStore.getInstance().latest(this);
+
+        if (checkpoint == null) {
+            return null;
+        }
+
+        if (stored.isEmpty()) {
+            checkpoint.getCalculations().forEach(c -> {
+                c.initListeners();
+                stored.add(c);
+            });
+        }
+
+        var state = checkpoint.getCurrentState();
+
+        try {
+            assign(state.getParameters());
+        } catch (SolverException e) {
+            System.err.println("Unable to resume " + this + " from checkpoint. Details: ");
+            e.printStackTrace();
+            return null;
+        }
+
+        return checkpoint.getBestState();
+    }
+
     @Override
     public void onSolverException(SolverException e) {
         setStatus(Status.troubleshoot(e));
@@ -429,15 +571,24 @@ public class SearchTask extends GeneralTask {
 
     @Override
     public void postProcessing() {
+        CheckpointStore.getInstance().complete(this);
+
+        var normalityEvent = new StatisticalTestEvent();
+        normalityEvent.begin();
+        boolean normal = normalityTest.test(this);
+        normalityEvent.finish(this, normalityTest, normal);
 
-        if (!normalityTest.test(this)) { // first, check if the residuals are normally-distributed
+        if (!normal) { // first, check if the residuals are normally-distributed
             var status = FAILED;
             status.setDetails(ABNORMAL_DISTRIBUTION_OF_RESIDUALS);
             setStatus(status);
         } else {
 
+            var correlationEvent = new StatisticalTestEvent();
+            correlationEvent.begin();
             var test = correlationBuffer.test(correlationTest); // second, check there are no unexpected
             // correlations
+            correlationEvent.finish(this, correlationTest, !test);
             notifyDataListeners(new CorrelationLogEntry(this));
 
             if (test) {
@@ -472,11 +623,11 @@ public class SearchTask extends GeneralTask {
      */
     @Override
     public List<NumericPropertyKeyword> activeParameters() {
-        var flags = ActiveFlags.getAllFlags();
+        var configuration = getConfiguration();
         //problem dependent
-        var allActiveParams = ActiveFlags.selectActiveAndListed(flags, current.getProblem());
+        var allActiveParams = configuration.activeAndListed(current.getProblem());
         //problem independent (lower/upper bound)
-        var listed = ActiveFlags.selectActiveAndListed(flags, curve.getRange());
+        var listed = configuration.activeAndListed(curve.getRange());
         allActiveParams.addAll(listed);
         return allActiveParams;
     }
@@ -5,6 +5,7 @@ import static java.time.format.DateTimeFormatter.ISO_WEEK_DATE;
 import static java.util.Objects.requireNonNull;
 import static pulse.io.readers.ReaderManager.curveReaders;
 import static pulse.io.readers.ReaderManager.read;
+import static pulse.tasks.listeners.TaskRepositoryEvent.State.FILE_LOADED;
 import static pulse.tasks.listeners.TaskRepositoryEvent.State.SHUTDOWN;
 import static pulse.tasks.listeners.TaskRepositoryEvent.State.TASK_ADDED;
 import static pulse.tasks.listeners.TaskRepositoryEvent.State.TASK_FINISHED;
@@ -24,8 +25,9 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import pulse.input.ExperimentalData;
@@ -50,6 +52,7 @@ import pulse.tasks.logs.Status;
 import static pulse.tasks.logs.Status.AWAITING_TERMINATION;
 import pulse.tasks.processing.Result;
 import pulse.tasks.processing.ResultFormat;
+import pulse.tasks.remote.Coordinator;
 import pulse.util.Group;
 import pulse.util.HierarchyListener;
 import pulse.util.PropertyHolder;
@@ -80,6 +83,7 @@ public final class TaskManager extends UpwardsNavigable {
     private transient List<ExternalDatasetListener> externalListeners;
 
     private static TaskManager instance = new TaskManager();
+    private static Coordinator coordinator;
     
     private static List<SessionListener> globalListeners = new ArrayList<>();
     
@@ -148,11 +152,15 @@ public final class TaskManager extends UpwardsNavigable {
     }
 
     /**
-     * <t>Executes {@code t} asynchronously using a {@code CompletableFuture}.
+     * <t>Executes {@code t} asynchronously using a {@code CompletableFuture}
+     * once the {@code AdmissionControl} has found enough memory for it, or
+     * passes it to the remote workers if a {@code Coordinator} is set.
      * When done, creates a {@code Result} and puts it into the
      * {@code Map(SearchTask,Result)} in this {@code TaskManager}.</t>
      *
      * @param t a {@code SearchTask} that will be executed
+     * @see AdmissionControl
+     * @see complete(SearchTask)
      */
     public void execute(SearchTask t) {
         t.checkProblems();
@@ -166,30 +174,47 @@ public final class TaskManager extends UpwardsNavigable {
         // notify listeners calculation started
         notifyListeners(new TaskRepositoryEvent(TASK_SUBMITTED, t.getIdentifier()));
 
-        // run task t -- after task completed, write result and trigger listeners
-        CompletableFuture.runAsync(t).thenRun(() -> {
-            Calculation current = (Calculation) t.getResponse();
-            var e = new TaskRepositoryEvent(TASK_FINISHED, t.getIdentifier());
-            if (null == current.getStatus()) {
-                notifyListeners(e);
-            } else {
-                switch (current.getStatus()) {
-                    case DONE:
-                        current.setResult(new Result(t, ResultFormat.getInstance()));
-                        //notify listeners before the task is re-assigned
-                        notifyListeners(e);
-                        t.storeCalculation();
-                        break;
-                    case AWAITING_TERMINATION:
-                        t.setStatus(Status.TERMINATED);
-                        break;
-                    default:
-                        notifyListeners(e);
-                        break;
-                }
-            }
-        });
+        if (coordinator != null) {
+            coordinator.submit(t);
+            return;
+        }
 
+        // run task t when admitted -- after task completed, write result and trigger listeners
+        var admission = AdmissionControl.getInstance();
+        admission.submit(t, () -> CompletableFuture.runAsync(t)
+                .whenComplete((v, ex) -> admission.release(t)).thenRun(() -> complete(t)));
+
+    }
+
+    /**
+     * Processes a task that has finished running, either locally or on a
+     * remote worker. If the task is {@code DONE}, creates its {@code Result}
+     * and stores the calculation. Notifies the listeners that the task has
+     * finished, unless it has been terminated.
+     *
+     * @param t a finished task
+     */
+    public void complete(SearchTask t) {
+        Calculation current = (Calculation) t.getResponse();
+        var e = new TaskRepositoryEvent(TASK_FINISHED, t.getIdentifier());
+        if (null == current.getStatus()) {
+            notifyListeners(e);
+        } else {
+            switch (current.getStatus()) {
+                case DONE:
+                    current.setResult(new Result(t, ResultFormat.getInstance()));
+                    //notify listeners before the task is re-assigned
+                    notifyListeners(e);
+                    t.storeCalculation();
+                    break;
+                case AWAITING_TERMINATION:
+                    t.setStatus(Status.TERMINATED);
+                    break;
+                default:
+                    notifyListeners(e);
+                    break;
+            }
+        }
     }
 
     /**
@@ -275,6 +300,8 @@ public final class TaskManager extends UpwardsNavigable {
             notifyListeners(e);
         });
 
+        tasks.forEach(AdmissionControl.getInstance()::withdraw);
+        tasks.forEach(SearchTask::dispose);
         tasks.clear();
         selectTask(null, null);
     }
@@ -369,7 +396,20 @@ public final class TaskManager extends UpwardsNavigable {
      * @see pulse.io.readers.ReaderManager.extract(File)
      */
     public void generateTask(File file) {
-        var curves = read(curveReaders(), file);
+        createTasks(read(curveReaders(), file));
+    }
+
+    /**
+     * Creates and adds a task for each of the {@code curves}, firing a
+     * {@code DATA_LOADED} event for each curve beforehand.
+     *
+     * @param curves the experimental data read from a single file
+     * @see generateTask(File)
+     */
+    private void createTasks(List<ExperimentalData> curves) {
+        if (curves == null) {
+            return;
+        }
         //notify curves have been loaded
         curves.stream().forEach(c -> c.fireDataChanged(new DataEvent(
                 DataEventType.DATA_LOADED, c
@@ -387,26 +427,46 @@ public final class TaskManager extends UpwardsNavigable {
 
     /**
      * Generates multiple tasks from multiple {@code files}.
+     * <p>
+     * The files are parsed concurrently on a pool bounded by the number of
+     * available processors. Tasks are then created and added by a single
+     * loader thread in the order in which the {@code files} are listed, so that
+     * the resulting task order does not depend on which file has been parsed
+     * first. A {@code FILE_LOADED} event is triggered after each file has been
+     * processed, regardless of whether it produced any tasks.
+     * </p>
      *
      * @param files a list of {@code File}s that can be parsed down to
      * {@code ExperimentalData}.
      */
     public void generateTasks(List<File> files) {
         requireNonNull(files, "Null list of files passed to generatesTasks(...)");
-        
+
         //this is the loader runnable submitted to the executor service
         Runnable loader = () -> {
-            var pool = Executors.newSingleThreadExecutor();
-            files.stream().forEach(f -> pool.submit(() -> generateTask(f)));
+            int threads = Math.max(1, Math.min(files.size(), Runtime.getRuntime().availableProcessors()));
+            var pool = Executors.newFixedThreadPool(threads);
+
+            var parsed = new ArrayList<Future<List<ExperimentalData>>>(files.size());
+            files.stream().forEach(f -> parsed.add(pool.submit(() -> read(curveReaders(), f))));
             pool.shutdown();
 
-            try {
-                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
-            } catch (InterruptedException ex) {
-                Logger.getLogger(TaskManager.class.getName()).log(Level.SEVERE, null, ex);
+            //tasks are created sequentially in the order of files
+            for (int i = 0; i < parsed.size(); i++) {
+                try {
+                    createTasks(parsed.get(i).get());
+                } catch (ExecutionException ex) {
+                    System.err.println("Unable to load " + files.get(i) + ". Details: ");
+                    ex.getCause().printStackTrace();
+                } catch (InterruptedException ex) {
+                    Logger.getLogger(TaskManager.class.getName()).log(Level.SEVERE, null, ex);
+                    pool.shutdownNow();
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                notifyListeners(new TaskRepositoryEvent(FILE_LOADED, null));
             }
 
-            //when pool has been shutdown
             selectFirstTask();
 
         };
@@ -457,6 +517,8 @@ public final class TaskManager extends UpwardsNavigable {
         }
 
         tasks.remove(t);
+        AdmissionControl.getInstance().withdraw(t);
+        t.dispose();
 
         var e = new TaskRepositoryEvent(TASK_REMOVED, t.getIdentifier());
 
@@ -595,6 +657,21 @@ public final class TaskManager extends UpwardsNavigable {
         globalListeners.clear();
     }
 
+    public static Coordinator getCoordinator() {
+        return coordinator;
+    }
+
+    /**
+     * Sets the coordinator, which will run the executed tasks on remote
+     * workers.
+     *
+     * @param coordinator a coordinator, or {@code null} to run the tasks in
+     * this JVM
+     */
+    public static void setCoordinator(Coordinator coordinator) {
+        TaskManager.coordinator = coordinator;
+    }
+
     /**
      * Sets the flag to isolate or inter-connects changes in all instances of
      * {@code PropertyHolder}
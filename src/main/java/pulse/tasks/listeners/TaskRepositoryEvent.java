@@ -25,6 +25,11 @@ public class TaskRepositoryEvent {
          * Indicates a task has been added to the repository.
          */
         TASK_ADDED,
+        /**
+         * A data file has been processed, and tasks (if any) have been created
+         * from its contents. The task identifier is not set for this event.
+         */
+        FILE_LOADED,
         /**
          * A task has been removed from the repository.
          */
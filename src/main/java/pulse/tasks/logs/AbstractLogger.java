@@ -1,6 +1,8 @@
 package pulse.tasks.logs;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import javax.swing.JComponent;
@@ -10,8 +12,20 @@ import pulse.util.Descriptive;
 
 public abstract class AbstractLogger implements Descriptive, Serializable {
 
+    /**
+     * The number of older entries read back at a time
+     */
+    private final static int PAGE_SIZE = 100;
+
     private ExecutorService updateExecutor;
 
+    /**
+     * The log posted by {@code postAll()} and the index of its first entry
+     * that has been posted
+     */
+    private Log shown;
+    private int firstShown;
+
     public AbstractLogger() {
         updateExecutor = newSingleThreadExecutor();
     }
@@ -39,8 +53,15 @@ public abstract class AbstractLogger implements Descriptive, Serializable {
         updateExecutor.submit(() -> update());
     }
 
+    /**
+     * Posts the entries of the log of the selected task, replacing those
+     * posted before. Only the entries held in memory are posted; the older
+     * ones, which have been spilled to the disk, are read back page by page
+     * with {@link #postEarlier()}.
+     */
     public void postAll() {
         clear();
+        shown = null;
 
         var task = TaskManager.getManagerInstance().getSelectedTask();
 
@@ -50,7 +71,11 @@ public abstract class AbstractLogger implements Descriptive, Serializable {
 
             if (log.isStarted()) {
 
-                log.getLogEntries().stream().forEach(entry -> post(entry));
+                var entries = log.getLogEntries();
+                int size = entries.size();
+                shown = log;
+                firstShown = Math.min(log.firstEntryInMemory(), size);
+                entries.subList(firstShown, size).forEach(entry -> post(entry));
 
                 if (task.getStatus() == DONE) {
                     printTimeTaken(log);
@@ -62,6 +87,37 @@ public abstract class AbstractLogger implements Descriptive, Serializable {
 
     }
 
+    /**
+     * @return {@code true} if the log posted by {@code postAll()} has older
+     * entries which have not been posted yet
+     */
+    public boolean hasEarlierEntries() {
+        return shown != null && firstShown > 0;
+    }
+
+    /**
+     * Reads back the entries preceding those already posted, up to a page at
+     * a time, and puts them in front of the others. This should be called
+     * when these entries are about to be seen, e.g. when the log is scrolled
+     * to the top.
+     */
+    public void postEarlier() {
+        if (!hasEarlierEntries()) {
+            return;
+        }
+
+        var entries = shown.getLogEntries();
+        if (entries.size() < firstShown) {
+            //the log has been closed
+            shown = null;
+            return;
+        }
+
+        int from = Math.max(0, firstShown - PAGE_SIZE);
+        prepend(new ArrayList<>(entries.subList(from, firstShown)));
+        firstShown = from;
+    }
+
     @Override
     public String describe() {
         var task = TaskManager.getManagerInstance().getSelectedTask();
@@ -76,6 +132,13 @@ public abstract class AbstractLogger implements Descriptive, Serializable {
 
     public abstract void post(String text);
 
+    /**
+     * Posts {@code entries} in front of all entries posted so far.
+     *
+     * @param entries consecutive log entries, oldest first
+     */
+    protected abstract void prepend(List<LogEntry> entries);
+
     public abstract void clear();
 
     public abstract boolean isEmpty();
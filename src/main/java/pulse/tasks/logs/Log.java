@@ -1,8 +1,13 @@
 package pulse.tasks.logs;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.time.LocalTime;
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.SECONDS;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -24,15 +29,30 @@ import pulse.util.Group;
 public class Log extends Group {
 
     private static final long serialVersionUID = 420096365502122145L;
-    private List<LogEntry> logEntries;
+    private transient LogBuffer logEntries;
     private LocalTime start;
     private LocalTime end;
     private Identifier id;
     private boolean finished;
     private transient List<LogEntryListener> listeners;
 
+    /**
+     * The log entries are serialised as a plain list, including those stored on
+     * the disk.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("logEntries", List.class),
+        new ObjectStreamField("start", LocalTime.class),
+        new ObjectStreamField("end", LocalTime.class),
+        new ObjectStreamField("id", Identifier.class),
+        new ObjectStreamField("finished", boolean.class)
+    };
+
     private static boolean graphical = true;
 
+    private static int inMemoryCapacity = 2048;
+    private static boolean spillEnabled = true;
+
     /**
      * Creates a {@code Log} for this {@code task} that will automatically store
      * {@code TaskStatEvent}s and a list of {@code DataLogEntr}ies in
@@ -47,7 +67,7 @@ public class Log extends Group {
         setParent(task);
         id = task.getIdentifier();
 
-        this.logEntries = new CopyOnWriteArrayList<>();
+        this.logEntries = new LogBuffer(inMemoryCapacity, spillEnabled);
         initListeners();
     }
 
@@ -162,19 +182,41 @@ public class Log extends Group {
         sb.append(newLine);
         sb.append(newLine);
 
-        logEntries.stream().map(le -> {
+        for (var le : logEntries.asList()) {
             sb.append(le);
-            return le;
-        }).forEachOrdered(_item -> {
             sb.append(newLine);
-        });
+        }
 
         return sb.toString();
 
     }
 
+    /**
+     * Retrieves a read-only view of the entries in this {@code Log}. Older
+     * entries, which are no longer kept in memory, are loaded from the disk
+     * when the list is traversed.
+     *
+     * @return a list view of the log entries
+     * @see pulse.tasks.logs.LogBuffer
+     */
     public List<LogEntry> getLogEntries() {
-        return logEntries;
+        return logEntries.asList();
+    }
+
+    /**
+     * @return the index of the oldest entry held in memory; the entries
+     * preceding it are read from the disk when accessed
+     */
+    public int firstEntryInMemory() {
+        return logEntries.spilledEntries();
+    }
+
+    /**
+     * Discards the entries of this {@code Log} and deletes the temporary file
+     * used to store the older ones. Entries collected afterwards are ignored.
+     */
+    public void close() {
+        logEntries.close();
     }
 
     /**
@@ -200,10 +242,10 @@ public class Log extends Group {
     /**
      * Finds the last recorded entry in this {@code Log}.
      *
-     * @return last recorded entry.
+     * @return last recorded entry, or {@code null} if the log is empty.
      */
     public LogEntry lastEntry() {
-        return logEntries.stream().reduce((first, second) -> second).get();
+        return logEntries.last();
     }
 
     /**
@@ -228,6 +270,64 @@ public class Log extends Group {
         Log.graphical = verbose;
     }
 
+    /**
+     * @return the maximum number of log entries kept in memory
+     */
+    public static int getInMemoryCapacity() {
+        return inMemoryCapacity;
+    }
+
+    /**
+     * Sets the maximum number of entries that new logs keep in memory.
+     *
+     * @param capacity a positive number
+     */
+    public static void setInMemoryCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        Log.inMemoryCapacity = capacity;
+    }
+
+    /**
+     * Checks whether entries that do not fit into memory are written to a
+     * temporary file (the default) rather than discarded.
+     *
+     * @return {@code true} if spilling to disk is enabled
+     */
+    public static boolean isSpillEnabled() {
+        return spillEnabled;
+    }
+
+    public static void setSpillEnabled(boolean spillEnabled) {
+        Log.spillEnabled = spillEnabled;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        var fields = out.putFields();
+        fields.put("logEntries", new ArrayList<>(logEntries.asList()));
+        fields.put("start", start);
+        fields.put("end", end);
+        fields.put("id", id);
+        fields.put("finished", finished);
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        var fields = in.readFields();
+        start = (LocalTime) fields.get("start", null);
+        end = (LocalTime) fields.get("end", null);
+        id = (Identifier) fields.get("id", null);
+        finished = fields.get("finished", false);
+
+        logEntries = new LogBuffer(inMemoryCapacity, spillEnabled);
+        var list = (List<LogEntry>) fields.get("logEntries", null);
+        if (list != null) {
+            list.forEach(logEntries::add);
+        }
+    }
+
     /**
      * Time taken where the first array element contains seconds [0] and the
      * second contains milliseconds [1].
@@ -0,0 +1,383 @@
+package pulse.tasks.logs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An append-only storage for {@code LogEntr}ies. Only the most recent entries
+ * are kept in memory, up to a configurable {@code capacity}. Older entries are
+ * either spilled to a temporary file, from which they are read back on demand,
+ * or discarded if spilling is disabled.
+ * <p>
+ * Appending an entry and retrieving the last entry are constant-time
+ * operations. The evicted entries are serialised and written by a background
+ * thread shared by all buffers, so that appending never waits for the disk;
+ * until then, they remain accessible from memory. All methods are
+ * thread-safe. A {@code LogBuffer} is not serialised directly -- the
+ * {@code Log} stores a plain list of its entries instead.
+ * </p>
+ *
+ * @see pulse.tasks.logs.Log
+ */
+public class LogBuffer {
+
+    private static final ExecutorService SPILL_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        var thread = new Thread(r, "log-spill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int capacity;
+    private final boolean spill;
+
+    /**
+     * A ring of in-memory entries, where {@code head} is the index of the
+     * oldest entry in memory and {@code count} is the number of entries
+     */
+    private LogEntry[] ring;
+    private int head;
+    private int count;
+    private volatile LogEntry last;
+
+    /**
+     * The entries evicted from the ring, which are yet to be written to the
+     * disk, and the number of entries already written
+     */
+    private final List<LogEntry> pending;
+    private int written;
+    private int dropped;
+
+    private boolean flushing;
+    private boolean closed;
+    /**
+     * Incremented when the buffer is cleared, so that a write in progress can
+     * tell that its entries are gone
+     */
+    private int generation;
+
+    private File spillFile;
+    private FileChannel spillStorage;
+    private long spillEnd;
+    private long[] offsets;
+
+    /**
+     * Creates an empty {@code LogBuffer}.
+     *
+     * @param capacity the maximum number of entries stored in memory
+     * @param spill if {@code true}, entries that do not fit into memory will be
+     * written to a temporary file; otherwise, they will be discarded
+     */
+    public LogBuffer(int capacity, boolean spill) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        this.capacity = capacity;
+        this.spill = spill;
+        this.pending = new ArrayList<>();
+        init();
+    }
+
+    private void init() {
+        ring = new LogEntry[Math.min(capacity, 64)];
+        head = 0;
+        count = 0;
+        offsets = new long[0];
+    }
+
+    /**
+     * Appends {@code entry} to this buffer. If the in-memory capacity is
+     * exceeded, the oldest in-memory entry will be evicted. Does nothing if
+     * this buffer has been closed.
+     *
+     * @param entry a log entry
+     */
+    public synchronized void add(LogEntry entry) {
+        if (closed) {
+            return;
+        }
+
+        if (count == capacity) {
+            var oldest = ring[head];
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+            count--;
+
+            if (spill) {
+                pending.add(oldest);
+                if (!flushing) {
+                    flushing = true;
+                    SPILL_EXECUTOR.execute(this::flush);
+                }
+            } else {
+                dropped++;
+            }
+
+        } else if (count == ring.length) {
+            grow();
+        }
+
+        ring[(head + count) % ring.length] = entry;
+        count++;
+        last = entry;
+    }
+
+    /**
+     * @return the last appended entry, or {@code null} if this buffer is empty
+     */
+    public LogEntry last() {
+        return last;
+    }
+
+    /**
+     * @return the number of accessible entries, including those spilled to
+     * disk
+     */
+    public synchronized int size() {
+        return written + pending.size() + count;
+    }
+
+    public synchronized boolean isEmpty() {
+        return count == 0;
+    }
+
+    private void grow() {
+        var newRing = new LogEntry[Math.min(capacity, ring.length * 2)];
+        for (int i = 0; i < count; i++) {
+            newRing[i] = ring[(head + i) % ring.length];
+        }
+        ring = newRing;
+        head = 0;
+    }
+
+    /**
+     * Retrieves an entry at {@code index}, loading it from the disk if
+     * necessary.
+     *
+     * @param index the index of the entry, where {@code 0} corresponds to the
+     * oldest accessible entry
+     * @return the log entry
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public synchronized LogEntry get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+
+        int evicted = written + pending.size();
+
+        if (index >= evicted) {
+            return ring[(head + index - evicted) % ring.length];
+        }
+
+        return index >= written ? pending.get(index - written) : read(index);
+    }
+
+    /**
+     * Creates a read-only view of this buffer. Entries spilled to the disk are
+     * loaded lazily, when the view is traversed.
+     *
+     * @return a list view backed by this buffer
+     */
+    public List<LogEntry> asList() {
+        return new ListView();
+    }
+
+    /**
+     * @return the number of entries that have been discarded
+     */
+    public synchronized int droppedEntries() {
+        return dropped;
+    }
+
+    /**
+     * @return the number of entries that have been written to the disk
+     */
+    public synchronized int spilledEntries() {
+        return written;
+    }
+
+    /**
+     * Deletes the spill file, if it exists, and discards all entries.
+     */
+    public synchronized void clear() {
+        ring = new LogEntry[Math.min(capacity, 64)];
+        head = 0;
+        count = 0;
+        last = null;
+        pending.clear();
+        written = 0;
+        dropped = 0;
+        generation++;
+        offsets = new long[0];
+        closeStorage();
+    }
+
+    /**
+     * Discards all entries and deletes the spill file, if it exists. Any
+     * entries added afterwards will be ignored.
+     */
+    public synchronized void close() {
+        closed = true;
+        clear();
+    }
+
+    /**
+     * Writes the pending entries to the disk in batches. Only the bookkeeping
+     * is done while holding the lock, so that {@link #add(LogEntry)} is not
+     * blocked by serialisation or disk access.
+     */
+    private void flush() {
+        while (true) {
+            final List<LogEntry> batch;
+            final int batchGeneration;
+            final FileChannel channel;
+            final long position;
+
+            synchronized (this) {
+                if (closed || pending.isEmpty()) {
+                    flushing = false;
+                    return;
+                }
+
+                batch = new ArrayList<>(pending);
+                batchGeneration = generation;
+
+                try {
+                    openStorage();
+                } catch (IOException e) {
+                    System.err.println("Unable to spill log entries to disk. Details: ");
+                    e.printStackTrace();
+                    discard(batch.size());
+                    continue;
+                }
+
+                channel = spillStorage;
+                position = spillEnd;
+            }
+
+            var starts = new long[batch.size()];
+            var bytes = new ByteArrayOutputStream(256 * batch.size());
+            IOException failure = null;
+
+            try {
+                for (int i = 0; i < starts.length; i++) {
+                    starts[i] = position + bytes.size();
+                    try (var oos = new ObjectOutputStream(bytes)) {
+                        oos.writeObject(batch.get(i));
+                    }
+                }
+
+                var buffer = ByteBuffer.wrap(bytes.toByteArray());
+                for (long p = position; buffer.hasRemaining();) {
+                    p += channel.write(buffer, p);
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+
+            synchronized (this) {
+                if (batchGeneration != generation) {
+                    //cleared in the meantime
+                    continue;
+                }
+
+                if (failure != null) {
+                    System.err.println("Unable to spill log entries to disk. Details: ");
+                    failure.printStackTrace();
+                    discard(batch.size());
+                    continue;
+                }
+
+                if (written + starts.length > offsets.length) {
+                    offsets = Arrays.copyOf(offsets, Math.max(written + starts.length, offsets.length * 2));
+                }
+                System.arraycopy(starts, 0, offsets, written, starts.length);
+                written += starts.length;
+                spillEnd = position + bytes.size();
+                pending.subList(0, starts.length).clear();
+            }
+        }
+    }
+
+    private void discard(int n) {
+        pending.subList(0, n).clear();
+        dropped += n;
+    }
+
+    private void openStorage() throws IOException {
+        if (spillStorage == null) {
+            spillFile = File.createTempFile("pulse-log-", ".bin");
+            spillFile.deleteOnExit();
+            spillStorage = FileChannel.open(spillFile.toPath(),
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            spillEnd = 0;
+        }
+    }
+
+    private LogEntry read(int index) {
+        long start = offsets[index];
+        long end = index + 1 < written ? offsets[index + 1] : spillEnd;
+        var buffer = ByteBuffer.allocate((int) (end - start));
+
+        try {
+            for (long p = start; buffer.hasRemaining();) {
+                int n = spillStorage.read(buffer, p);
+                if (n < 0) {
+                    throw new IOException("Unexpected end of the log spill file");
+                }
+                p += n;
+            }
+
+            try (var ois = new ObjectInputStream(new ByteArrayInputStream(buffer.array()))) {
+                return (LogEntry) ois.readObject();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void closeStorage() {
+        if (spillStorage != null) {
+            try {
+                spillStorage.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            spillFile.delete();
+            spillStorage = null;
+            spillFile = null;
+        }
+    }
+
+    private class ListView extends AbstractList<LogEntry> implements RandomAccess {
+
+        @Override
+        public LogEntry get(int index) {
+            return LogBuffer.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return LogBuffer.this.size();
+        }
+
+    }
+
+}
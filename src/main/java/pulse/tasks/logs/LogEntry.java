@@ -23,7 +23,6 @@ public class LogEntry implements Serializable {
     private static final long serialVersionUID = -6797821686964650045L;
     private final Identifier identifier;
     private final LocalTime time;
-    private final LogEntry previous;
 
     /**
      * <p>
@@ -37,16 +36,6 @@ public class LogEntry implements Serializable {
         Objects.requireNonNull(t, Messages.getString("LogEntry.NullTaskError"));
         time = LocalDateTime.now().toLocalTime();
         identifier = t.getIdentifier();
-        var list = t.getLog().getLogEntries();
-        if (list != null && !list.isEmpty()) {
-            previous = list.get(list.size() - 1);
-        } else {
-            previous = null;
-        }
-    }
-
-    public LogEntry getPreviousEntry() {
-        return previous;
     }
 
     public Identifier getIdentifier() {
@@ -1,6 +1,7 @@
 package pulse.tasks.processing;
 
 import static pulse.properties.NumericProperties.def;
+import static pulse.properties.NumericProperties.defaultValue;
 import static pulse.properties.NumericProperties.derive;
 import static pulse.properties.NumericProperty.requireType;
 import static pulse.properties.NumericPropertyKeyword.BUFFER_SIZE;
@@ -19,6 +20,7 @@ import static pulse.properties.NumericPropertyKeyword.OBJECTIVE_FUNCTION;
 import pulse.properties.Property;
 import pulse.search.GeneralTask;
 import pulse.util.PropertyHolder;
+import pulse.util.jfr.BufferFillEvent;
 
 /**
  * A {@code Buffer} is used to estimate the convergence of the reverse problem
@@ -35,7 +37,7 @@ public class Buffer extends PropertyHolder {
     private static final long serialVersionUID = 3613745885879508057L;
     private ParameterVector[] data;
     private double[] statistic;
-    private static int size = (int) def(BUFFER_SIZE).getValue();
+    private static int size = defaultValue(BUFFER_SIZE).intValue();
 
     /**
      * Creates a {@code Buffer} with a default size.
@@ -57,6 +59,16 @@ public class Buffer extends PropertyHolder {
 	 * Re-inits the storage.
      */
     public final void init() {
+        init(size);
+    }
+
+    /**
+     * Re-inits the storage with a specific number of cells, which may differ
+     * from the default buffer size.
+     *
+     * @param size the number of cells
+     */
+    public final void init(int size) {
         this.data = new ParameterVector[size];
         statistic = new double[size];
     }
@@ -70,9 +82,12 @@ public class Buffer extends PropertyHolder {
      * @param bufferElement the {@code bufferElement} which will be written over
      */
     public final void fill(GeneralTask t, int bufferElement) {
-        statistic[bufferElement] = (double) t.getResponse()
-                .getOptimiserStatistic().getStatistic().getValue();
+        var event = new BufferFillEvent();
+        event.begin();
+        statistic[bufferElement] = t.getResponse()
+                .getOptimiserStatistic().getStatisticValue();
         data[bufferElement] = t.searchVector();
+        event.finish(t, bufferElement, statistic[bufferElement]);
     }
 
     /**
@@ -175,6 +190,16 @@ public class Buffer extends PropertyHolder {
         return derive(BUFFER_SIZE, size);
     }
 
+    /**
+     * Gets the buffer size as a primitive value.
+     *
+     * @return the buffer size
+     * @see getSize()
+     */
+    public static int getSizeValue() {
+        return size;
+    }
+
     /**
      * Sets a new size for this {@code Buffer}.
      *
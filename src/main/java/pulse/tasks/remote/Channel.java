@@ -0,0 +1,191 @@
+package pulse.tasks.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import pulse.tasks.SearchTask;
+import pulse.tasks.TaskManager;
+import pulse.util.SessionFormat;
+
+/**
+ * A connection between the {@code Coordinator} and a {@code Worker}.
+ * <p>
+ * Each message consists of a type byte, the identifier of the task it
+ * relates to, the length of the payload and the payload. Objects are sent
+ * serialised with {@code SessionFormat.serialise(Object, List)}, where the
+ * task, the {@code TaskManager} and its datasets are replaced by tokens
+ * standing for their counterparts on the other side (see
+ * {@link #shared(SearchTask)}). A message longer than
+ * {@value MAX_PAYLOAD} bytes is rejected before its payload is read.
+ * </p>
+ */
+class Channel implements Closeable {
+
+    /**
+     * The version of the protocol, which the worker sends when connecting
+     */
+    final static int VERSION = 2;
+
+    /**
+     * The maximum length of a payload, which guards against corrupt or
+     * hostile length fields
+     */
+    final static int MAX_PAYLOAD = 64 << 20;
+
+    /**
+     * Worker to coordinator: the protocol version and the shared secret
+     */
+    final static byte HELLO = 0;
+
+    /**
+     * Coordinator to worker: the specific heat and density datasets
+     */
+    final static byte SETUP = 1;
+
+    /**
+     * Coordinator to worker: a serialised task to run and its search
+     * configuration
+     */
+    final static byte TASK = 2;
+
+    /**
+     * Coordinator to worker: terminate the running task
+     */
+    final static byte CANCEL = 3;
+
+    /**
+     * Worker to coordinator: the new status of the running task
+     */
+    final static byte STATUS = 4;
+
+    /**
+     * Worker to coordinator: a log entry of the running task
+     */
+    final static byte LOG = 5;
+
+    /**
+     * Worker to coordinator: the final and stored calculations of a finished
+     * task
+     */
+    final static byte RESULT = 6;
+
+    /**
+     * Worker to coordinator: the task could not be run
+     */
+    final static byte ERROR = 7;
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    Channel(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    synchronized void send(byte type, int id, byte[] payload) throws IOException {
+        out.writeByte(type);
+        out.writeInt(id);
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.flush();
+    }
+
+    /**
+     * Waits for the next message.
+     *
+     * @return the message
+     * @throws IOException if the connection is closed or broken, or if the
+     * message is longer than {@value MAX_PAYLOAD} bytes
+     */
+    Message receive() throws IOException {
+        return receive(MAX_PAYLOAD);
+    }
+
+    /**
+     * Waits for the next message, which may not be longer than
+     * {@code maxLength}.
+     *
+     * @param maxLength the maximum length of the payload
+     * @return the message
+     * @throws IOException if the connection is closed or broken, or if the
+     * message is too long
+     */
+    Message receive(int maxLength) throws IOException {
+        byte type = in.readByte();
+        int id = in.readInt();
+        int length = in.readInt();
+        if (length < 0 || length > maxLength) {
+            throw new IOException("Invalid message length " + length + " from " + getRemoteAddress());
+        }
+        var payload = new byte[length];
+        in.readFully(payload);
+        return new Message(type, id, payload);
+    }
+
+    /**
+     * Sets the time after which {@link #receive()} fails if no data arrive.
+     *
+     * @param millis the timeout in milliseconds, or 0 to wait indefinitely
+     * @throws IOException if the timeout cannot be set
+     */
+    void setTimeout(int millis) throws IOException {
+        socket.setSoTimeout(millis);
+    }
+
+    String getRemoteAddress() {
+        return String.valueOf(socket.getRemoteSocketAddress());
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            //nothing to do
+        }
+    }
+
+    /**
+     * Lists the objects which are not sent with the objects related to
+     * {@code t}.
+     *
+     * @param t a task
+     * @return {@code t}, the task manager and its datasets
+     */
+    static List<Object> shared(SearchTask t) {
+        var shared = new ArrayList<Object>();
+        shared.add(t);
+        shared.addAll(SessionFormat.shared(TaskManager.getManagerInstance()));
+        return shared;
+    }
+
+    static class Message {
+
+        final byte type;
+        final int id;
+        final byte[] payload;
+
+        Message(byte type, int id, byte[] payload) {
+            this.type = type;
+            this.id = id;
+            this.payload = payload;
+        }
+
+        String text() {
+            return new String(payload, StandardCharsets.UTF_8);
+        }
+
+    }
+
+}
@@ -0,0 +1,512 @@
+package pulse.tasks.remote;
+
+import static pulse.tasks.logs.Status.AWAITING_TERMINATION;
+import static pulse.tasks.logs.Status.EXECUTION_ERROR;
+import static pulse.tasks.logs.Status.IN_PROGRESS;
+import static pulse.tasks.logs.Status.QUEUED;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import pulse.tasks.Calculation;
+import pulse.tasks.SearchTask;
+import pulse.tasks.TaskManager;
+import pulse.tasks.logs.LogEntry;
+import pulse.tasks.logs.Status;
+import pulse.util.SessionFormat;
+
+/**
+ * Distributes the executed tasks among {@code Worker} processes, which may run
+ * on this or other hosts.
+ * <p>
+ * The coordinator listens for workers on a TCP port. When a task is
+ * submitted, a copy of it is serialised, including its data, problem
+ * statement, difference scheme and search configuration. Each connected worker
+ * is sent one task at a time. The status changes and log entries of the
+ * remote task are relayed to the local one, and when the remote task
+ * finishes, its calculations are adopted by the local task, which is then
+ * completed by the {@code TaskManager} as if it had run locally.
+ * </p>
+ * <p>
+ * If a worker is lost while running a task, the task is put back at the head
+ * of the queue and sent to another worker, up to {@value MAX_ATTEMPTS} times.
+ * If its reply cannot be processed, the task fails. Terminating a local task
+ * terminates its remote copy.
+ * </p>
+ * <p>
+ * By default, the coordinator only listens on the loopback address. Workers
+ * must present a shared secret when connecting, and the objects they send
+ * are only deserialised if their classes pass the filter of
+ * {@code SessionFormat}.
+ * </p>
+ *
+ * @see TaskManager#setCoordinator(Coordinator)
+ */
+public class Coordinator implements Closeable {
+
+    /**
+     * The system property with the port to listen on. If set, the launcher
+     * starts a coordinator.
+     */
+    public final static String PORT_PROPERTY = "pulse.coordinator.port";
+
+    /**
+     * The system property with the number of worker processes to launch on
+     * this host
+     */
+    public final static String LOCAL_WORKERS_PROPERTY = "pulse.coordinator.localWorkers";
+
+    /**
+     * The system property with the address to listen on. The loopback address
+     * is used if it is not set.
+     */
+    public final static String BIND_ADDRESS_PROPERTY = "pulse.coordinator.bindAddress";
+
+    /**
+     * The system property with the secret shared with the workers. A random
+     * secret, which only the local workers are given, is used if it is not
+     * set.
+     */
+    public final static String SECRET_PROPERTY = "pulse.coordinator.secret";
+
+    /**
+     * The environment variable, which the workers read the secret from if
+     * {@value SECRET_PROPERTY} is not set
+     */
+    public final static String SECRET_VARIABLE = "PULSE_COORDINATOR_SECRET";
+
+    private final static int MAX_ATTEMPTS = 3;
+    private final static int HANDSHAKE_TIMEOUT = 10000;
+    private final static int MAX_HELLO = 1024;
+
+    private final ServerSocket server;
+    private final String secret;
+    private final BlockingDeque<Job> queue;
+    private final List<Connection> connections;
+    private final List<Process> processes;
+    private final Set<SearchTask> hooked;
+    private volatile boolean closed;
+
+    /**
+     * Starts listening for workers on the loopback address, with a random
+     * secret.
+     *
+     * @param port the port number, or 0 to use any free port
+     * @throws IOException if the port cannot be bound
+     * @see #launchLocalWorkers(int)
+     */
+    public Coordinator(int port) throws IOException {
+        this(InetAddress.getLoopbackAddress(), port, randomSecret());
+    }
+
+    /**
+     * Starts listening for workers.
+     *
+     * @param address the address to listen on
+     * @param port the port number, or 0 to use any free port
+     * @param secret the secret, which the workers must present when
+     * connecting
+     * @throws IOException if the port cannot be bound
+     */
+    public Coordinator(InetAddress address, int port, String secret) throws IOException {
+        if (secret == null || secret.isEmpty()) {
+            throw new IllegalArgumentException("A secret is required");
+        }
+
+        this.secret = secret;
+        server = new ServerSocket(port, 0, address);
+        queue = new LinkedBlockingDeque<>();
+        connections = new CopyOnWriteArrayList<>();
+        processes = new ArrayList<>();
+        hooked = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+        var acceptor = new Thread(this::accept, "coordinator");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Starts a coordinator if the {@value PORT_PROPERTY} system property is set
+     * and makes the {@code TaskManager} use it. The address and the secret are
+     * set with {@value BIND_ADDRESS_PROPERTY} and {@value SECRET_PROPERTY}.
+     * Launches the number of local workers given by
+     * {@value LOCAL_WORKERS_PROPERTY}. Errors are reported, but do not prevent
+     * the application from running.
+     */
+    public static void startIfRequested() {
+        var port = Integer.getInteger(PORT_PROPERTY);
+        if (port != null) {
+            try {
+                var bindAddress = System.getProperty(BIND_ADDRESS_PROPERTY);
+                var address = bindAddress == null ? InetAddress.getLoopbackAddress()
+                        : InetAddress.getByName(bindAddress);
+                var secret = System.getProperty(SECRET_PROPERTY);
+
+                if (secret == null && !address.isLoopbackAddress()) {
+                    System.err.println("No " + SECRET_PROPERTY + " set, so only local workers can connect");
+                }
+
+                var coordinator = new Coordinator(address, port, secret != null ? secret : randomSecret());
+                coordinator.launchLocalWorkers(Integer.getInteger(LOCAL_WORKERS_PROPERTY, 0));
+                TaskManager.setCoordinator(coordinator);
+            } catch (IOException e) {
+                System.err.println("Unable to start the coordinator on port " + port + ". Details: ");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                var connection = new Connection(new Channel(server.accept()));
+                connections.add(connection);
+                connection.start();
+            } catch (IOException e) {
+                if (!closed) {
+                    System.err.println("Unable to accept a worker. Details: ");
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Queues a copy of {@code t} for a remote worker. The task should be
+     * {@code QUEUED}.
+     *
+     * @param t a task
+     */
+    public void submit(SearchTask t) {
+        byte[] bytes;
+
+        try {
+            //the configuration may be the default one, which is not stored in the task
+            var spec = new Object[]{t, t.getConfiguration()};
+            bytes = SessionFormat.serialise(spec, SessionFormat.shared(TaskManager.getManagerInstance()));
+        } catch (IOException e) {
+            System.err.println("Unable to send " + t + " to a worker. Details: ");
+            e.printStackTrace();
+            t.setStatus(EXECUTION_ERROR);
+            TaskManager.getManagerInstance().complete(t);
+            return;
+        }
+
+        if (hooked.add(t)) {
+            t.addStatusChangeListener(e -> {
+                if (e.getStatus() == AWAITING_TERMINATION) {
+                    connections.forEach(c -> c.cancel(t));
+                }
+            });
+        }
+
+        queue.add(new Job(t, bytes));
+    }
+
+    /**
+     * Launches worker processes on this host, which use the same Java
+     * runtime and class path as this process. The workers exit when the
+     * coordinator is closed.
+     *
+     * @param number the number of workers
+     * @throws IOException if a process cannot be started
+     */
+    public void launchLocalWorkers(int number) throws IOException {
+        var java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+        var address = server.getInetAddress();
+        var host = address.isAnyLocalAddress() ? InetAddress.getLoopbackAddress() : address;
+
+        for (int i = 0; i < number; i++) {
+            var builder = new ProcessBuilder(java, "-Djava.awt.headless=true",
+                    "-cp", System.getProperty("java.class.path"),
+                    Worker.class.getName(), host.getHostAddress(), String.valueOf(getPort()));
+            //the environment is not visible to other users, unlike the command line
+            builder.environment().put(SECRET_VARIABLE, secret);
+            builder.inheritIO();
+            synchronized (processes) {
+                processes.add(builder.start());
+            }
+        }
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * @return the number of connected workers
+     */
+    public int getWorkerCount() {
+        return connections.size();
+    }
+
+    /**
+     * @return the number of tasks waiting for a worker
+     */
+    public int getQueueLength() {
+        return queue.size();
+    }
+
+    /**
+     * Stops listening, disconnects the workers and stops the local worker
+     * processes. Tasks which have not finished are left as they are.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        try {
+            server.close();
+        } catch (IOException e) {
+            //nothing to do
+        }
+
+        connections.forEach(Connection::disconnect);
+
+        synchronized (processes) {
+            processes.forEach(Process::destroy);
+            processes.clear();
+        }
+    }
+
+    private static class Job {
+
+        private final SearchTask task;
+        private final byte[] bytes;
+        private int attempts;
+
+        private Job(SearchTask task, byte[] bytes) {
+            this.task = task;
+            this.bytes = bytes;
+        }
+
+    }
+
+    /**
+     * Sends tasks to a single worker and processes its replies.
+     */
+    private class Connection extends Thread {
+
+        private final Channel channel;
+        private volatile Job job;
+        private List<Object> datasets;
+
+        private Connection(Channel channel) {
+            super("coordinator-" + channel.getRemoteAddress());
+            this.channel = channel;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!handshake()) {
+                    return;
+                }
+
+                while (!closed) {
+                    job = queue.take();
+                    var t = job.task;
+
+                    //terminated before a worker was found
+                    if (t.getStatus() != QUEUED && t.getStatus() != IN_PROGRESS) {
+                        job = null;
+                        TaskManager.getManagerInstance().complete(t);
+                        continue;
+                    }
+
+                    job.attempts++;
+                    setup();
+                    channel.send(Channel.TASK, id(t), job.bytes);
+                    process(t);
+                    job = null;
+                }
+            } catch (IOException e) {
+                if (!closed) {
+                    System.err.println("Lost the connection to worker " + channel.getRemoteAddress() + ". Details: ");
+                    e.printStackTrace();
+                }
+                requeue();
+            } catch (InterruptedException e) {
+                requeue();
+            } catch (RuntimeException e) {
+                //a retry would most likely fail the same way
+                System.err.println("Unable to process the task of worker " + channel.getRemoteAddress()
+                        + ". Details: ");
+                e.printStackTrace();
+                var failed = job;
+                job = null;
+                if (failed != null) {
+                    fail(failed.task);
+                }
+            } finally {
+                connections.remove(this);
+                channel.close();
+            }
+        }
+
+        /**
+         * Checks the version and the secret sent by the worker, which should
+         * arrive within {@value HANDSHAKE_TIMEOUT} ms.
+         *
+         * @return {@code false} if the worker is rejected
+         */
+        private boolean handshake() throws IOException {
+            channel.setTimeout(HANDSHAKE_TIMEOUT);
+            var hello = channel.receive(MAX_HELLO);
+            channel.setTimeout(0);
+
+            var payload = ByteBuffer.wrap(hello.payload);
+            int version = payload.remaining() >= Integer.BYTES ? payload.getInt() : -1;
+            if (hello.type != Channel.HELLO || version != Channel.VERSION) {
+                System.err.println("Rejected an incompatible worker at " + channel.getRemoteAddress());
+                return false;
+            }
+
+            var presented = new byte[payload.remaining()];
+            payload.get(presented);
+            if (!MessageDigest.isEqual(presented, secret.getBytes(StandardCharsets.UTF_8))) {
+                System.err.println("Rejected a worker with a wrong secret at " + channel.getRemoteAddress());
+                return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Sends the datasets of the task manager if they have changed since
+         * they were last sent.
+         */
+        private void setup() throws IOException {
+            var manager = TaskManager.getManagerInstance();
+            var current = Arrays.<Object>asList(manager.getSpecificHeatDataset(), manager.getDensityDataset());
+
+            if (datasets == null || datasets.get(0) != current.get(0) || datasets.get(1) != current.get(1)) {
+                channel.send(Channel.SETUP, 0, SessionFormat.serialise(new ArrayList<>(current), List.of()));
+                datasets = current;
+            }
+        }
+
+        /**
+         * Processes the replies until the task has finished.
+         */
+        @SuppressWarnings("unchecked")
+        private void process(SearchTask t) throws IOException {
+            var manager = TaskManager.getManagerInstance();
+
+            while (true) {
+                var message = channel.receive();
+
+                try {
+                    switch (message.type) {
+                        case Channel.STATUS:
+                            //the final status is set when the calculation is adopted
+                            if (Status.valueOf(message.text()) == IN_PROGRESS && t.getStatus() == QUEUED) {
+                                t.setStatus(IN_PROGRESS);
+                            }
+                            break;
+                        case Channel.LOG:
+                            t.relay((LogEntry) SessionFormat.deserialise(message.payload, Channel.shared(t)));
+                            break;
+                        case Channel.RESULT:
+                            var result = (Object[]) SessionFormat.deserialise(message.payload, Channel.shared(t));
+                            var calc = (Calculation) result[0];
+                            var stored = (List<Calculation>) result[1];
+                            calc.initListeners();
+                            stored.forEach(Calculation::initListeners);
+                            t.adopt(calc, stored);
+                            manager.complete(t);
+                            return;
+                        case Channel.ERROR:
+                            System.err.println("Worker " + channel.getRemoteAddress() + " failed to run " + t
+                                    + ". Details: " + message.text());
+                            fail(t);
+                            return;
+                        default:
+                            throw new IOException("Unexpected message type: " + message.type);
+                    }
+                } catch (ClassNotFoundException e) {
+                    System.err.println("Unable to read the reply of worker " + channel.getRemoteAddress()
+                            + ". Details: ");
+                    e.printStackTrace();
+                    if (message.type == Channel.RESULT) {
+                        fail(t);
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void fail(SearchTask t) {
+            t.setStatus(EXECUTION_ERROR);
+            TaskManager.getManagerInstance().complete(t);
+        }
+
+        /**
+         * Puts the unfinished task back at the head of the queue, unless it
+         * has been tried too many times.
+         */
+        private void requeue() {
+            var unfinished = job;
+            job = null;
+
+            if (unfinished != null) {
+                if (unfinished.attempts < MAX_ATTEMPTS) {
+                    queue.addFirst(unfinished);
+                } else {
+                    System.err.println("Giving up " + unfinished.task + " after " + MAX_ATTEMPTS + " lost workers");
+                    fail(unfinished.task);
+                }
+            }
+        }
+
+        private void cancel(SearchTask t) {
+            var current = job;
+            if (current != null && current.task == t) {
+                try {
+                    channel.send(Channel.CANCEL, id(t), new byte[0]);
+                } catch (IOException e) {
+                    //the connection is broken and the task will be re-queued
+                }
+            }
+        }
+
+        private void disconnect() {
+            interrupt();
+            channel.close();
+        }
+
+    }
+
+    private static int id(SearchTask t) {
+        return (int) t.getIdentifier().getValue();
+    }
+
+    private static String randomSecret() {
+        var bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        var sb = new StringBuilder();
+        for (var b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,236 @@
+package pulse.tasks.remote;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import pulse.input.InterpolationDataset;
+import pulse.search.SearchConfiguration;
+import pulse.tasks.SearchTask;
+import pulse.tasks.TaskManager;
+import pulse.util.SessionFormat;
+
+/**
+ * Runs the tasks sent by a {@code Coordinator} without a GUI.
+ * <p>
+ * A worker runs one task at a time, so several workers should be started on
+ * a host with many cores. It connects to the coordinator, receives the
+ * tasks, runs them and sends back their status changes, log entries and
+ * calculations. The worker exits when the connection is closed.
+ * </p>
+ * <p>
+ * Usage: {@code java -cp <class path> pulse.tasks.remote.Worker <host> <port>}
+ * </p>
+ * <p>
+ * The secret of the coordinator is read from the
+ * {@value Coordinator#SECRET_PROPERTY} system property or the
+ * {@value Coordinator#SECRET_VARIABLE} environment variable.
+ * </p>
+ *
+ * @see Coordinator
+ */
+public class Worker implements Closeable {
+
+    private final Channel channel;
+    private final String secret;
+    private final ExecutorService runner;
+    private volatile SearchTask task;
+    private int taskId;
+
+    /**
+     * The identifiers of the tasks cancelled before they started running.
+     * Guarded by itself, as is the identifier of the running task.
+     */
+    private final Set<Integer> cancelled = new HashSet<>();
+
+    /**
+     * Connects to a coordinator.
+     *
+     * @param host the host of the coordinator
+     * @param port the port of the coordinator
+     * @param secret the secret of the coordinator
+     * @throws IOException if the connection fails
+     */
+    public Worker(String host, int port, String secret) throws IOException {
+        this.channel = new Channel(new Socket(host, port));
+        this.secret = secret;
+        runner = Executors.newSingleThreadExecutor();
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: Worker <host> <port>");
+            System.exit(2);
+        }
+
+        var secret = System.getProperty(Coordinator.SECRET_PROPERTY, System.getenv(Coordinator.SECRET_VARIABLE));
+        if (secret == null) {
+            System.err.println("Set the secret of the coordinator with -D" + Coordinator.SECRET_PROPERTY
+                    + " or " + Coordinator.SECRET_VARIABLE);
+            System.exit(2);
+        }
+
+        try (var worker = new Worker(args[0], Integer.parseInt(args[1]), secret)) {
+            worker.serve();
+        } catch (IOException e) {
+            System.err.println("Unable to connect to the coordinator at " + args[0] + ":" + args[1] + ". Details: ");
+            e.printStackTrace();
+        }
+
+        System.exit(0);
+    }
+
+    /**
+     * Processes the messages of the coordinator until the connection is
+     * closed. The running task is then terminated.
+     *
+     * @throws IOException if the coordinator cannot be greeted
+     */
+    @SuppressWarnings("unchecked")
+    public void serve() throws IOException {
+        var secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        var hello = ByteBuffer.allocate(Integer.BYTES + secretBytes.length)
+                .putInt(Channel.VERSION).put(secretBytes).array();
+        channel.send(Channel.HELLO, 0, hello);
+
+        var manager = TaskManager.getManagerInstance();
+
+        try {
+            while (true) {
+                var message = channel.receive();
+
+                switch (message.type) {
+                    case Channel.SETUP:
+                        var datasets = (List<InterpolationDataset>) read(message.payload, List.of());
+                        if (datasets.get(0) != null) {
+                            manager.setSpecificHeatDataset(datasets.get(0));
+                        }
+                        if (datasets.get(1) != null) {
+                            manager.setDensityDataset(datasets.get(1));
+                        }
+                        break;
+                    case Channel.TASK:
+                        var bytes = message.payload;
+                        runner.submit(() -> run(message.id, bytes));
+                        break;
+                    case Channel.CANCEL:
+                        cancel(message.id);
+                        break;
+                    default:
+                        throw new IOException("Unexpected message type: " + message.type);
+                }
+            }
+        } catch (IOException e) {
+            //the coordinator has closed the connection
+            var t = task;
+            if (t != null) {
+                t.terminate();
+            }
+        } finally {
+            runner.shutdownNow();
+        }
+    }
+
+    private void run(int id, byte[] bytes) {
+        var manager = TaskManager.getManagerInstance();
+        SearchTask t = null;
+
+        try {
+            var spec = (Object[]) SessionFormat.deserialise(bytes, SessionFormat.shared(manager));
+            t = (SearchTask) spec[0];
+            var shared = Channel.shared(t);
+            t.initListeners();
+            t.children().forEach(c -> c.initListeners());
+            t.setConfiguration((SearchConfiguration) spec[1]);
+
+            //the log entries look the task up in the repository
+            manager.addTask(t);
+            synchronized (cancelled) {
+                task = t;
+                taskId = id;
+                //the task may have been cancelled while it was being read
+                if (cancelled.remove(id)) {
+                    t.terminate();
+                }
+            }
+
+            t.addStatusChangeListener(e -> send(Channel.STATUS, id, e.getStatus().name()));
+            t.addTaskListener(e -> {
+                try {
+                    send(Channel.LOG, id, SessionFormat.serialise(e, shared));
+                } catch (IOException ex) {
+                    System.err.println("Unable to send a log entry. Details: ");
+                    ex.printStackTrace();
+                }
+            });
+
+            t.run();
+
+            var result = new Object[]{t.getResponse(), new ArrayList<>(t.getStoredCalculations())};
+            send(Channel.RESULT, id, SessionFormat.serialise(result, shared));
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            e.printStackTrace();
+            send(Channel.ERROR, id, e.toString());
+        } finally {
+            synchronized (cancelled) {
+                task = null;
+                cancelled.remove(id);
+            }
+            if (t != null) {
+                manager.removeTask(t);
+            }
+        }
+    }
+
+    /**
+     * Terminates the task with the given identifier if it is running, or
+     * makes sure it is terminated as soon as it starts otherwise.
+     */
+    private void cancel(int id) {
+        synchronized (cancelled) {
+            var t = task;
+            if (t != null && taskId == id) {
+                t.terminate();
+            } else {
+                cancelled.add(id);
+            }
+        }
+    }
+
+    /**
+     * Closes the connection, which makes {@link #serve()} return.
+     */
+    @Override
+    public void close() {
+        channel.close();
+    }
+
+    private void send(byte type, int id, String text) {
+        send(type, id, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(byte type, int id, byte[] payload) {
+        try {
+            channel.send(type, id, payload);
+        } catch (IOException e) {
+            //the connection is closed, which is handled by serve()
+        }
+    }
+
+    private static Object read(byte[] payload, List<Object> shared) throws IOException {
+        try {
+            return SessionFormat.deserialise(payload, shared);
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Distributes the tasks of a {@code TaskManager} among worker processes, which
+ * may run on other hosts. The {@code Coordinator} sends serialised copies of
+ * the tasks to the {@code Worker}s over a simple socket protocol and merges
+ * the outcome back into the local tasks.
+ */
+package pulse.tasks.remote;
@@ -21,6 +21,9 @@ import com.formdev.flatlaf.FlatDarkLaf;
 import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import pulse.tasks.remote.Coordinator;
+import pulse.util.jfr.FlightEvents;
+import pulse.util.metrics.MetricsEndpoint;
 
 /**
  * <p>
@@ -63,6 +66,13 @@ public class Launcher {
             LOCK.deleteOnExit();
 
             splashScreen();
+            MetricsEndpoint.startIfRequested();
+            FlightEvents.enableIfRequested();
+            Coordinator.startIfRequested();
+            Startup.mark("splash");
+
+            var registries = Startup.initRegistries();
+            var versionCheck = Version.getCurrentVersion().checkNewVersionAsync();
 
             //WebLookAndFeel.install(WebDarkSkin.class);
             FlatDarkLaf.setup();
@@ -71,18 +81,23 @@ public class Launcher {
             } catch (Exception ex) {
                 System.err.println("Failed to initialize LaF");
             }
+            Startup.mark("laf");
 
-            var newVersion = Version.getCurrentVersion().checkNewVersion();
+            registries.join();
 
             /* Create and display the form */
             invokeLater(() -> {
                 getInstance().setLocationRelativeTo(null);
                 getInstance().setVisible(true);
-
-                if (newVersion != null) {
-                    JOptionPane.showMessageDialog(null, "<html>A new version of this software is available: "
-                            + newVersion.toString() + "<br>Please visit the PULsE website for more details.</html>");
-                }
+                Startup.interactive();
+
+                versionCheck.thenAccept(newVersion -> {
+                    if (newVersion != null) {
+                        invokeLater(() -> JOptionPane.showMessageDialog(getInstance(),
+                                "<html>A new version of this software is available: " + newVersion.toString()
+                                + "<br>Please visit the PULsE website for more details.</html>"));
+                    }
+                });
 
             });
 
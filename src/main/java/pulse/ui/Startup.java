@@ -0,0 +1,110 @@
+package pulse.ui;
+
+import static java.lang.management.ManagementFactory.getRuntimeMXBean;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import pulse.io.readers.ReaderManager;
+import pulse.problem.statements.Problem;
+import pulse.properties.NumericProperties;
+import pulse.properties.NumericPropertyKeyword;
+import pulse.search.direction.PathOptimiser;
+import pulse.util.Reflexive;
+import pulse.util.metrics.Metrics;
+
+/**
+ * Keeps track of the startup of the application.
+ * <p>
+ * The registries that are independent of each other (the default numeric
+ * properties, the readers and the reflexive class lists for the problem
+ * statements and optimisers) are initialised in parallel, while the look and
+ * feel is set up by the launcher. Each phase is marked with the time elapsed
+ * since the start of the JVM. When the main window is shown, the
+ * time-to-interactive is recorded as the
+ * {@value Metrics#TIME_TO_INTERACTIVE} metric and, if the
+ * {@value TRACE_PROPERTY} system property is set, the phases are printed to
+ * the error stream.
+ * </p>
+ */
+public class Startup {
+
+    /**
+     * The system property that enables printing the startup phases
+     */
+    public final static String TRACE_PROPERTY = "pulse.startup.trace";
+
+    private final static Map<String, Long> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private Startup() {
+        //intentionally blank
+    }
+
+    /**
+     * Initialises the independent registries in parallel, using the common
+     * pool. Failures are reported, but do not prevent the startup, as each
+     * registry will be initialised again on first use.
+     *
+     * @return a future completing when all registries have been initialised
+     */
+    public static CompletableFuture<Void> initRegistries() {
+        return CompletableFuture.allOf(
+                initAsync("properties", () -> NumericProperties.def(NumericPropertyKeyword.DIFFUSIVITY)),
+                initAsync("readers", ReaderManager::getCurveExtensions),
+                initAsync("problems", () -> Reflexive.instancesOf(Problem.class)),
+                initAsync("optimisers", () -> Reflexive.instancesOf(PathOptimiser.class)));
+    }
+
+    private static CompletableFuture<Void> initAsync(String name, Runnable r) {
+        return CompletableFuture.runAsync(() -> {
+            r.run();
+            mark(name);
+        }).exceptionally(t -> {
+            System.err.println("Failed to initialise the " + name + " registry. Details: ");
+            t.printStackTrace();
+            return null;
+        });
+    }
+
+    /**
+     * Marks the end of a startup phase.
+     *
+     * @param phase the name of the phase
+     */
+    public static void mark(String phase) {
+        phases.put(phase, elapsed());
+    }
+
+    /**
+     * Marks the moment the main window is shown and records the
+     * time-to-interactive.
+     */
+    public static void interactive() {
+        final long elapsed = elapsed();
+        mark("interactive");
+        Metrics.getInstance().timer(Metrics.TIME_TO_INTERACTIVE).record(elapsed * 1_000_000L);
+
+        if (Boolean.getBoolean(TRACE_PROPERTY)) {
+            System.err.println("Startup phases (ms since JVM start): " + getPhases());
+        }
+    }
+
+    /**
+     * Lists the startup phases marked so far.
+     *
+     * @return the phases, in the order they were marked, with the time
+     * elapsed since the start of the JVM in milliseconds
+     */
+    public static Map<String, Long> getPhases() {
+        synchronized (phases) {
+            return new LinkedHashMap<>(phases);
+        }
+    }
+
+    private static long elapsed() {
+        return System.currentTimeMillis() - getRuntimeMXBean().getStartTime();
+    }
+
+}
@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.net.URL;
 import java.text.DateFormat;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.io.IOUtils;
 
@@ -15,6 +16,7 @@ public class Version {
 
     private long versionDate;
     private String versionLabel;
+    private CompletableFuture<Version> newVersion;
     private static Version currentVersion = ReaderManager.readVersion();
 
     public Version(String label, long versionDate) {
@@ -22,6 +24,33 @@ public class Version {
         this.versionDate = versionDate;
     }
 
+    /**
+     * Checks for a new version in a background thread, so that the network
+     * request does not delay the startup. The check is only made once: later
+     * calls return the same (possibly completed) future.
+     *
+     * @return a future holding the new version, or {@code null} if there is
+     * none or the check has failed
+     * @see checkNewVersion()
+     */
+    public synchronized CompletableFuture<Version> checkNewVersionAsync() {
+        if (newVersion == null) {
+            newVersion = CompletableFuture.supplyAsync(this::checkNewVersion, r -> {
+                var thread = new Thread(r, "version-check");
+                thread.setDaemon(true);
+                thread.start();
+            });
+        }
+        return newVersion;
+    }
+
+    /**
+     * Checks the website for a version newer than this one. This blocks until
+     * the remote version info is received or the connection times out.
+     *
+     * @return the new version, or {@code null} if there is none or the check
+     * has failed
+     */
     public Version checkNewVersion() {
 
         try {
@@ -33,7 +62,7 @@ public class Version {
             long date = conn.getLastModified();
 
             if (date == 0) {
-                System.out.println("No remote version info found");
+                System.err.println("No remote version info found");
             }
 
             var label = IOUtils.toString(website, "UTF-8");
@@ -20,6 +20,8 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.event.MouseEvent;
 import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.swing.SwingUtilities;
 
 import javax.swing.UIManager;
@@ -69,12 +71,44 @@ public class Chart implements Serializable {
 
     private MovableValueMarker lowerMarker;
     private MovableValueMarker upperMarker;
+    private MouseOnMarkerListener lowerMarkerListener;
+    private MouseOnMarkerListener upperMarkerListener;
+
+    /*
+     * Dataset indices
+     */
+    private final static int SOLUTION = 0;
+    private final static int RESIDUALS = 1;
+    private final static int CLASSIC = 2;
+    private final static int RAW_DATA = 3;
+    private final static int DATASETS = 6;
+
+    /**
+     * The datasets are created once and re-populated on each update
+     */
+    private final XYSeriesCollection[] datasets;
+
+    /**
+     * Series data waiting to be displayed on the next frame, mapped to the
+     * dataset index. {@code HIDDEN} removes the dataset from the plot.
+     */
+    private final Map<Integer, SeriesData> pending;
+    private final RenderThrottle throttle;
+    private final static SeriesData HIDDEN = new SeriesData("", new double[0], new double[0]);
 
     public Chart() {
         chart = createScatterPlot("", getString("Charting.TimeAxisLabel"), (getString("Charting.TemperatureAxisLabel")),
                 null, VERTICAL, true, true, false);
 
         plot = chart.getXYPlot();
+
+        datasets = new XYSeriesCollection[DATASETS];
+        for (int i = 0; i < DATASETS; i++) {
+            datasets[i] = new XYSeriesCollection(new XYSeries(i, false, true));
+        }
+        pending = new ConcurrentHashMap<>();
+        throttle = new RenderThrottle(this::flush);
+
         setRenderers();
         setBackgroundAndGrid();
         setLegendTitle();
@@ -222,8 +256,8 @@ public class Chart implements Serializable {
     public void plot(SearchTask task, boolean extendedCurve) {
         requireNonNull(task);
 
-        for (int i = 0; i < 6; i++) {
-            plot.setDataset(i, null);
+        for (int i = 0; i < DATASETS; i++) {
+            pending.put(i, HIDDEN);
         }
 
         var rawData = (ExperimentalData) task.getInput();
@@ -233,11 +267,8 @@ public class Chart implements Serializable {
 
         factor = segment.getMaximum() < RANGE_THRESHOLD ? TO_MILLIS : 1.0;
 
-        var rawDataset = new XYSeriesCollection();
-
-        rawDataset.addSeries(series(rawData, "Raw data (" + task.getIdentifier() + ")", extendedCurve));
-        plot.setDataset(3, rawDataset);
-        plot.getRenderer(3).setSeriesPaint(0, new Color(1.0f, 0.0f, 0.0f, opacity));
+        pending.put(RAW_DATA, series(rawData, "Raw data (" + task.getIdentifier() + ")", extendedCurve));
+        plot.getRenderer(RAW_DATA).setSeriesPaint(0, new Color(1.0f, 0.0f, 0.0f, opacity));
 
         plot.clearDomainMarkers();
 
@@ -246,9 +277,14 @@ public class Chart implements Serializable {
 
         final double margin = (lowerMarker.getValue() + upperMarker.getValue()) / 20.0;
 
-        //add listener to handle range adjustment
-        var lowerMarkerListener = new MouseOnMarkerListener(this, lowerMarker, upperMarker, margin);
-        var upperMarkerListener = new MouseOnMarkerListener(this, upperMarker, upperMarker, margin);
+        //replace the listeners handling range adjustment
+        if (lowerMarkerListener != null) {
+            chartPanel.removeChartMouseListener(lowerMarkerListener);
+            chartPanel.removeChartMouseListener(upperMarkerListener);
+        }
+
+        lowerMarkerListener = new MouseOnMarkerListener(this, lowerMarker, upperMarker, margin);
+        upperMarkerListener = new MouseOnMarkerListener(this, upperMarker, upperMarker, margin);
 
         chartPanel.addChartMouseListener(lowerMarkerListener);
         chartPanel.addChartMouseListener(upperMarkerListener);
@@ -275,12 +311,10 @@ public class Chart implements Serializable {
 
             if (solution != null && scheme != null) {
 
-                var solutionDataset = new XYSeriesCollection();
                 var displayedCurve = extendedCurve ? solution.extendedTo(rawData, problem.getBaseline()) : solution;
 
-                solutionDataset
-                        .addSeries(series(displayedCurve, "Solution with " + scheme.getSimpleName(), extendedCurve));
-                plot.setDataset(0, solutionDataset);
+                pending.put(SOLUTION,
+                        series(displayedCurve, "Solution with " + scheme.getSimpleName(), extendedCurve));
 
                 /*
 				 * plot residuals
@@ -288,9 +322,7 @@ public class Chart implements Serializable {
                 if (residualsShown) {
                     var residuals = calc.getOptimiserStatistic().getResiduals();
                     if (residuals != null && residuals.size() > 0) {
-                        var residualsDataset = new XYSeriesCollection();
-                        residualsDataset.addSeries(residuals(calc));
-                        plot.setDataset(1, residualsDataset);
+                        pending.put(RESIDUALS, residuals(calc));
                     }
                 }
 
@@ -307,49 +339,99 @@ public class Chart implements Serializable {
             }
         }
 
+        throttle.request();
     }
 
     public void plotSingle(HeatingCurve curve) {
         requireNonNull(curve);
 
-        plot = chart.getXYPlot();
+        pending.put(CLASSIC, series(curve, curve.getName(), false));
+        plot.getRenderer(CLASSIC).setSeriesPaint(0, black);
+        throttle.request();
+    }
+
+    /**
+     * Displays the series data accumulated since the last frame, re-using the
+     * existing datasets. Invoked on the event dispatch thread.
+     */
+    private void flush() {
+        for (int i = 0; i < DATASETS; i++) {
+            var data = pending.remove(i);
+
+            if (data == null) {
+                continue;
+            }
+
+            if (data == HIDDEN) {
+                plot.setDataset(i, null);
+                continue;
+            }
+
+            var series = datasets[i].getSeries(0);
+
+            if (series.getKey().equals(data.title)) {
+                series.setNotify(false);
+                series.clear();
+                fill(series, data);
+                //fires a single change event
+                series.setNotify(true);
+            } else {
+                //the key of a series should not change, so it is replaced
+                series = new XYSeries(data.title, false, true);
+                fill(series, data);
+                datasets[i].removeAllSeries();
+                datasets[i].addSeries(series);
+            }
 
-        var classicDataset = new XYSeriesCollection();
+            if (plot.getDataset(i) != datasets[i]) {
+                plot.setDataset(i, datasets[i]);
+            }
+        }
+    }
 
-        classicDataset.addSeries(series(curve, curve.getName(), false));
+    private static void fill(XYSeries series, SeriesData data) {
+        for (int j = 0; j < data.x.length; j++) {
+            series.add(data.x[j], data.y[j], false);
+        }
+    }
 
-        plot.setDataset(2, classicDataset);
-        plot.getRenderer(2).setSeriesPaint(0, black);
+    /**
+     * Decimates the points to the width of the chart area.
+     */
+    private SeriesData decimated(String title, double[] x, double[] y, int n) {
+        int width = (int) chartPanel.getScreenDataArea().getWidth();
+        var xy = SeriesDecimator.decimate(x, y, n, width > 0 ? width : SeriesDecimator.DEFAULT_BUCKETS);
+        return new SeriesData(title, xy[0], xy[1]);
     }
 
-    public XYSeries series(HeatingCurve curve, String title, boolean extendedCurve) {
+    private SeriesData series(HeatingCurve curve, String title, boolean extendedCurve) {
         final int realCount = curve.getBaselineCorrectedData().size();
         final double startTime = (double) ((HeatingCurve) curve).getTimeShift().getValue();
         return series(curve, title, startTime, realCount, extendedCurve);
     }
 
-    public XYSeries series(ExperimentalData curve, String title, boolean extendedCurve) {
+    private SeriesData series(ExperimentalData curve, String title, boolean extendedCurve) {
         return series(curve, title, 0, curve.actualNumPoints(), extendedCurve);
     }
 
-    private XYSeries series(AbstractData curve, String title, final double startTime, final int realCount,
+    private SeriesData series(AbstractData curve, String title, final double startTime, final int realCount,
             boolean extendedCurve) {
-        var series = new XYSeries(title);
-
         int iStart = IndexRange.closestLeft(startTime < 0 ? startTime : 0, curve.getTimeSequence());
+        int from = extendedCurve ? 0 : iStart;
+        int n = Math.max(0, realCount - from);
 
-        for (var i = 0; i < iStart && extendedCurve; i++) {
-            series.add(factor * curve.timeAt(i), curve.signalAt(i));
-        }
+        var x = new double[n];
+        var y = new double[n];
 
-        for (var i = iStart; i < realCount; i++) {
-            series.add(factor * curve.timeAt(i), curve.signalAt(i));
+        for (var i = from; i < realCount; i++) {
+            x[i - from] = factor * curve.timeAt(i);
+            y[i - from] = curve.signalAt(i);
         }
 
-        return series;
+        return decimated(title, x, y, n);
     }
 
-    public XYSeries residuals(Calculation calc) {
+    private SeriesData residuals(Calculation calc) {
         var problem = calc.getProblem();
         var baseline = problem.getBaseline();
 
@@ -360,13 +442,15 @@ public class Chart implements Serializable {
         final var span = problem.getHeatingCurve().maxAdjustedSignal() - baseline.valueAt(0);
         final var offset = baseline.valueAt(0) - span / 2.0;
 
-        var series = new XYSeries(format("Residuals (offset %3.2f)", offset));
+        var x = new double[size];
+        var y = new double[size];
 
         for (var i = 0; i < size; i++) {
-            series.add(factor * time.get(i), (Number) (residuals.get(i) + offset));
+            x[i] = factor * time.get(i);
+            y[i] = residuals.get(i) + offset;
         }
 
-        return series;
+        return decimated(format("Residuals (offset %3.2f)", offset), x, y, size);
     }
 
     public void setOpacity(float opacity) {
@@ -401,4 +485,18 @@ public class Chart implements Serializable {
         return plot;
     }
 
+    private static class SeriesData {
+
+        private final String title;
+        private final double[] x;
+        private final double[] y;
+
+        private SeriesData(String title, double[] x, double[] y) {
+            this.title = title;
+            this.x = x;
+            this.y = y;
+        }
+
+    }
+
 }
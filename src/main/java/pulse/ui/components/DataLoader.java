@@ -39,7 +39,7 @@ public class DataLoader {
 
     static {
         TaskManager.getManagerInstance().addTaskRepositoryListener(e -> {
-            if (e.getState() == TaskRepositoryEvent.State.TASK_ADDED) {
+            if (e.getState() == TaskRepositoryEvent.State.FILE_LOADED) {
                 progressFrame.incrementProgress();
             }
         });
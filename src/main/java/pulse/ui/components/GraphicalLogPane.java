@@ -1,5 +1,6 @@
 package pulse.ui.components;
 
+import java.util.List;
 import javax.swing.JComponent;
 import javax.swing.JScrollPane;
 import javax.swing.ScrollPaneConstants;
@@ -87,6 +88,11 @@ public class GraphicalLogPane extends AbstractLogger {
         //not supported
     }
 
+    @Override
+    protected void prepend(List<LogEntry> entries) {
+        //the chart is plotted from the whole log once it is finished
+    }
+
     @Override
     public void clear() {
         chart.clear();
@@ -10,11 +10,14 @@ import java.awt.Dimension;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import javax.swing.SwingUtilities;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.annotations.XYTitleAnnotation;
@@ -40,6 +43,7 @@ import pulse.tasks.SearchTask;
 import pulse.tasks.TaskManager;
 import pulse.tasks.logs.DataLogEntry;
 import pulse.tasks.logs.Log;
+import pulse.tasks.logs.LogEntry;
 import pulse.tasks.logs.StateEntry;
 import pulse.tasks.logs.Status;
 import pulse.tasks.processing.Buffer;
@@ -48,6 +52,10 @@ import pulse.ui.ColorGenerator;
 public class LogChart extends AuxPlotter<Log> {
 
     private final Map<ParameterIdentifier, XYPlot> plots;
+    private final Queue<PendingPoint> pending;
+    private final RenderThrottle throttle;
+    private volatile int pendingIteration = -1;
+    private volatile int pendingBufSize;
     private Color[] colors;
     private static final ColorGenerator cg = new ColorGenerator();
     public final static int HEIGHT_FACTOR = 75;
@@ -59,7 +67,9 @@ public class LogChart extends AuxPlotter<Log> {
         plot.setOrientation(PlotOrientation.VERTICAL);
         var chart = new JFreeChart("", JFreeChart.DEFAULT_TITLE_FONT, plot, true);
         setChart(chart);
-        plots = new HashMap<>();
+        plots = new ConcurrentHashMap<>();
+        pending = new ConcurrentLinkedQueue<>();
+        throttle = new RenderThrottle(this::flush);
         getChart().removeLegend();
     }
 
@@ -72,9 +82,41 @@ public class LogChart extends AuxPlotter<Log> {
             plots.values().stream().forEach(pp -> p.remove(pp));
         }
         plots.clear();
+        pending.clear();
+        pendingIteration = -1;
         colors = new Color[0];
     }
 
+    /**
+     * Queues a point to be added to {@code series} on the next frame.
+     */
+    private void enqueue(XYSeries series, double x, double y) {
+        pending.add(new PendingPoint(series, x, y));
+        throttle.request();
+    }
+
+    /**
+     * Adds all points queued since the last frame, firing a single change event
+     * per series, and adjusts the domain range of the plots. Invoked on the
+     * event dispatch thread.
+     */
+    private void flush() {
+        Set<XYSeries> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (PendingPoint p; (p = pending.poll()) != null;) {
+            p.series.add(p.x, p.y, false);
+            changed.add(p.series);
+        }
+
+        changed.forEach(XYSeries::fireSeriesChanged);
+
+        int iteration = pendingIteration;
+        if (iteration > -1) {
+            pendingIteration = -1;
+            plots.values().forEach(pl -> adjustRange(pl, iteration, pendingBufSize));
+        }
+    }
+
     private void setLegendTitle(Plot plot) {
         var lt = new LegendTitle(plot);
         lt.setBackgroundPaint(new Color(200, 200, 255, 100));
@@ -139,16 +181,27 @@ public class LogChart extends AuxPlotter<Log> {
     public void plot(Log l) {
         requireNonNull(l);
 
-        List<LocalTime> startTimes = l.getLogEntries().stream()
-                .filter(le -> le instanceof DataLogEntry && le.getPreviousEntry() instanceof StateEntry)
-                .map(entry -> entry.getTime()).collect(Collectors.toList());
+        /* a run starts with the first data entry following a state entry */
+        LocalTime recentStart = null;
+        List<DataLogEntry> recentRun = new ArrayList<>();
+        LogEntry previous = null;
+
+        for (var le : l.getLogEntries()) {
+            if (le instanceof DataLogEntry) {
+                if (previous instanceof StateEntry) {
+                    recentStart = le.getTime();
+                    recentRun.clear();
+                } else if (recentStart != null && le.getTime().isAfter(recentStart)) {
+                    recentRun.add((DataLogEntry) le);
+                }
+            }
+            previous = le;
+        }
 
-        if (!startTimes.isEmpty()) {
-            var recentStart = startTimes.get(startTimes.size() - 1);
-            l.getLogEntries().stream().filter(le -> le.getTime().isAfter(recentStart))
-                    .filter(e -> e instanceof DataLogEntry).forEach(dle
-                    -> plot((DataLogEntry) dle,
-                            Duration.between(recentStart, dle.getTime()).toMillis()));
+        if (recentStart != null) {
+            for (var dle : recentRun) {
+                plot(dle, Duration.between(recentStart, dle.getTime()).toMillis());
+            }
         }
 
     }
@@ -199,16 +252,17 @@ public class LogChart extends AuxPlotter<Log> {
 
             var dataset = (XYSeriesCollection) ((XYPlot) pl).getDataset();
             XYSeries series = (XYSeries) dataset.getSeries(0);
-            series.add(iterationOrTime, value);
+            enqueue(series, iterationOrTime, value);
 
             if (task.getStatus() == Status.IN_PROGRESS) {
 
                 XYSeries runningAverage = dataset.getSeries(1);
                 if (iterationOrTime > buf.getData().length - 1) {
-                    runningAverage.add(iterationOrTime, buf.average(np.getKeyword()));
+                    enqueue(runningAverage, iterationOrTime, buf.average(np.getKeyword()));
                 }
 
-                SwingUtilities.invokeLater(() -> adjustRange((XYPlot) pl, (int) iterationOrTime, bufSize));
+                pendingBufSize = bufSize;
+                pendingIteration = (int) iterationOrTime;
 
             } else {
                 var domainAxis = ((XYPlot) pl).getDomainAxis();
@@ -219,4 +273,18 @@ public class LogChart extends AuxPlotter<Log> {
 
     }
 
+    private static class PendingPoint {
+
+        private final XYSeries series;
+        private final double x;
+        private final double y;
+
+        private PendingPoint(XYSeries series, double x, double y) {
+            this.series = series;
+            this.x = x;
+            this.y = y;
+        }
+
+    }
+
 }
@@ -117,7 +117,8 @@ public class PropertyHolderTable extends JTable {
         this.propertyHolder = propertyHolder;
         if (propertyHolder != null) {
             updateTable();
-            propertyHolder.addListener(event -> {
+            //intermediate changes made in quiet mode are skipped, the final ones arrive when it ends
+            propertyHolder.addDeferredListener(event -> {
                 if (!(event.getSource() instanceof PropertyHolderTable)) {
                     updateTable();
                 }
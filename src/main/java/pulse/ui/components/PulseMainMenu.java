@@ -35,6 +35,7 @@ import java.util.logging.Logger;
 
 import javax.swing.AbstractButton;
 import javax.swing.ButtonGroup;
+import javax.swing.JCheckBoxMenuItem;
 import javax.swing.JFileChooser;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
@@ -48,6 +49,7 @@ import pulse.search.statistics.NormalityTest;
 import pulse.search.statistics.OptimiserStatistic;
 import pulse.search.statistics.SumOfSquares;
 import pulse.tasks.Calculation;
+import pulse.tasks.CheckpointStore;
 import pulse.tasks.listeners.TaskRepositoryEvent;
 import pulse.tasks.processing.Buffer;
 import pulse.ui.components.listeners.ExitRequestListener;
@@ -221,6 +223,7 @@ public class PulseMainMenu extends JMenuBar {
         settingsMenu.add(new JSeparator());
         settingsMenu.add(resultFormatItem);
         settingsMenu.add(selectBuffer);
+        settingsMenu.add(initCheckpointSubmenu());
 
         add(settingsMenu);
 
@@ -228,6 +231,20 @@ public class PulseMainMenu extends JMenuBar {
         add(infoMenu);
     }
 
+    private JMenu initCheckpointSubmenu() {
+        var checkpointMenu = new JMenu("Checkpoints");
+
+        var saveItem = new JCheckBoxMenuItem("Save progress periodically", CheckpointStore.isEnabled());
+        saveItem.addItemListener(e -> CheckpointStore.setEnabled(saveItem.isSelected()));
+
+        var resumeItem = new JCheckBoxMenuItem("Resume interrupted fits", CheckpointStore.isResumeEnabled());
+        resumeItem.addItemListener(e -> CheckpointStore.setResumeEnabled(resumeItem.isSelected()));
+
+        checkpointMenu.add(saveItem);
+        checkpointMenu.add(resumeItem);
+        return checkpointMenu;
+    }
+
     private JMenu initAnalysisSubmenu() {
         var analysisSubMenu = new JMenu("Statistical Analysis");
         var statisticsSubMenu = new JMenu("Normality tests");
@@ -0,0 +1,58 @@
+package pulse.ui.components;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.Timer;
+
+/**
+ * Coalesces chart update requests so that the chart is refreshed at most once
+ * per frame. Requests may be submitted from any thread; the {@code frame}
+ * action is always run on the event dispatch thread, after a delay equal to
+ * the frame budget.
+ *
+ */
+public class RenderThrottle {
+
+    /**
+     * The default frame budget in milliseconds
+     */
+    public final static int FRAME_MILLIS = 100;
+
+    private final Timer timer;
+    private final AtomicBoolean scheduled;
+
+    /**
+     * Creates a throttle with the default frame budget.
+     *
+     * @param frame the action that will update the chart
+     */
+    public RenderThrottle(Runnable frame) {
+        this(FRAME_MILLIS, frame);
+    }
+
+    /**
+     * Creates a throttle.
+     *
+     * @param frameMillis the frame budget in milliseconds
+     * @param frame the action that will update the chart
+     */
+    public RenderThrottle(int frameMillis, Runnable frame) {
+        scheduled = new AtomicBoolean(false);
+        timer = new Timer(frameMillis, e -> {
+            scheduled.set(false);
+            frame.run();
+        });
+        timer.setRepeats(false);
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * Requests a chart update. If an update has already been scheduled for the
+     * current frame, this does nothing.
+     */
+    public void request() {
+        if (scheduled.compareAndSet(false, true)) {
+            timer.restart();
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package pulse.ui.components;
+
+import java.util.Arrays;
+
+/**
+ * Reduces the number of points in a data series before it is rendered. The
+ * domain of the series is split into buckets, typically one per pixel of the
+ * chart area. Within each bucket, only the first, the last, the minimum and
+ * the maximum points are retained. This keeps the visual envelope of the
+ * series while bounding the number of points passed to the renderer.
+ *
+ */
+public class SeriesDecimator {
+
+    /**
+     * The default number of buckets, used when the width of the chart area is
+     * unknown
+     */
+    public final static int DEFAULT_BUCKETS = 1024;
+
+    private SeriesDecimator() {
+        //intentionally blank
+    }
+
+    /**
+     * Decimates a series with {@code n} points, the abscissas of which are
+     * sorted in ascending order.
+     *
+     * @param x the abscissas
+     * @param y the ordinates
+     * @param n the number of points to consider
+     * @param buckets the number of buckets, e.g. the width of the chart area
+     * in pixels
+     * @return a two-element array, where the first element contains the
+     * decimated abscissas and the second -- the ordinates. If the series is
+     * small enough, the points are returned without decimation.
+     */
+    public static double[][] decimate(double[] x, double[] y, int n, int buckets) {
+        if (buckets < 1) {
+            buckets = DEFAULT_BUCKETS;
+        }
+
+        if (n <= 4 * buckets) {
+            return new double[][]{Arrays.copyOf(x, n), Arrays.copyOf(y, n)};
+        }
+
+        final double x0 = x[0];
+        final double width = (x[n - 1] - x0) / buckets;
+
+        var xs = new double[4 * buckets + 1];
+        var ys = new double[4 * buckets + 1];
+        int size = 0;
+        int emitted = -1;
+
+        int first = 0;
+        int min = 0;
+        int max = 0;
+        int bucket = 0;
+
+        for (int i = 1; i <= n; i++) {
+
+            int b = i < n ? Math.min(buckets - 1, (int) ((x[i] - x0) / width)) : -1;
+
+            if (b != bucket) {
+                //flush the previous bucket, keeping the points in their original order
+                int last = i - 1;
+                int lo = Math.min(min, max);
+                int hi = Math.max(min, max);
+
+                //only happens if the abscissas are not sorted
+                if (size + 4 > xs.length) {
+                    xs = Arrays.copyOf(xs, 2 * xs.length);
+                    ys = Arrays.copyOf(ys, 2 * ys.length);
+                }
+
+                for (int index : new int[]{first, lo, hi, last}) {
+                    if (index > emitted) {
+                        xs[size] = x[index];
+                        ys[size] = y[index];
+                        size++;
+                        emitted = index;
+                    }
+                }
+
+                if (i == n) {
+                    break;
+                }
+
+                bucket = b;
+                first = min = max = i;
+
+            } else {
+
+                if (y[i] < y[min]) {
+                    min = i;
+                }
+                if (y[i] > y[max]) {
+                    max = i;
+                }
+
+            }
+
+        }
+
+        return new double[][]{Arrays.copyOf(xs, size), Arrays.copyOf(ys, size)};
+    }
+
+}
@@ -6,12 +6,16 @@ import static javax.swing.text.DefaultCaret.ALWAYS_UPDATE;
 import static pulse.ui.Messages.getString;
 
 import java.io.IOException;
+import java.util.List;
 import javax.swing.JComponent;
 
 import javax.swing.JEditorPane;
 import javax.swing.JScrollPane;
+import javax.swing.SwingUtilities;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.DefaultCaret;
+import javax.swing.text.StyleConstants;
+import javax.swing.text.html.HTML;
 import javax.swing.text.html.HTMLDocument;
 import javax.swing.text.html.HTMLEditorKit;
 
@@ -31,6 +35,14 @@ public class TextLogPane extends AbstractLogger {
         ((DefaultCaret) editor.getCaret()).setUpdatePolicy(ALWAYS_UPDATE);
         pane = new JScrollPane();
         pane.setViewportView(editor);
+
+        //older entries are read back when the top of the log comes into view
+        var bar = pane.getVerticalScrollBar();
+        bar.addAdjustmentListener(e -> {
+            if (!e.getValueIsAdjusting() && e.getValue() == bar.getMinimum() && hasEarlierEntries()) {
+                SwingUtilities.invokeLater(this::postEarlier);
+            }
+        });
     }
 
     @Override
@@ -53,6 +65,31 @@ public class TextLogPane extends AbstractLogger {
 
     }
 
+    /**
+     * Inserts the entries at the start of the document and keeps the part of
+     * the log that was in view.
+     */
+    @Override
+    protected void prepend(List<LogEntry> entries) {
+        var sb = new StringBuilder();
+        entries.forEach(entry -> sb.append(entry));
+
+        final var doc = (HTMLDocument) editor.getDocument();
+        var body = doc.getElement(doc.getDefaultRootElement(), StyleConstants.NameAttribute, HTML.Tag.BODY);
+        var bar = pane.getVerticalScrollBar();
+        int fromBottom = bar.getMaximum() - bar.getValue();
+
+        try {
+            doc.insertAfterStart(body, sb.toString());
+        } catch (BadLocationException e) {
+            err.println(getString("LogPane.InsertError")); //$NON-NLS-1$
+        } catch (IOException e) {
+            err.println(getString("LogPane.PrintError")); //$NON-NLS-1$
+        }
+
+        SwingUtilities.invokeLater(() -> bar.setValue(bar.getMaximum() - fromBottom));
+    }
+
     public void printTimeTaken(Log log) {
         var time = log.timeTaken();
         var sb = new StringBuilder();
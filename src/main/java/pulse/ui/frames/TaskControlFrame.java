@@ -44,6 +44,7 @@ public class TaskControlFrame extends JFrame {
     private static TaskControlFrame instance = new TaskControlFrame();
 
     private Mode mode = Mode.TASK;
+    private JDesktopPane desktopPane;
     private ProblemStatementFrame problemStatementFrame;
     private SearchOptionsFrame searchOptionsFrame;
     private TaskManagerFrame taskManagerFrame;
@@ -91,7 +92,9 @@ public class TaskControlFrame extends JFrame {
 
     public void resetSession() {
         Objects.requireNonNull(mainMenu, "Menu not created");
-        problemStatementFrame.resetSession();
+        if (problemStatementFrame != null) {
+            problemStatementFrame.resetSession();
+        }
         taskManagerFrame.resetSession();
         modelFrame.resetSession();
         resultsFrame.getResultTable().resetSession();
@@ -140,7 +143,7 @@ public class TaskControlFrame extends JFrame {
             @Override
             public void onProblemStatementShowRequest() {
                 if (TaskManager.getManagerInstance().getSelectedTask() != null) {
-                    problemStatementFrame.update();
+                    problemStatementFrame().update();
                     setProblemStatementFrameVisible(true);
                 } else {
                     System.out.println("Please select a task");
@@ -198,7 +201,7 @@ public class TaskControlFrame extends JFrame {
      */
     private void initComponents() {
 
-        var desktopPane = new JDesktopPane();
+        desktopPane = new JDesktopPane();
         setContentPane(desktopPane);
 
         mainMenu = new PulseMainMenu();
@@ -208,21 +211,18 @@ public class TaskControlFrame extends JFrame {
         logFrame.setFrameIcon(loadIcon("log.png", ICON_SIZE, Color.white));
         resultsFrame = new ResultFrame();
         resultsFrame.setFrameIcon(loadIcon("result.png", ICON_SIZE, Color.white));
-        previewFrame = new PreviewFrame();
-        previewFrame.setFrameIcon(loadIcon("preview.png", ICON_SIZE, Color.white));
         taskManagerFrame = new TaskManagerFrame();
         taskManagerFrame.setFrameIcon(loadIcon("task_manager.png", ICON_SIZE, Color.white));
         graphFrame = MainGraphFrame.getInstance();
         graphFrame.setFrameIcon(loadIcon("curves.png", ICON_SIZE, Color.white));
 
-        problemStatementFrame = new ProblemStatementFrame();
-        problemStatementFrame.setFrameIcon(loadIcon("heat_problem.png", ICON_SIZE, Color.white));
         modelFrame = new ModelSelectionFrame();
         modelFrame.setFrameIcon(loadIcon("stored.png", ICON_SIZE, Color.white));
 
-        searchOptionsFrame = new SearchOptionsFrame();
-        searchOptionsFrame.setFrameIcon(loadIcon("optimiser.png", ICON_SIZE, Color.white));
-
+        /*
+         * The preview, problem statement and search options frames
+         * are only created when first shown
+         */
         pulseFrame = new InternalGraphFrame<Calculation>("Pulse Shape", new PulseChart("Time (ms)", "Laser Power (a. u.)"));
         pulseFrame.setFrameIcon(loadIcon("pulse.png", ICON_SIZE, Color.white));
         pulseFrame.setVisible(false);
@@ -234,11 +234,8 @@ public class TaskControlFrame extends JFrame {
         desktopPane.add(taskManagerFrame);
         desktopPane.add(pulseFrame);
         desktopPane.add(graphFrame);
-        desktopPane.add(previewFrame);
         desktopPane.add(logFrame);
         desktopPane.add(resultsFrame);
-        desktopPane.add(problemStatementFrame);
-        desktopPane.add(searchOptionsFrame);
         desktopPane.add(modelFrame);
 
         setDefaultResizeBehaviour();
@@ -262,42 +259,75 @@ public class TaskControlFrame extends JFrame {
         logFrame.addInternalFrameListener(ifa);
         resultsFrame.addInternalFrameListener(ifa);
 
-        previewFrame.addInternalFrameListener(new InternalFrameAdapter() {
+        modelFrame.addInternalFrameListener(new InternalFrameAdapter() {
 
             @Override
             public void internalFrameClosing(InternalFrameEvent e) {
-                setPreviewFrameVisible(false);
+                setModelSelectionFrameVisible(false);
             }
 
         });
 
-        problemStatementFrame.addInternalFrameListener(new InternalFrameAdapter() {
+    }
 
-            @Override
-            public void internalFrameClosing(InternalFrameEvent e) {
-                setProblemStatementFrameVisible(false);
-            }
+    private PreviewFrame previewFrame() {
+        if (previewFrame == null) {
+            previewFrame = new PreviewFrame();
+            previewFrame.setFrameIcon(loadIcon("preview.png", ICON_SIZE, Color.white));
+            previewFrame.addInternalFrameListener(new InternalFrameAdapter() {
 
-        });
+                @Override
+                public void internalFrameClosing(InternalFrameEvent e) {
+                    setPreviewFrameVisible(false);
+                }
 
-        searchOptionsFrame.addInternalFrameListener(new InternalFrameAdapter() {
+            });
+            desktopPane.add(previewFrame);
+        }
+        return previewFrame;
+    }
 
-            @Override
-            public void internalFrameClosing(InternalFrameEvent e) {
-                setSearchOptionsFrameVisible(false);
-            }
+    private ProblemStatementFrame problemStatementFrame() {
+        if (problemStatementFrame == null) {
+            problemStatementFrame = new ProblemStatementFrame();
+            problemStatementFrame.setFrameIcon(loadIcon("heat_problem.png", ICON_SIZE, Color.white));
+            problemStatementFrame.addInternalFrameListener(new InternalFrameAdapter() {
 
-        });
+                @Override
+                public void internalFrameClosing(InternalFrameEvent e) {
+                    setProblemStatementFrameVisible(false);
+                }
 
-        modelFrame.addInternalFrameListener(new InternalFrameAdapter() {
+            });
+            desktopPane.add(problemStatementFrame);
+        }
+        return problemStatementFrame;
+    }
 
-            @Override
-            public void internalFrameClosing(InternalFrameEvent e) {
-                setModelSelectionFrameVisible(false);
-            }
+    private SearchOptionsFrame searchOptionsFrame() {
+        if (searchOptionsFrame == null) {
+            searchOptionsFrame = new SearchOptionsFrame();
+            searchOptionsFrame.setFrameIcon(loadIcon("optimiser.png", ICON_SIZE, Color.white));
+            searchOptionsFrame.addInternalFrameListener(new InternalFrameAdapter() {
 
-        });
+                @Override
+                public void internalFrameClosing(InternalFrameEvent e) {
+                    setSearchOptionsFrameVisible(false);
+                }
+
+            });
+            desktopPane.add(searchOptionsFrame);
+        }
+        return searchOptionsFrame;
+    }
 
+    /**
+     * Hides {@code f} unless it has not been created yet.
+     */
+    private static void hideIfCreated(JInternalFrame f) {
+        if (f != null) {
+            f.setVisible(false);
+        }
     }
 
     private void doResize() {
@@ -306,13 +336,13 @@ public class TaskControlFrame extends JFrame {
                 resizeQuadrants();
                 break;
             case PROBLEM:
-                resizeTriplet(problemStatementFrame, pulseFrame, graphFrame);
+                resizeTriplet(problemStatementFrame(), pulseFrame, graphFrame);
                 break;
             case SEARCH:
-                resizeFull(searchOptionsFrame);
+                resizeFull(searchOptionsFrame());
                 break;
             case PREVIEW:
-                resizeHalves(previewFrame, resultsFrame);
+                resizeHalves(previewFrame(), resultsFrame);
                 break;
             case MODEL_COMPARISON:
                 resizeTriplet(graphFrame, resultsFrame, modelFrame);
@@ -405,10 +435,10 @@ public class TaskControlFrame extends JFrame {
     }
 
     private void setPreviewFrameVisible(boolean show) {
-        previewFrame.update(((ResultTableModel) resultsFrame.getResultTable().getModel()).getFormat(),
+        previewFrame().update(((ResultTableModel) resultsFrame.getResultTable().getModel()).getFormat(),
                 resultsFrame.getResultTable().data());
 
-        previewFrame.setVisible(show);
+        previewFrame().setVisible(show);
 
         resultsFrame.setVisible(true);
         taskManagerFrame.setVisible(!show);
@@ -421,11 +451,11 @@ public class TaskControlFrame extends JFrame {
     }
 
     private void setProblemStatementFrameVisible(boolean show) {
-        problemStatementFrame.setVisible(show);
+        problemStatementFrame().setVisible(show);
         pulseFrame.setVisible(show);
         graphFrame.setVisible(true);
 
-        previewFrame.setVisible(false);
+        hideIfCreated(previewFrame);
         resultsFrame.setVisible(!show);
         taskManagerFrame.setVisible(!show);
         logFrame.setVisible(!show);
@@ -436,12 +466,12 @@ public class TaskControlFrame extends JFrame {
 
     private void setSearchOptionsFrameVisible(boolean show) {
         if (show) {
-            searchOptionsFrame.update();
+            searchOptionsFrame().update();
         }
-        searchOptionsFrame.setVisible(show);
+        searchOptionsFrame().setVisible(show);
 
-        problemStatementFrame.setVisible(false);
-        previewFrame.setVisible(false);
+        hideIfCreated(problemStatementFrame);
+        hideIfCreated(previewFrame);
         resultsFrame.setVisible(!show);
         taskManagerFrame.setVisible(!show);
         graphFrame.setVisible(!show);
@@ -456,8 +486,8 @@ public class TaskControlFrame extends JFrame {
         resultsFrame.setVisible(true);
         graphFrame.setVisible(true);
 
-        problemStatementFrame.setVisible(false);
-        previewFrame.setVisible(false);
+        hideIfCreated(problemStatementFrame);
+        hideIfCreated(previewFrame);
         taskManagerFrame.setVisible(!show);
         logFrame.setVisible(!show);
 
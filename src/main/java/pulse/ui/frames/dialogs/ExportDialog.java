@@ -14,6 +14,7 @@ import static pulse.io.export.Extension.valueOf;
 
 import java.awt.Dimension;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
@@ -34,6 +35,7 @@ import pulse.input.ExperimentalData;
 import pulse.input.Metadata;
 import pulse.io.export.CurveExporter;
 import pulse.io.export.ExportManager;
+import pulse.io.export.ExportQueue;
 import pulse.io.export.Extension;
 import pulse.io.export.LogExporter;
 import pulse.io.export.MetadataExporter;
@@ -50,7 +52,7 @@ public class ExportDialog extends JDialog {
 
     private static Map<Class<?>, Boolean> exportSettings = new HashMap<Class<?>, Boolean>();
     private final static int HEIGHT = 180;
-    private final static int WIDTH = 750;
+    private final static int WIDTH = 900;
 
     private static ProgressDialog progressFrame = new ProgressDialog();
 
@@ -68,6 +70,7 @@ public class ExportDialog extends JDialog {
         exportSettings.put(LogExporter.getInstance().target(), false);
     }
     private boolean createSubdirectories = false;
+    private static boolean compress = false;
 
     private File dir;
 
@@ -157,6 +160,25 @@ public class ExportDialog extends JDialog {
 
     }
 
+    /*
+     * Exports each task as soon as it finishes
+     */
+    private void exportOnCompletion(boolean enabled, Extension extension) {
+        var queue = ExportQueue.getInstance();
+
+        if (!enabled) {
+            queue.stop();
+            return;
+        }
+
+        try {
+            queue.start(new File(dir + separator + projectName), extension, compress);
+        } catch (IOException e) {
+            System.err.println("Unable to start exporting finished tasks. Details: ");
+            e.printStackTrace();
+        }
+    }
+
     private void initComponents() {
 
         var layout = new GroupLayout(getContentPane());
@@ -247,6 +269,20 @@ public class ExportDialog extends JDialog {
         resultsCheckbox.setSelected(exportSettings.get(Result.class));
         resultsCheckbox.addActionListener(e -> exportSettings.put(Result.class, resultsCheckbox.isSelected()));
 
+        var queueCheckbox = new JCheckBox("Export as tasks finish");
+        queueCheckbox.setSelected(ExportQueue.getInstance().isRunning());
+
+        var compressCheckbox = new JCheckBox("Compress (zip)");
+        compressCheckbox.setSelected(compress);
+        compressCheckbox.addActionListener(e -> compress = compressCheckbox.isSelected());
+
+        queueCheckbox.addActionListener(e -> {
+            compressCheckbox.setEnabled(!queueCheckbox.isSelected());
+            exportOnCompletion(queueCheckbox.isSelected(),
+                    valueOf(formats.getSelectedItem().toString().toUpperCase()));
+        });
+        compressCheckbox.setEnabled(!queueCheckbox.isSelected());
+
         var browseBtn = new JButton("Browse...");
 
         browseBtn.addActionListener(e -> directoryField.setText(directoryQuery()
@@ -272,7 +308,9 @@ public class ExportDialog extends JDialog {
                                 .addGroup(layout.createParallelGroup(LEADING).addComponent(metadataCheckbox)
                                         .addComponent(createDirCheckbox))
                                 .addGroup(layout.createParallelGroup(LEADING).addComponent(logCheckbox)
-                                        .addComponent(resultsCheckbox)))
+                                        .addComponent(resultsCheckbox))
+                                .addGroup(layout.createParallelGroup(LEADING).addComponent(queueCheckbox)
+                                        .addComponent(compressCheckbox)))
                         // #2b
                         // .addGroup(layout.createSequentialGroup()
                         .addGroup(layout.createSequentialGroup().addComponent(formatLabel).addComponent(formats)
@@ -292,9 +330,11 @@ public class ExportDialog extends JDialog {
                         // #2a
                         .addGroup(layout.createSequentialGroup()
                                 .addGroup(layout.createParallelGroup(BASELINE).addComponent(solutionCheckbox)
-                                        .addComponent(metadataCheckbox).addComponent(logCheckbox))
+                                        .addComponent(metadataCheckbox).addComponent(logCheckbox)
+                                        .addComponent(queueCheckbox))
                                 .addGroup(layout.createParallelGroup(BASELINE).addComponent(rawDataCheckbox)
-                                        .addComponent(createDirCheckbox).addComponent(resultsCheckbox)))
+                                        .addComponent(createDirCheckbox).addComponent(resultsCheckbox)
+                                        .addComponent(compressCheckbox)))
                         // #2b
                         .addComponent(exportBtn))
                 // 2b
@@ -1,9 +1,5 @@
 package pulse.util;
 
-import static java.lang.System.err;
-import static java.util.stream.Collectors.toList;
-
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -60,26 +56,11 @@ public abstract class Accessible extends Group {
     public Set<NumericProperty> numericProperties() {
         Set<NumericProperty> fields = new TreeSet<>();
 
-        var methods = this.getClass().getMethods();
-        for (var m : methods) {
-
-            if (m.getParameterCount() > 0) {
-                continue;
+        for (var getter : AccessorIndex.of(getClass()).numericGetters()) {
+            var obj = getter.get(this);
+            if (obj != null) {
+                fields.add((NumericProperty) obj);
             }
-
-            if (NumericProperty.class.isAssignableFrom(m.getReturnType()))
-				try {
-                var obj = m.invoke(this);
-                if (obj != null) {
-                    fields.add((NumericProperty) m.invoke(this));
-                }
-            } catch (IllegalAccessException
-                    | IllegalArgumentException
-                    | InvocationTargetException e) {
-                err.println("Error invoking method " + m);
-                e.printStackTrace();
-            }
-
         }
 
         return fields;
@@ -98,23 +79,12 @@ public abstract class Accessible extends Group {
     public List<Property> genericProperties() {
         List<Property> fields = new ArrayList<>();
 
-        var methods = this.getClass().getMethods();
-        for (var m : methods) {
-
-            //getters only
-            if (m.getParameterCount() == 0) {
-
-                if (Property.class.isAssignableFrom(m.getReturnType())
-                        && !NumericProperty.class.isAssignableFrom(m.getReturnType()))
-				try {
-                    fields.add((Property) m.invoke(this));
-                } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                    err.println("Error invoking method " + m);
-                    e.printStackTrace();
-                }
-
+        for (var getter : AccessorIndex.of(getClass()).genericGetters()) {
+            var obj = getter.invoke(this);
+            /* skip getters which failed, but list null values as before */
+            if (obj != AccessorIndex.Accessor.FAILED) {
+                fields.add((Property) obj);
             }
-
         }
         /*
 		 * Get access to the properties of accessibles contained in this accessible
@@ -143,13 +113,20 @@ public abstract class Accessible extends Group {
      */
     public NumericProperty numericProperty(NumericPropertyKeyword type) {
 
-        var match = numericProperties().stream().filter(p -> p.getType() == type).findFirst();
+        NumericProperty property = null;
 
-        if (match.isPresent()) {
-            return match.get();
+        /* equivalent to picking the first match in the sorted numericProperties() */
+        for (var getter : AccessorIndex.of(getClass()).numericGetters()) {
+            var obj = (NumericProperty) getter.get(this);
+            if (obj != null && obj.getType() == type
+                    && (property == null || obj.compareTo(property) < 0)) {
+                property = obj;
+            }
         }
 
-        NumericProperty property = null;
+        if (property != null) {
+            return property;
+        }
 
         for (var accessible : accessibleChildren()) {
             property = accessible.numericProperty(type);
@@ -270,8 +247,16 @@ public abstract class Accessible extends Group {
      * @see children
      */
     public List<Accessible> accessibleChildren() {
-        return children().stream().filter(group -> group instanceof Accessible).map(acGroup -> (Accessible) acGroup)
-                .collect(toList());
+        var children = children();
+        var accessibles = new ArrayList<Accessible>(children.size());
+
+        for (var group : children) {
+            if (group instanceof Accessible) {
+                accessibles.add((Accessible) group);
+            }
+        }
+
+        return accessibles;
     }
 
 }
@@ -0,0 +1,210 @@
+package pulse.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import pulse.properties.NumericProperty;
+import pulse.properties.Property;
+
+/**
+ * A per-class index of the no-argument getter methods used by {@code Group}
+ * and {@code Accessible} to discover properties and subgroups.
+ * <p>
+ * The index is built once for each class, when it is first requested, by
+ * scanning the public methods of that class. Each getter is then stored as a
+ * {@code MethodHandle}, so that subsequent calls do not need to list the
+ * methods or go through {@code Method.invoke}.
+ * </p>
+ *
+ * @see pulse.util.Group.subgroups()
+ * @see pulse.util.Accessible.numericProperties()
+ * @see pulse.util.Accessible.genericProperties()
+ */
+final class AccessorIndex {
+
+    private static final ClassValue<AccessorIndex> INDICES = new ClassValue<>() {
+        @Override
+        protected AccessorIndex computeValue(Class<?> type) {
+            return new AccessorIndex(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final List<Accessor> numericGetters;
+    private final List<Accessor> genericGetters;
+    private final List<Accessor> groupGetters;
+
+    private AccessorIndex(Class<?> type) {
+        var numeric = new ArrayList<Accessor>();
+        var generic = new ArrayList<Accessor>();
+        var groups = new ArrayList<Accessor>();
+
+        var lookup = MethodHandles.lookup();
+
+        for (var m : type.getMethods()) {
+
+            if (m.getParameterCount() > 0) {
+                continue;
+            }
+
+            var returnType = m.getReturnType();
+
+            if (NumericProperty.class.isAssignableFrom(returnType)) {
+                numeric.add(new Accessor(lookup, m));
+            } else if (Property.class.isAssignableFrom(returnType)) {
+                generic.add(new Accessor(lookup, m));
+            }
+
+            /* ignore factory/instance methods returning the same class */
+            if (Group.class.isAssignableFrom(returnType) && !returnType.isAssignableFrom(type)) {
+                groups.add(new Accessor(lookup, m));
+            }
+
+        }
+
+        this.numericGetters = Collections.unmodifiableList(numeric);
+        this.genericGetters = Collections.unmodifiableList(generic);
+        this.groupGetters = Collections.unmodifiableList(groups);
+    }
+
+    /**
+     * Retrieves the (cached) index for {@code type}.
+     *
+     * @param type a class
+     * @return the accessor index of that class
+     */
+    static AccessorIndex of(Class<?> type) {
+        return INDICES.get(type);
+    }
+
+    /**
+     * @return getters returning instances of {@code NumericProperty}
+     */
+    List<Accessor> numericGetters() {
+        return numericGetters;
+    }
+
+    /**
+     * @return getters returning instances of {@code Property}, which are not
+     * {@code NumericProperty}
+     */
+    List<Accessor> genericGetters() {
+        return genericGetters;
+    }
+
+    /**
+     * @return getters returning {@code Group}s of a different class
+     */
+    List<Accessor> groupGetters() {
+        return groupGetters;
+    }
+
+    /**
+     * Checks if one of the getters returning {@code Group}s may return an
+     * instance of {@code type}.
+     *
+     * @param type a subclass of {@code Group}
+     * @return {@code true} if a group getter declares a supertype of
+     * {@code type}
+     */
+    boolean exposes(Class<?> type) {
+        for (var getter : groupGetters) {
+            if (getter.method.getReturnType().isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A no-argument getter stored as a {@code MethodHandle}.
+     */
+    static final class Accessor {
+
+        /**
+         * Returned by {@link #invoke(Object)} if the getter has failed.
+         */
+        static final Object FAILED = new Object();
+
+        private final Method method;
+        private final MethodHandle handle;
+
+        private Accessor(MethodHandles.Lookup lookup, Method method) {
+            this.method = method;
+            this.handle = unreflect(lookup, method);
+        }
+
+        private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method m) {
+            MethodHandle h;
+            try {
+                h = lookup.unreflect(m);
+            } catch (IllegalAccessException e) {
+                /* public method declared in a non-public class */
+                try {
+                    m.setAccessible(true);
+                    h = lookup.unreflect(m);
+                } catch (IllegalAccessException | RuntimeException e1) {
+                    System.err.println("Cannot access " + m + ". Details: ");
+                    e1.printStackTrace();
+                    return null;
+                }
+            }
+            if (Modifier.isStatic(m.getModifiers())) {
+                //static getters ignore the target
+                h = MethodHandles.dropArguments(h, 0, Object.class);
+            }
+            return h.asType(GETTER_TYPE);
+        }
+
+        /**
+         * Invokes the getter on {@code target}.
+         *
+         * @param target the object, the class of which has been used to build
+         * this accessor
+         * @return the returned value, or {@code null} if the getter could not be
+         * invoked or has thrown an exception
+         * @throws Error if the getter has thrown an error, which is not
+         * recoverable
+         */
+        Object get(Object target) {
+            var value = invoke(target);
+            return value == FAILED ? null : value;
+        }
+
+        /**
+         * Invokes the getter on {@code target}, telling a failure apart from a
+         * {@code null} value.
+         *
+         * @param target the object, the class of which has been used to build
+         * this accessor
+         * @return the returned value, or {@link #FAILED} if the getter could not
+         * be invoked or has thrown an exception
+         * @throws Error if the getter has thrown an error, which is not
+         * recoverable
+         */
+        Object invoke(Object target) {
+            if (handle == null) {
+                return FAILED;
+            }
+
+            try {
+                return (Object) handle.invokeExact(target);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                System.err.println("Error invoking method " + method + ". Details: ");
+                e.printStackTrace();
+                return FAILED;
+            }
+        }
+
+    }
+
+}
@@ -1,15 +1,15 @@
 package pulse.util;
 
-import static java.util.stream.Collectors.toList;
-
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 public class Group extends UpwardsNavigable {
 
+    private transient List<Group> children;
+
     /**
      * <p>
      * Tries to access getter methods to retrieve all {@code Accessible}
@@ -23,23 +23,9 @@ public class Group extends UpwardsNavigable {
     public List<Group> subgroups() {
         var fields = new ArrayList<Group>();
 
-        var methods = this.getClass().getMethods();
-        for (var m : methods) {
+        for (var getter : AccessorIndex.of(getClass()).groupGetters()) {
 
-            if (m.getParameterCount() > 0
-                    || !Group.class.isAssignableFrom(m.getReturnType())
-                    || m.getReturnType().isAssignableFrom(getClass())) {
-                continue;
-            }
-
-            Group a = null;
-
-            try {
-                a = (Group) m.invoke(this);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                System.err.println("Failed to invoke " + m + " Details: ");
-                e.printStackTrace();
-            }
+            var a = (Group) getter.get(this);
 
             /* Ignore null, factory/instance methods returning same accessibles */
             if (a == null || a.getDescriptor().equals(getDescriptor())) {
@@ -94,13 +80,56 @@ public class Group extends UpwardsNavigable {
      * {@code this}. Note that all {@code Accessible}s are required to
      * explicitly adopt children by calling the {@code setParent()} method.
      * </p>
+     * <p>
+     * The children are kept in a registry, which {@code setParent()} updates.
+     * Setters replacing a child should {@link #release(UpwardsNavigable)} the
+     * old one.
+     * </p>
      *
      * @return a {@code List} of children that this {@code Accessible} has
      * adopted.
      * @see subgroups
      */
     public List<Group> children() {
-        return subgroups().stream().filter(a -> a.getParent() == this).collect(toList());
+        return new ArrayList<>(registry());
+    }
+
+    private synchronized List<Group> registry() {
+        if (children == null) {
+            children = new CopyOnWriteArrayList<>();
+        }
+        return children;
+    }
+
+    /**
+     * Adds {@code child} to the children of this group if one of the getters
+     * of this group may return it, and it has not been added yet.
+     *
+     * @param child a group, the parent of which is {@code this}
+     */
+    final void register(Group child) {
+        if (!AccessorIndex.of(getClass()).exposes(child.getClass())) {
+            return;
+        }
+
+        var registry = registry();
+        synchronized (registry) {
+            if (registry.stream().noneMatch(c -> c == child)) {
+                registry.add(child);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code child} from the children of this group, without changing
+     * its parent. Setters call this for the child they replace.
+     *
+     * @param child the former child, may be {@code null}
+     */
+    protected final void release(UpwardsNavigable child) {
+        if (child != null) {
+            registry().removeIf(c -> c == child);
+        }
     }
 
     /**
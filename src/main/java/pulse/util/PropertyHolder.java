@@ -23,6 +23,7 @@ public abstract class PropertyHolder extends Accessible {
 
     private List<Property> parameters = listedTypes();
     private transient List<PropertyHolderListener> listeners;
+    private transient List<PropertyHolderListener> deferredListeners;
     private String prefix;
 
     /**
@@ -200,6 +201,10 @@ public abstract class PropertyHolder extends Accessible {
             listeners.forEach(l -> l.onPropertyChanged(event));
         }
 
+        if (!isQuiet()) {
+            fireDeferred(event);
+        }
+
         /*
 		 * If the changes are triggered by an external GUI component (such as
 		 * PropertyHolderTable), inform parents about this
@@ -230,6 +235,9 @@ public abstract class PropertyHolder extends Accessible {
         else {
             listeners.clear();
         }
+        if (deferredListeners != null) {
+            deferredListeners.clear();
+        }
     }
 
     public void addListener(PropertyHolderListener l) {
@@ -243,6 +251,28 @@ public abstract class PropertyHolder extends Accessible {
         return listeners;
     }
 
+    /**
+     * Adds a listener which is not notified of the intermediate changes made
+     * while this {@code PropertyHolder} is quiet. Instead, it receives one
+     * event per changed property, carrying its latest value, when the quiet
+     * mode ends.
+     *
+     * @param l the listener
+     * @see UpwardsNavigable.exitQuietMode()
+     */
+    public void addDeferredListener(PropertyHolderListener l) {
+        if (deferredListeners == null) {
+            this.deferredListeners = new ArrayList<>();
+        }
+        this.deferredListeners.add(l);
+    }
+
+    final void fireDeferred(PropertyEvent event) {
+        if (deferredListeners != null) {
+            deferredListeners.forEach(l -> l.onPropertyChanged(event));
+        }
+    }
+
     /**
      * By default, this is set to {@code false}. If the overriding subclass sets
      * this to {@code true}, only those {@code NumericPropert}ies that have the
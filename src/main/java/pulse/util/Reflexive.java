@@ -1,6 +1,5 @@
 package pulse.util;
 
-import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -23,18 +22,17 @@ public interface Reflexive {
     /**
      * Uses the {@code ReflexiveFinder} to create a list of simple instance of
      * {@code reflexiveType} generated by any classes listed in the package
-     * {@code pckgname}.
+     * {@code pckgname}. Only the subclasses of {@code reflexiveType} are
+     * instantiated.
      *
-     * @see ReflexiveFinder.simpleInstances(String)
+     * @see ReflexiveFinder.simpleInstances(Class, String, Object...)
      * @param <T> a class implementing {@code Reflexive}
      * @param reflexiveType a class that extends {@code T}
      * @param pckgname the String with the package name
      * @return a list of {@code Reflexive} conforming with the conditions above.
      */
-    @SuppressWarnings("unchecked")
     public static <T extends Reflexive> List<T> instancesOf(Class<T> reflexiveType, String pckgname, Object... params) {
-        return (List<T>) ReflexiveFinder.simpleInstances(pckgname, params).stream()
-                .filter(r -> reflexiveType.isAssignableFrom(r.getClass())).collect(Collectors.toList());
+        return ReflexiveFinder.simpleInstances(reflexiveType, pckgname, params);
     }
 
     /**
@@ -61,8 +59,7 @@ public interface Reflexive {
     }
 
     public static <T extends Reflexive> Set<String> allSubclassesNames(Class<T> c) {
-        var classes = ReflexiveFinder.classesIn(c.getPackageName());
-        return classes.stream().filter(cl -> c.isAssignableFrom(cl) && !Modifier.isAbstract(cl.getModifiers()))
+        return ReflexiveFinder.subclassesIn(c, c.getPackageName()).stream()
                 .map(aClass -> aClass.getSimpleName()).collect(Collectors.toSet());
     }
 
@@ -6,26 +6,48 @@ import static java.lang.Class.forName;
 import static java.lang.reflect.Modifier.isAbstract;
 import static java.lang.reflect.Modifier.isPublic;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipFile;
+import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
 
 /**
  * Provides utility methods for finding classes and instances of
  * {@code Reflexive} in a {@code PULsE} package.
+ * <p>
+ * The classes are looked up in the index generated at build time by the
+ * {@code ReflexiveIndexer}. Before the index is used for a package, the
+ * top-level classes it lists are compared with the class files of that
+ * package, which are listed without being loaded. If there is no index, or it
+ * does not match, e.g. when the classes have been compiled by an IDE without
+ * annotation processing or only some of them have been recompiled, the class
+ * path is scanned instead. Either way, the classes found in a package are
+ * cached, as are the subclasses of each type.
+ * </p>
  *
  */
 public class ReflexiveFinder {
 
-    private static Map<String, List<Class<?>>> classMap = new HashMap<>();
+    private final static List<String> index = new ArrayList<>();
+    private final static Set<String> compiled = new HashSet<>();
+    private final static boolean indexed = readIndex();
+
+    private static Map<String, List<Class<?>>> classMap = new ConcurrentHashMap<>();
+    private static Map<String, List<Class<?>>> subclassMap = new ConcurrentHashMap<>();
 
     private ReflexiveFinder() {
         // intentionall blank
@@ -77,9 +99,23 @@ public class ReflexiveFinder {
 
     private static List<Class<?>> listClassesInDirectory(File root, String pckgname) {
         List<Class<?>> classes = new ArrayList<>();
+
+        classNamesInDirectory(root, pckgname).forEach(name -> {
+            try {
+                classes.add(forName(name));
+            } catch (ClassNotFoundException e) {
+                System.err.println("Failed to find the .class file");
+                e.printStackTrace();
+            }
+        });
+
+        return classes;
+    }
+
+    private static List<String> classNamesInDirectory(File root, String pckgname) {
         var files = listf(root);
 
-        files.stream().map(f -> {
+        return files.stream().map(f -> {
 
             var pathName = f.getName();
 
@@ -89,17 +125,19 @@ public class ReflexiveFinder {
 
             return pathName;
 
-        }).forEach(path -> {
-            if (path.endsWith(".class"))
-				try {
-                classes.add(forName(pckgname + "." + path.substring(0, path.length() - 6)));
-            } catch (ClassNotFoundException e) {
-                System.err.println("Failed to find the .class file");
-                e.printStackTrace();
-            }
-        });
+        }).filter(path -> path.endsWith(".class"))
+                .map(path -> pckgname + "." + path.substring(0, path.length() - 6))
+                .collect(Collectors.toList());
+    }
 
-        return classes;
+    private static List<String> classNamesInJar(String locationPath, String pckgname) throws IOException {
+        var prefix = pckgname.replace('.', '/') + "/";
+        try (var jar = new ZipFile(locationPath)) {
+            return jar.stream().map(entry -> entry.getName())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(".class"))
+                    .map(name -> name.substring(0, name.length() - 6).replace('/', '.'))
+                    .collect(Collectors.toList());
+        }
     }
 
     private static List<Class<?>> listClassesInJar(String locationPath, String pckgname) {
@@ -130,13 +168,115 @@ public class ReflexiveFinder {
     }
 
     /**
-     * Uses Java Reflection API to find all classes within the package named
-     * {@code pckgname}. Works well with .jar files.
+     * Reads the names of the {@code Reflexive} classes and of the compiled
+     * top-level classes from all index resources on the class path.
+     *
+     * @return {@code false} if there is no index
+     */
+    private static boolean readIndex() {
+        try {
+            var resources = ReflexiveFinder.class.getClassLoader().getResources(ReflexiveIndexer.INDEX);
+            if (!resources.hasMoreElements()) {
+                return false;
+            }
+
+            while (resources.hasMoreElements()) {
+                try (var reader = new BufferedReader(
+                        new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines().map(String::trim).filter(line -> !line.isEmpty()).forEach(line -> {
+                        if (line.startsWith(ReflexiveIndexer.COMPILED)) {
+                            compiled.add(line.substring(ReflexiveIndexer.COMPILED.length()));
+                        } else {
+                            index.add(line);
+                        }
+                    });
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Unable to read the index of reflexive classes. The class path will be scanned instead. Details: ");
+            e.printStackTrace();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks that the index lists exactly the top-level classes found in the
+     * package named {@code pckgname} and its subpackages. The class files are
+     * listed, but not loaded.
+     *
+     * @param pckgname the name of the package
+     * @return {@code true} if the index can be used for this package
+     */
+    public static boolean isIndexed(String pckgname) {
+        if (!indexed) {
+            return false;
+        }
+
+        var prefix = pckgname + ".";
+        var locationPath = initialiseLocationPath();
+        var root = new File(locationPath + adjustClassName(pckgname));
+        List<String> names;
+
+        try {
+            names = root.isDirectory() ? classNamesInDirectory(root, pckgname) : classNamesInJar(locationPath, pckgname);
+        } catch (IOException e) {
+            System.err.println("Unable to list the classes in " + pckgname + ". Details: ");
+            e.printStackTrace();
+            return false;
+        }
+
+        var found = names.stream().filter(name -> name.indexOf('$') < 0
+                && !name.endsWith(".package-info") && !name.endsWith(".module-info"))
+                .collect(Collectors.toSet());
+        var expected = compiled.stream().filter(name -> name.startsWith(prefix)).collect(Collectors.toSet());
+
+        return found.equals(expected);
+    }
+
+    /**
+     * Finds the classes within the package named {@code pckgname} and its
+     * subpackages. If the build-time index is available and up to date for
+     * this package, only the {@code Reflexive} classes listed there are
+     * returned; otherwise, all classes found by {@link #scan(String)}.
      *
      * @param pckgname the name of the package.
      * @return a list of {@code Class} objects.
      */
     public static List<Class<?>> classesIn(String pckgname) {
+        if (!isIndexed(pckgname)) {
+            if (indexed) {
+                System.err.println("The index of reflexive classes does not match the classes in "
+                        + pckgname + ". The class path will be scanned instead.");
+            }
+            return scan(pckgname);
+        }
+
+        var prefix = pckgname + ".";
+        var classes = new ArrayList<Class<?>>();
+        for (var name : index) {
+            if (name.startsWith(prefix)) {
+                try {
+                    classes.add(forName(name));
+                } catch (ClassNotFoundException e) {
+                    System.err.println("Class listed in the index not found: " + name);
+                    e.printStackTrace();
+                }
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Uses Java Reflection API to find all classes within the package named
+     * {@code pckgname} by listing the class files, ignoring the index. Works
+     * well with .jar files.
+     *
+     * @param pckgname the name of the package.
+     * @return a list of {@code Class} objects.
+     */
+    public static List<Class<?>> scan(String pckgname) {
         var name = adjustClassName(pckgname);
         String locationPath = initialiseLocationPath();
 
@@ -220,29 +360,77 @@ public class ReflexiveFinder {
      * in {@code pckgname}.
      */
     public static <V extends Reflexive> List<V> simpleInstances(String pckgname, Object... params) {
-        List<V> instances = new ArrayList<>();
+        return instances(classes(pckgname), params);
+    }
+
+    /**
+     * Finds simple instances of the subclasses of {@code type} within
+     * {@code pckgname}. Unlike {@link #simpleInstances(String, Object...)},
+     * only the classes assignable to {@code type} are instantiated.
+     *
+     * @param <V> a class implementing {@code Reflexive}
+     * @param type the type of the instances
+     * @param pckgname the name of the package for the search
+     * @param params the arguments of the constructors
+     * @return the instances of {@code type} found in {@code pckgname}
+     */
+    public static <V extends Reflexive> List<V> simpleInstances(Class<V> type, String pckgname, Object... params) {
+        return instances(subclassesIn(type, pckgname), params);
+    }
 
-        //generate a class list only once
-        if (classMap.get(pckgname) == null) {
-            classMap.put(pckgname, classesIn(pckgname));
+    /**
+     * Finds the concrete subclasses of {@code type} within {@code pckgname}.
+     * The result is cached for each type and package.
+     *
+     * @param type the superclass or interface
+     * @param pckgname the name of the package for the search
+     * @return the concrete classes assignable to {@code type}
+     */
+    public static List<Class<?>> subclassesIn(Class<?> type, String pckgname) {
+        var key = type.getName() + "@" + pckgname;
+        var subclasses = subclassMap.get(key);
+
+        if (subclasses == null) {
+            subclasses = new ArrayList<>();
+            for (var aClass : classes(pckgname)) {
+                if (!isAbstract(aClass.getModifiers()) && type.isAssignableFrom(aClass)) {
+                    subclasses.add(aClass);
+                }
+            }
+            subclassMap.putIfAbsent(key, subclasses);
         }
 
-        for (var aClass : classMap.get(pckgname)) {
+        return subclasses;
+    }
+
+    /**
+     * Creates a simple instance of {@code aClass}.
+     *
+     * @param <V> a class implementing {@code Reflexive}
+     * @param aClass the class
+     * @param params the arguments of the constructor
+     * @return an instance created by a public constructor or the
+     * {@code getInstance()} method, or {@code null} if neither succeeds
+     */
+    public static <V extends Reflexive> V simpleInstance(Class<?> aClass, Object... params) {
+        // Try to create an instance of the object
+        V instance = instanceConstructor(aClass, params);
+        // if the class has a getInstance() method
+        return instance != null ? instance : instanceMethod(aClass);
+    }
+
+    private static <V extends Reflexive> List<V> instances(List<Class<?>> classes, Object... params) {
+        List<V> instances = new ArrayList<>();
+
+        for (var aClass : classes) {
 
             if (isAbstract(aClass.getModifiers())) {
                 continue;
             }
 
-            // Try to create an instance of the object
-            V instance = instanceConstructor(aClass, params);
+            V instance = simpleInstance(aClass, params);
             if (instance != null) {
                 instances.add(instance);
-            } else {
-                // if the class has a getInstance() method
-                instance = instanceMethod(aClass);
-                if (instance != null) {
-                    instances.add(instance);
-                }
             }
 
         }
@@ -251,6 +439,19 @@ public class ReflexiveFinder {
 
     }
 
+    /**
+     * Lists the classes in {@code pckgname} once. The startup may look up
+     * several packages in parallel.
+     */
+    private static List<Class<?>> classes(String pckgname) {
+        var classes = classMap.get(pckgname);
+        if (classes == null) {
+            classes = classesIn(pckgname);
+            classMap.putIfAbsent(pckgname, classes);
+        }
+        return classes;
+    }
+
     public static <V extends Reflexive> List<V> simpleInstances(String pckgname) {
         return simpleInstances(pckgname, new Object[0]);
     }
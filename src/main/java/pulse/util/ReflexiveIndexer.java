@@ -0,0 +1,116 @@
+package pulse.util;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor that writes the names of all concrete
+ * {@code Reflexive} classes of a compilation to the {@value INDEX} resource,
+ * which is then used by the {@code ReflexiveFinder} instead of scanning the
+ * class path.
+ * <p>
+ * The index also lists all top-level classes of the compilation, on lines
+ * starting with {@value COMPILED}. The {@code ReflexiveFinder} compares them
+ * with the class files it finds, so that an index written by a compilation of
+ * only some of the sources, or left over from an earlier build, is not
+ * trusted.
+ * </p>
+ * <p>
+ * The processor does not need any annotations: it is run for every class and
+ * claims nothing. Nothing is written if a compilation has no {@code Reflexive}
+ * classes, e.g. the compilation of the tests. The processor is compiled
+ * before the other classes and registered for the build only (see
+ * {@code pom.xml}), which is why it does not depend on any other class of
+ * {@code PULsE}.
+ * </p>
+ */
+@SupportedAnnotationTypes("*")
+public class ReflexiveIndexer extends AbstractProcessor {
+
+    /**
+     * The name of the index resource
+     */
+    public final static String INDEX = "META-INF/pulse/reflexive-index";
+
+    /**
+     * The prefix of the lines listing the top-level classes of the compilation
+     */
+    public final static String COMPILED = "*";
+
+    private final static String REFLEXIVE = "pulse.util.Reflexive";
+
+    private final Set<String> names = new TreeSet<>();
+    private final Set<String> compiled = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        var reflexive = processingEnv.getElementUtils().getTypeElement(REFLEXIVE);
+
+        if (reflexive != null) {
+            for (var element : round.getRootElements()) {
+                if (element instanceof TypeElement) {
+                    compiled.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+                add(element, reflexive);
+            }
+        }
+
+        if (round.processingOver() && !names.isEmpty()) {
+            write();
+        }
+
+        return false;
+    }
+
+    private void add(Element element, TypeElement reflexive) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return;
+        }
+
+        var type = (TypeElement) element;
+        var types = processingEnv.getTypeUtils();
+
+        if (!type.getModifiers().contains(Modifier.ABSTRACT)
+                && types.isAssignable(types.erasure(type.asType()), types.erasure(reflexive.asType()))) {
+            names.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+
+        for (var member : type.getEnclosedElements()) {
+            if (member.getModifiers().contains(Modifier.STATIC)) {
+                add(member, reflexive);
+            }
+        }
+    }
+
+    private void write() {
+        try {
+            var file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (var out = new PrintWriter(file.openWriter())) {
+                names.forEach(out::println);
+                compiled.forEach(name -> out.println(COMPILED + name));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Unable to write the reflexive class index: " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package pulse.util;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.function.UnaryOperator;
+
+/**
+ * An {@code ObjectOutputStream} that passes every object through a
+ * {@code replacer} before writing it. This is used to cut the links from an
+ * object to the upper levels of the hierarchy (e.g. to the
+ * {@code TaskManager}), so that the object can be written separately.
+ *
+ * @see java.io.ObjectOutputStream.replaceObject(Object)
+ */
+public class ReplacingObjectOutputStream extends ObjectOutputStream {
+
+    private final UnaryOperator<Object> replacer;
+
+    /**
+     * Creates a stream writing to {@code out}.
+     *
+     * @param out the underlying output stream
+     * @param replacer returns either the object itself, a substitute, or
+     * {@code null}
+     * @throws IOException if an I/O error occurs when writing the stream header
+     */
+    public ReplacingObjectOutputStream(OutputStream out, UnaryOperator<Object> replacer) throws IOException {
+        super(out);
+        this.replacer = replacer;
+        enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(Object obj) {
+        return replacer.apply(obj);
+    }
+
+}
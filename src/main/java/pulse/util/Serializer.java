@@ -3,16 +3,19 @@ package pulse.util;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.logging.Logger;
 import javax.swing.JFileChooser;
 import static javax.swing.JFileChooser.APPROVE_OPTION;
 import static javax.swing.JFileChooser.FILES_ONLY;
 import javax.swing.filechooser.FileNameExtensionFilter;
+import pulse.tasks.SearchTask;
 import pulse.tasks.TaskManager;
 import pulse.ui.frames.dialogs.ProgressDialog.ProgressWorker;
 
@@ -90,20 +93,46 @@ public class Serializer {
 
     }
 
+    /**
+     * Saves the current session to {@code fname} in the indexed format.
+     *
+     * @param fname the destination file
+     * @throws IOException if an I/O error occurs
+     * @see pulse.util.SessionFormat
+     */
     public static void serialize(File fname) throws FileNotFoundException, IOException, ClassNotFoundException {
-        FileOutputStream fileOutputStream = new FileOutputStream(fname);
-        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream)) {
-            var instance = TaskManager.getManagerInstance();
-            objectOutputStream.writeObject(instance);
-        }
+        SessionFormat.write(TaskManager.getManagerInstance(), fname);
     }
 
+    /**
+     * Loads a session from {@code fname}. Both the indexed format and the
+     * legacy format, where the whole {@code TaskManager} is serialised as a
+     * single object, are supported.
+     *
+     * @param fname the session file
+     * @throws IOException if an I/O error occurs
+     * @throws ClassNotFoundException if a class cannot be found
+     */
     public static void deserialize(File fname) throws FileNotFoundException, IOException, ClassNotFoundException {
-        FileInputStream fis = new FileInputStream(fname);
         TaskManager state;
-        try (ObjectInputStream ois = new ObjectInputStream(fis)) {
-            state = (TaskManager) ois.readObject();
+        SearchTask selected = null;
+
+        if (SessionFormat.isSessionFile(fname)) {
+            try (var session = SessionFormat.open(fname)) {
+                state = session.loadManager();
+                var tasks = loadTasks(session, state);
+                state.getTaskList().addAll(tasks);
+                int index = session.getSelectedIndex();
+                selected = index > -1 ? tasks.get(index) : null;
+            }
+        } else {
+            FileInputStream fis = new FileInputStream(fname);
+            try (ObjectInputStream ois = new ObjectInputStream(fis)) {
+                ois.setObjectInputFilter(SessionFormat.getInputFilter());
+                state = (TaskManager) ois.readObject();
+            }
         }
+
         //close stream
         state.initListeners();
         state.getTaskList().stream().forEach(t -> {
@@ -112,7 +141,38 @@ public class Serializer {
         }
         );
         TaskManager.assumeNewState(state);
-        state.fireTaskSelected(state);
+
+        if (selected != null) {
+            state.selectTask(selected.getIdentifier(), state);
+        } else {
+            state.fireTaskSelected(state);
+        }
+    }
+
+    /*
+     * All tasks are loaded up front, as the task manager holds loaded tasks
+     * only. The blocks are independent of each other and are read concurrently
+     */
+    private static List<SearchTask> loadTasks(SessionFormat session, TaskManager state)
+            throws IOException, ClassNotFoundException {
+        try {
+            return IntStream.range(0, session.size()).parallel().mapToObj(i -> {
+                try {
+                    return session.loadTask(i, state);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (ClassNotFoundException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof ClassNotFoundException) {
+                throw (ClassNotFoundException) e.getCause();
+            }
+            throw e;
+        }
     }
 
 }
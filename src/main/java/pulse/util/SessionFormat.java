@@ -0,0 +1,560 @@
+package pulse.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import static pulse.properties.NumericPropertyKeyword.TEST_TEMPERATURE;
+
+import pulse.tasks.SearchTask;
+import pulse.tasks.TaskManager;
+
+/**
+ * A versioned, indexed session file. Unlike a plain serialised
+ * {@code TaskManager}, each task is stored in a separate block, which can be
+ * loaded independently of the others.
+ * <p>
+ * This format is a container for Java serialisation rather than a
+ * replacement for it: apart from the summary, the content of each block is a
+ * serialised object graph. Neither does PULsE load tasks lazily -- the
+ * {@code TaskManager} works with loaded tasks only, so {@code Serializer}
+ * reads every block when a session is opened. Loading a single task with
+ * {@link #loadTask(int, TaskManager)} is meant for tools which need only a
+ * part of a session.
+ * </p>
+ * <p>
+ * The file layout (version {@value VERSION}) is as follows:
+ * </p>
+ * <ol>
+ * <li>Header: the {@value MAGIC} magic string, the format version, the number
+ * of tasks and the index of the selected task (or {@code -1}).</li>
+ * <li>Index: the offset and length of the block containing the
+ * {@code TaskManager} state, followed by the offsets and lengths of each task
+ * block.</li>
+ * <li>Summary: a columnar section listing the identifier, external ID, test
+ * temperature and status of each task. This can be read without deserialising
+ * any of the tasks.</li>
+ * <li>Blocks: the {@code TaskManager} block, stored without its tasks, and
+ * one block per task, in no particular order. Blocks are written with Java
+ * serialisation, where the references to the {@code TaskManager} and its
+ * datasets are replaced by tokens resolved at load time. The curves, results
+ * and logs of a task are part of its block rather than separate columnar
+ * sections.</li>
+ * </ol>
+ * <p>
+ * Each block is written as soon as it has been serialised, and the index is
+ * filled in when all blocks are written. On reading, only the header, the
+ * index and the summary are loaded when the file is opened, while each block
+ * is memory-mapped separately when it is loaded. The file size is therefore
+ * not limited by the size of a single mapped buffer.
+ * </p>
+ * <p>
+ * Since sessions and the objects sent by remote workers may come from
+ * untrusted sources, only the classes of PULsE, the collections and values of
+ * the JDK and the functions of Commons Math are deserialised.
+ * </p>
+ *
+ * @see pulse.util.Serializer
+ */
+public class SessionFormat implements Closeable {
+
+    /**
+     * The magic string written at the start of every session file
+     */
+    public final static String MAGIC = "PULSESES";
+
+    /**
+     * The current version of the format
+     */
+    public final static int VERSION = 1;
+
+    private final static byte[] MAGIC_BYTES = MAGIC.getBytes(StandardCharsets.US_ASCII);
+
+    private final static int HEADER_LENGTH = MAGIC_BYTES.length + 3 * Integer.BYTES;
+    private final static int INDEX_ENTRY_LENGTH = Long.BYTES + Integer.BYTES;
+
+    /*
+     * The serialisable lambdas of PULsE are resolved through SerializedLambda,
+     * and the half-time calculator keeps a Point2D
+     */
+    private final static ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "pulse.**;java.lang.*;java.lang.invoke.SerializedLambda;java.util.**;java.time.*;"
+            + "java.awt.geom.Point2D*;org.apache.commons.math3.**;!*");
+
+    private final FileChannel channel;
+    private final int selected;
+
+    private final long managerOffset;
+    private final int managerLength;
+    private final long[] offsets;
+    private final int[] lengths;
+
+    private final int[] identifiers;
+    private final int[] externalIds;
+    private final double[] testTemperatures;
+    private final String[] statuses;
+
+    private SessionFormat(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        var buffer = read(0, HEADER_LENGTH);
+        var magic = new byte[MAGIC_BYTES.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC_BYTES)) {
+            throw new IOException("Not a session file");
+        }
+
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported session format version: " + version);
+        }
+
+        int size = buffer.getInt();
+        selected = buffer.getInt();
+
+        if (size < 0 || HEADER_LENGTH + (size + 1L) * INDEX_ENTRY_LENGTH > channel.size()) {
+            throw new IOException("Corrupt session index: " + size + " tasks");
+        }
+
+        //index
+        buffer = read(HEADER_LENGTH, (size + 1) * INDEX_ENTRY_LENGTH);
+        managerOffset = buffer.getLong();
+        managerLength = buffer.getInt();
+        offsets = new long[size];
+        lengths = new int[size];
+        for (int i = 0; i < size; i++) {
+            offsets[i] = buffer.getLong();
+            lengths[i] = buffer.getInt();
+        }
+
+        //summary, which ends where the manager block starts
+        long summaryOffset = HEADER_LENGTH + (size + 1L) * INDEX_ENTRY_LENGTH;
+        if (managerOffset < summaryOffset || managerOffset > channel.size()) {
+            throw new IOException("Corrupt session index: manager block at " + managerOffset);
+        }
+        buffer = read(summaryOffset, (int) (managerOffset - summaryOffset));
+        identifiers = new int[size];
+        externalIds = new int[size];
+        testTemperatures = new double[size];
+        statuses = new String[size];
+        for (int i = 0; i < size; i++) {
+            identifiers[i] = buffer.getInt();
+        }
+        for (int i = 0; i < size; i++) {
+            externalIds[i] = buffer.getInt();
+        }
+        for (int i = 0; i < size; i++) {
+            testTemperatures[i] = buffer.getDouble();
+        }
+        for (int i = 0; i < size; i++) {
+            var bytes = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(bytes);
+            statuses[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Returns the filter which restricts the classes deserialised from
+     * sessions and from remote workers. Other readers of serialised PULsE
+     * objects should use it as well.
+     *
+     * @return the filter
+     */
+    public static ObjectInputFilter getInputFilter() {
+        return FILTER;
+    }
+
+    /**
+     * Checks whether {@code file} starts with the {@value MAGIC} string.
+     *
+     * @param file a file
+     * @return {@code true} if this is a session file in the indexed format
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean isSessionFile(File file) throws IOException {
+        try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            var magic = ByteBuffer.allocate(MAGIC_BYTES.length);
+            while (magic.hasRemaining() && channel.read(magic) > -1) {
+                //keep reading
+            }
+            return !magic.hasRemaining() && Arrays.equals(magic.array(), MAGIC_BYTES);
+        }
+    }
+
+    /**
+     * Opens a session file, reading its header, index and summary. No tasks
+     * are loaded at this stage. The file stays open until this session is
+     * closed.
+     *
+     * @param file a session file
+     * @return the opened session
+     * @throws IOException if the file cannot be read or has an unsupported
+     * format
+     */
+    public static SessionFormat open(File file) throws IOException {
+        var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return new SessionFormat(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the session file.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Writes {@code manager} to {@code file}. The tasks are serialised
+     * concurrently, and each block is written as soon as it is ready, so that
+     * at most one block per thread is held in memory.
+     *
+     * @param manager the task manager
+     * @param file the destination file
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(TaskManager manager, File file) throws IOException {
+        var tasks = new ArrayList<>(manager.getTaskList());
+        var shared = shared(manager);
+        int size = tasks.size();
+
+        var summary = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(summary)) {
+            out.write(MAGIC_BYTES);
+            out.writeInt(VERSION);
+            out.writeInt(size);
+            out.writeInt(tasks.indexOf(manager.getSelectedTask()));
+
+            //the index is written once the blocks are in place
+            out.write(new byte[(size + 1) * INDEX_ENTRY_LENGTH]);
+
+            for (var t : tasks) {
+                out.writeInt((int) t.getIdentifier().getValue());
+            }
+            for (var t : tasks) {
+                out.writeInt(t.getInput().getMetadata().getExternalID());
+            }
+            for (var t : tasks) {
+                var metadata = t.getInput().getMetadata();
+                out.writeDouble(((Number) metadata.numericProperty(TEST_TEMPERATURE).getValue()).doubleValue());
+            }
+            for (var t : tasks) {
+                var bytes = t.getStatus().name().getBytes(StandardCharsets.UTF_8);
+                out.writeShort(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var writer = new BlockWriter(channel, size);
+            writer.write(0, summary.toByteArray());
+
+            //the manager block does not contain any tasks
+            writer.writeBlock(-1, block(manager, obj -> {
+                if (obj == manager.getTaskList()) {
+                    return new ArrayList<SearchTask>();
+                }
+                return obj instanceof SearchTask ? null : obj;
+            }));
+
+            try {
+                IntStream.range(0, size).parallel().forEach(i -> {
+                    try {
+                        writer.writeBlock(i, serialise(tasks.get(i), shared));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            writer.writeIndex();
+        }
+    }
+
+    /**
+     * @return the number of tasks stored in this session
+     */
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * @return the index of the selected task, or {@code -1} if no task was
+     * selected
+     */
+    public int getSelectedIndex() {
+        return selected;
+    }
+
+    public int getIdentifier(int index) {
+        return identifiers[index];
+    }
+
+    public int getExternalID(int index) {
+        return externalIds[index];
+    }
+
+    public double getTestTemperature(int index) {
+        return testTemperatures[index];
+    }
+
+    /**
+     * @param index the index of the task
+     * @return the name of the task status at the moment of saving
+     */
+    public String getStatus(int index) {
+        return statuses[index];
+    }
+
+    /**
+     * Loads the {@code TaskManager}, which will not contain any tasks.
+     *
+     * @return the task manager
+     * @throws IOException if the block cannot be read
+     * @throws ClassNotFoundException if a class cannot be found
+     */
+    public TaskManager loadManager() throws IOException, ClassNotFoundException {
+        try (var in = new SessionInputStream(map(managerOffset, managerLength), null)) {
+            return (TaskManager) in.readObject();
+        }
+    }
+
+    /**
+     * Loads a single task, resolving the references to {@code manager} and its
+     * datasets. The task will not be added to the {@code manager}.
+     *
+     * @param index the index of the task
+     * @param manager the manager previously loaded from this session
+     * @return the task
+     * @throws IOException if the block cannot be read
+     * @throws ClassNotFoundException if a class cannot be found
+     */
+    public SearchTask loadTask(int index, TaskManager manager) throws IOException, ClassNotFoundException {
+        try (var in = new SessionInputStream(map(offsets[index], lengths[index]), shared(manager))) {
+            return (SearchTask) in.readObject();
+        }
+    }
+
+    /**
+     * Serialises {@code o} the same way as a task block, replacing any
+     * references to the {@code shared} objects by tokens. This allows sending
+     * objects to another JVM, where the tokens are resolved by
+     * {@link #deserialise(byte[], List)} with the local counterparts of the
+     * shared objects.
+     *
+     * @param o the object
+     * @param shared the objects which are not serialised, usually starting
+     * with {@link #shared(TaskManager)}
+     * @return the serialised object
+     * @throws IOException if {@code o} cannot be serialised
+     */
+    public static byte[] serialise(Object o, List<Object> shared) throws IOException {
+        return block(o, obj -> {
+            int index = indexOf(shared, obj);
+            return index > -1 ? new SharedReference(index) : obj;
+        });
+    }
+
+    /**
+     * Deserialises an object written by {@link #serialise(Object, List)}.
+     *
+     * @param bytes the serialised object
+     * @param shared the objects the tokens refer to, in the same order as
+     * when serialising
+     * @return the object
+     * @throws IOException if the bytes cannot be read
+     * @throws ClassNotFoundException if a class cannot be found
+     */
+    public static Object deserialise(byte[] bytes, List<Object> shared) throws IOException, ClassNotFoundException {
+        try (var in = new SessionInputStream(new ByteArrayInputStream(bytes), shared)) {
+            return in.readObject();
+        }
+    }
+
+    private InputStream map(long offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > channel.size()) {
+            throw new IOException("Corrupt session index: block at " + offset + " of length " + length);
+        }
+        return new BufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        var buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of the session file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Lists the objects referenced from the tasks, which are stored in the
+     * manager block rather than in the task blocks.
+     *
+     * @param manager the task manager
+     * @return the manager and its datasets
+     */
+    public static List<Object> shared(TaskManager manager) {
+        return Arrays.asList(manager, manager.getSpecificHeatDataset(), manager.getDensityDataset());
+    }
+
+    private static int indexOf(List<Object> shared, Object obj) {
+        for (int i = 0; i < shared.size(); i++) {
+            if (shared.get(i) != null && shared.get(i) == obj) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] block(Object o, UnaryOperator<Object> replacer) throws IOException {
+        var bytes = new ByteArrayOutputStream(8192);
+        try (var out = new ReplacingObjectOutputStream(bytes, replacer)) {
+            out.writeObject(o);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Appends blocks to a session file, which may be done concurrently, and
+     * records their positions for the index.
+     */
+    private static class BlockWriter {
+
+        private final FileChannel channel;
+        private final long[] offsets;
+        private final int[] lengths;
+        private long end;
+
+        BlockWriter(FileChannel channel, int size) {
+            this.channel = channel;
+            //the manager block goes first
+            this.offsets = new long[size + 1];
+            this.lengths = new int[size + 1];
+        }
+
+        synchronized void write(long position, byte[] bytes) throws IOException {
+            var buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+            end = Math.max(end, position + bytes.length);
+        }
+
+        synchronized void writeBlock(int index, byte[] block) throws IOException {
+            offsets[index + 1] = end;
+            lengths[index + 1] = block.length;
+            write(end, block);
+        }
+
+        void writeIndex() throws IOException {
+            var index = ByteBuffer.allocate(offsets.length * INDEX_ENTRY_LENGTH);
+            for (int i = 0; i < offsets.length; i++) {
+                index.putLong(offsets[i]).putInt(lengths[i]);
+            }
+            write(HEADER_LENGTH, index.array());
+        }
+
+    }
+
+    /**
+     * Reads a mapped block.
+     */
+    private static class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+    }
+
+    /**
+     * A token, which stands for an object stored in the manager block.
+     */
+    private static class SharedReference implements Serializable {
+
+        private static final long serialVersionUID = 6145218430592377019L;
+        private final int index;
+
+        private SharedReference(int index) {
+            this.index = index;
+        }
+
+    }
+
+    private static class SessionInputStream extends ObjectInputStream {
+
+        private final List<Object> shared;
+
+        SessionInputStream(InputStream in, List<Object> shared) throws IOException {
+            super(in);
+            this.shared = shared;
+            setObjectInputFilter(FILTER);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            if (obj instanceof SharedReference) {
+                return shared.get(((SharedReference) obj).index);
+            }
+            return obj;
+        }
+
+    }
+
+}
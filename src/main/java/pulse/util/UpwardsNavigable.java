@@ -1,9 +1,15 @@
 package pulse.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+import pulse.properties.NumericProperty;
 import pulse.tasks.Identifier;
 import pulse.tasks.SearchTask;
 
@@ -15,6 +21,15 @@ import pulse.tasks.SearchTask;
  * which stands higher in hierarchy than this object. The {@code parent} is
  * always informed if any changes happen with its child properties.
  * </p>
+ * <p>
+ * An {@code UpwardsNavigable} may be put in a quiet mode, e.g. for the duration
+ * of an optimiser iteration. While quiet, the events of its descendants still
+ * reach the listeners within its own subtree, but are not passed on to its
+ * parent. Instead, they are coalesced so that only the latest event for each
+ * property is kept, and are passed further up when the quiet mode ends. At
+ * that point, they are also delivered to the deferred listeners of the
+ * {@code PropertyHolder}s which fired them.
+ * </p>
  *
  */
 public abstract class UpwardsNavigable implements Descriptive, Serializable {
@@ -22,6 +37,9 @@ public abstract class UpwardsNavigable implements Descriptive, Serializable {
     private UpwardsNavigable parent;
     private transient List<HierarchyListener> listeners;
 
+    private transient volatile int quietLevel;
+    private transient Map<EventKey, PropertyEvent> pendingEvents;
+
     public void initListeners() {
         listeners = new ArrayList<>();
     }
@@ -52,6 +70,14 @@ public abstract class UpwardsNavigable implements Descriptive, Serializable {
      * @param e the property event
      */
     public void tellParent(PropertyEvent e) {
+        if (quietLevel > 0) {
+            defer(e);
+        } else {
+            passToParent(e);
+        }
+    }
+
+    private void passToParent(PropertyEvent e) {
         if (parent != null) {
             if (parent.listeners != null) {
                 parent.listeners.forEach(l -> l.onChildPropertyChanged(e));
@@ -60,6 +86,79 @@ public abstract class UpwardsNavigable implements Descriptive, Serializable {
         }
     }
 
+    /**
+     * Enters the quiet mode. Calls to this method may be nested, but each of
+     * them should be matched with a call to {@code exitQuietMode()}.
+     *
+     * @see exitQuietMode()
+     */
+    public final synchronized void enterQuietMode() {
+        quietLevel++;
+    }
+
+    /**
+     * Exits the quiet mode. When the outermost quiet scope is left, the events
+     * accumulated in the meantime are passed on to the parent -- one event per
+     * property, carrying its latest value. The listeners below this object
+     * have already received them and are not notified again, except for the
+     * deferred listeners of the holders, which have skipped the intermediate
+     * events. If an ancestor is still quiet, these are notified when it exits
+     * the quiet mode instead.
+     *
+     * @see enterQuietMode()
+     * @see PropertyHolder.addDeferredListener(PropertyHolderListener)
+     */
+    public final void exitQuietMode() {
+        List<PropertyEvent> events;
+
+        synchronized (this) {
+            if (quietLevel == 0) {
+                throw new IllegalStateException("Quiet mode has not been entered");
+            }
+
+            if (--quietLevel > 0 || pendingEvents == null) {
+                return;
+            }
+
+            events = new ArrayList<>(pendingEvents.values());
+            pendingEvents = null;
+        }
+
+        boolean quiet = isQuiet();
+        for (var e : events) {
+            passToParent(e);
+            if (!quiet) {
+                e.getPropertyHolder().fireDeferred(e);
+            }
+        }
+    }
+
+    /**
+     * Checks whether this {@code UpwardsNavigable} or any of its ancestors is
+     * in quiet mode.
+     *
+     * @return {@code true} if events from this object are currently withheld
+     * from the upper levels of the hierarchy
+     */
+    public boolean isQuiet() {
+        for (var un = this; un != null; un = un.parent) {
+            if (un.quietLevel > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void defer(PropertyEvent e) {
+        if (pendingEvents == null) {
+            pendingEvents = new LinkedHashMap<>();
+        }
+        var key = new EventKey(e);
+        //re-insert to keep the order of the latest changes
+        pendingEvents.remove(key);
+        pendingEvents.put(key, e);
+    }
+
     /**
      * Return the parent of this {@code UpwardsNavigable} -- if is has been
      * previously explicitly set.
@@ -91,13 +190,35 @@ public abstract class UpwardsNavigable implements Descriptive, Serializable {
     }
 
     /**
-     * Explicitly sets the parent of this {@code UpwardsNavigable}.
+     * Explicitly sets the parent of this {@code UpwardsNavigable}. If both are
+     * {@code Group}s, this is also moved from the children of the old parent
+     * to those of the new one.
      *
      * @param parent the new parent that will adopt this
      * {@code UpwardsNavigable}.
+     * @see pulse.util.Group.children()
      */
     public final void setParent(UpwardsNavigable parent) {
+        if (this.parent instanceof Group && this.parent != parent) {
+            ((Group) this.parent).release(this);
+        }
         this.parent = parent;
+        registerWithParent();
+    }
+
+    private void registerWithParent() {
+        if (parent instanceof Group && this instanceof Group) {
+            ((Group) parent).register((Group) this);
+        }
+    }
+
+    /**
+     * The children of a {@code Group} are not serialised, so they are
+     * registered again when read back.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        registerWithParent();
     }
 
     /**
@@ -121,4 +242,40 @@ public abstract class UpwardsNavigable implements Descriptive, Serializable {
         return id == null ? name : name + "_" + id.getValue();
     }
 
+    /**
+     * Identifies a deferred event by its property holder and by the type of
+     * the property.
+     */
+    private static final class EventKey {
+
+        private final PropertyHolder holder;
+        private final Object identifier;
+
+        private EventKey(PropertyEvent e) {
+            this.holder = e.getPropertyHolder();
+            var property = e.getProperty();
+            this.identifier = property instanceof NumericProperty
+                    ? ((NumericProperty) property).getType()
+                    : property == null ? null : property.identifier();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EventKey)) {
+                return false;
+            }
+            var other = (EventKey) o;
+            return holder == other.holder && Objects.equals(identifier, other.identifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(holder) + Objects.hashCode(identifier);
+        }
+
+    }
+
 }
@@ -0,0 +1,28 @@
+package pulse.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pulse.search.GeneralTask;
+
+@Name("pulse.BufferFill")
+@Label("Buffer Fill")
+@Description("Storage of the search results in the buffer")
+public class BufferFillEvent extends TaskEvent {
+
+    @Label("Element")
+    int element;
+
+    @Label("Statistic")
+    double statistic;
+
+    public void finish(GeneralTask<?, ?> t, int element, double statistic) {
+        if (shouldCommit()) {
+            task = FlightEvents.taskId(t);
+            this.element = element;
+            this.statistic = statistic;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package pulse.util.jfr;
+
+import java.util.List;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import pulse.util.UpwardsNavigable;
+
+/**
+ * Controls the custom Java Flight Recorder events of PULsE.
+ * <p>
+ * The events are not registered with the flight recorder by default, in which
+ * case creating, beginning and committing them has no effect and is compiled
+ * away. Once enabled, the events are recorded like any other JFR event, e.g.
+ * when the application is started with {@code -XX:StartFlightRecording}. The
+ * events may be enabled at startup with {@code -D}{@value ENABLE_PROPERTY}.
+ * </p>
+ */
+public final class FlightEvents {
+
+    /**
+     * The system property that enables the events at startup
+     */
+    public final static String ENABLE_PROPERTY = "pulse.jfr";
+
+    private final static List<Class<? extends Event>> EVENTS = List.of(
+            TaskRunEvent.class,
+            IterationEvent.class,
+            JacobianEvent.class,
+            SolveEvent.class,
+            RadiativeTransferEvent.class,
+            BufferFillEvent.class,
+            StatisticalTestEvent.class);
+
+    private static boolean enabled;
+
+    private FlightEvents() {
+        //intentionally blank
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers or unregisters all events with the flight recorder.
+     *
+     * @param enabled {@code true} to record the events
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        if (enabled != FlightEvents.enabled) {
+            if (enabled) {
+                EVENTS.forEach(FlightRecorder::register);
+            } else {
+                EVENTS.forEach(FlightRecorder::unregister);
+            }
+            FlightEvents.enabled = enabled;
+        }
+    }
+
+    /**
+     * Enables the events if the {@value ENABLE_PROPERTY} system property is
+     * {@code true}.
+     */
+    public static void enableIfRequested() {
+        if (Boolean.getBoolean(ENABLE_PROPERTY)) {
+            setEnabled(true);
+        }
+    }
+
+    /**
+     * Finds the identifier of the task that {@code owner} belongs to.
+     *
+     * @param owner an element of the task hierarchy
+     * @return the identifier value, or -1 if {@code owner} does not belong to a
+     * task
+     */
+    static int taskId(UpwardsNavigable owner) {
+        var id = owner == null ? null : owner.identify();
+        return id == null ? -1 : ((Number) id.getValue()).intValue();
+    }
+
+}
@@ -0,0 +1,38 @@
+package pulse.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pulse.search.GeneralTask;
+import pulse.search.direction.PathOptimiser;
+
+@Name("pulse.Iteration")
+@Label("Optimiser Iteration")
+@Description("A single call to PathOptimiser.iteration")
+public class IterationEvent extends TaskEvent {
+
+    @Label("Optimiser")
+    String optimiser;
+
+    @Label("Iteration")
+    int iteration;
+
+    @Label("Cost")
+    double cost;
+
+    @Label("Accepted")
+    boolean accepted;
+
+    public void finish(GeneralTask<?, ?> t, PathOptimiser o, boolean accepted) {
+        if (shouldCommit()) {
+            task = FlightEvents.taskId(t);
+            optimiser = o.getClass().getSimpleName();
+            var state = t.getIterativeState();
+            iteration = ((Number) state.getIteration().getValue()).intValue();
+            cost = state.getCost();
+            this.accepted = accepted;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package pulse.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pulse.search.GeneralTask;
+
+@Name("pulse.Jacobian")
+@Label("Jacobian")
+@Description("Calculation of the Jacobian matrix by finite differences")
+public class JacobianEvent extends TaskEvent {
+
+    @Label("Parameters")
+    int parameters;
+
+    @Label("Points")
+    int points;
+
+    public void finish(GeneralTask<?, ?> t, int parameters, int points) {
+        if (shouldCommit()) {
+            task = FlightEvents.taskId(t);
+            this.parameters = parameters;
+            this.points = points;
+            commit();
+        }
+    }
+
+}
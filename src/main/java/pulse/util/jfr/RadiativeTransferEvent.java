@@ -0,0 +1,29 @@
+package pulse.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pulse.problem.schemes.rte.RTECalculationStatus;
+import pulse.problem.schemes.rte.RadiativeTransferSolver;
+
+@Name("pulse.RadiativeTransfer")
+@Label("Radiative Transfer")
+@Description("Solution of the radiative transfer equation")
+public class RadiativeTransferEvent extends TaskEvent {
+
+    @Label("Solver")
+    String solver;
+
+    @Label("Status")
+    String status;
+
+    public void finish(RadiativeTransferSolver s, RTECalculationStatus status) {
+        if (shouldCommit()) {
+            task = FlightEvents.taskId(s);
+            solver = s.getClass().getSimpleName();
+            this.status = String.valueOf(status);
+            commit();
+        }
+    }
+
+}
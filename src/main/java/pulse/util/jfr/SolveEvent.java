@@ -0,0 +1,30 @@
+package pulse.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pulse.problem.schemes.DifferenceScheme;
+import pulse.tasks.Calculation;
+
+@Name("pulse.Solve")
+@Label("Solve")
+@Description("Solution of the heat problem by a difference scheme")
+public class SolveEvent extends TaskEvent {
+
+    @Label("Scheme")
+    String scheme;
+
+    @Label("Grid Density")
+    int gridDensity;
+
+    public void finish(Calculation c) {
+        if (shouldCommit()) {
+            task = FlightEvents.taskId(c);
+            DifferenceScheme s = c.getScheme();
+            scheme = s.getClass().getSimpleName();
+            gridDensity = ((Number) s.getGrid().getGridDensity().getValue()).intValue();
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package pulse.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pulse.search.GeneralTask;
+
+@Name("pulse.StatisticalTest")
+@Label("Statistical Test")
+@Description("A statistical test made after the search has converged")
+public class StatisticalTestEvent extends TaskEvent {
+
+    @Label("Test")
+    String test;
+
+    @Label("Passed")
+    boolean passed;
+
+    public void finish(GeneralTask<?, ?> t, Object test, boolean passed) {
+        if (shouldCommit()) {
+            task = FlightEvents.taskId(t);
+            this.test = test.getClass().getSimpleName();
+            this.passed = passed;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package pulse.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+/**
+ * The base class of the events associated with a task.
+ *
+ * @see FlightEvents
+ */
+@Registered(false)
+@StackTrace(false)
+@Category("PULsE")
+abstract class TaskEvent extends Event {
+
+    @Label("Task")
+    int task = -1;
+
+}
@@ -0,0 +1,24 @@
+package pulse.util.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pulse.tasks.SearchTask;
+
+@Name("pulse.TaskRun")
+@Label("Task Run")
+@Description("Execution of a search task")
+public class TaskRunEvent extends TaskEvent {
+
+    @Label("Status")
+    String status;
+
+    public void finish(SearchTask t) {
+        if (shouldCommit()) {
+            task = FlightEvents.taskId(t);
+            status = String.valueOf(t.getStatus());
+            commit();
+        }
+    }
+
+}
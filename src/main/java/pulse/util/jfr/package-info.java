@@ -0,0 +1,7 @@
+/**
+ * Contains the Java Flight Recorder events that mark the phases of a search,
+ * from the run of a task down to the individual solutions of the heat problem
+ * and of the radiative transfer equation. Each event carries the identifier of
+ * the task it belongs to.
+ */
+package pulse.util.jfr;
@@ -0,0 +1,40 @@
+package pulse.util.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing counter. Updates are striped across threads (see
+ * {@code LongAdder}), so that counting from several running tasks does not
+ * cause contention.
+ *
+ * @see pulse.util.metrics.Metrics.counter(String)
+ */
+public final class Counter {
+
+    private final LongAdder adder = new LongAdder();
+
+    Counter() {
+        //created by the registry
+    }
+
+    public void increment() {
+        if (Metrics.isEnabled()) {
+            adder.increment();
+        }
+    }
+
+    public void add(long n) {
+        if (Metrics.isEnabled()) {
+            adder.add(n);
+        }
+    }
+
+    public long get() {
+        return adder.sum();
+    }
+
+    void reset() {
+        adder.reset();
+    }
+
+}
@@ -0,0 +1,153 @@
+package pulse.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative {@code long} values with log-linear buckets,
+ * similar to an HDR histogram with a fixed precision.
+ * <p>
+ * Values below {@value SUB_BUCKETS} are counted exactly. Each further power of
+ * two is split into {@value SUB_BUCKETS} equal buckets, which bounds the
+ * relative error of a quantile by {@code 1/SUB_BUCKETS} (about 3%) over the
+ * whole range of {@code long}. Recording is lock-free and does not allocate.
+ * </p>
+ * <p>
+ * Values are recorded in integer units (e.g. nanoseconds) and multiplied by
+ * the scale of the histogram when reported.
+ * </p>
+ *
+ * @see pulse.util.metrics.Metrics.histogram(String)
+ * @see pulse.util.metrics.Metrics.timer(String)
+ */
+public final class Histogram {
+
+    private final static int SUB_BUCKET_BITS = 5;
+    private final static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private final static int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final LongAccumulator max;
+    private final double scale;
+
+    Histogram(double scale) {
+        this.scale = scale;
+        counts = new AtomicLongArray(BUCKETS);
+        count = new LongAdder();
+        sum = new LongAdder();
+        max = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Records a single value. Negative values are recorded as zero.
+     *
+     * @param value the value in integer units
+     */
+    public void record(long value) {
+        if (!Metrics.isEnabled()) {
+            return;
+        }
+        long v = Math.max(value, 0);
+        counts.incrementAndGet(index(v));
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}.
+     *
+     * @param startNanos a value previously returned by {@code System.nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the sum of the recorded values, multiplied by the scale
+     */
+    public double getSum() {
+        return sum.sum() * scale;
+    }
+
+    /**
+     * @return the largest recorded value, multiplied by the scale
+     */
+    public double getMax() {
+        return max.get() * scale;
+    }
+
+    /**
+     * Estimates a quantile from the bucket counts.
+     *
+     * @param q a number between 0 and 1
+     * @return the midpoint of the bucket containing the quantile, multiplied
+     * by the scale, or zero if nothing has been recorded
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Illegal quantile: " + q);
+        }
+
+        long total = 0;
+        var snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long cumulative = 0;
+        int i = 0;
+
+        for (; i < BUCKETS - 1; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank) {
+                break;
+            }
+        }
+
+        return Math.min(midpoint(i), max.get()) * scale;
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    static int index(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int shift = exponent - SUB_BUCKET_BITS;
+        //the leading bit followed by SUB_BUCKET_BITS bits of mantissa
+        int mantissa = (int) (v >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    static long midpoint(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+
+}
@@ -0,0 +1,56 @@
+package pulse.util.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * A snapshot of a {@code Histogram}, as published over JMX.
+ */
+public final class HistogramSummary {
+
+    private final long count;
+    private final double sum;
+    private final double max;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+
+    @ConstructorProperties({"count", "sum", "max", "p50", "p90", "p99"})
+    public HistogramSummary(long count, double sum, double max, double p50, double p90, double p99) {
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    static HistogramSummary of(Histogram h) {
+        return new HistogramSummary(h.getCount(), h.getSum(), h.getMax(),
+                h.quantile(0.5), h.quantile(0.9), h.quantile(0.99));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+}
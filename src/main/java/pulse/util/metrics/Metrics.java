@@ -0,0 +1,264 @@
+package pulse.util.metrics;
+
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * A registry of the counters and histograms recorded by the solvers and
+ * optimisers.
+ * <p>
+ * Instruments are created on first use and are usually kept in static fields
+ * by the instrumented classes. The registry is published through the platform
+ * MBean server under {@value OBJECT_NAME} and can also be served in the
+ * Prometheus text format by a {@code MetricsEndpoint}. Recording is enabled by
+ * default; when disabled, updates are skipped after a single check.
+ * </p>
+ *
+ * @see pulse.util.ResourceMonitor
+ */
+public final class Metrics {
+
+    /**
+     * The name of the MBean
+     */
+    public final static String OBJECT_NAME = "pulse:type=Metrics";
+
+    public final static String OBJECTIVE_EVALUATIONS = "pulse_objective_evaluations_total";
+    public final static String SOLVE_TIME = "pulse_solve_duration_seconds";
+    public final static String TIME_STEPS = "pulse_time_steps_per_solve";
+    public final static String RTE_COMPUTE = "pulse_rte_compute_total";
+    public final static String DOM_ITERATIONS = "pulse_dom_source_iterations";
+    public final static String JACOBIAN_BUILDS = "pulse_jacobian_builds_total";
+    public final static String LM_REJECTIONS = "pulse_lm_rejections_total";
+    public final static String BUFFER_CYCLES = "pulse_buffer_cycles_total";
+    public final static String TIME_TO_INTERACTIVE = "pulse_startup_time_to_interactive_seconds";
+    public final static String ADMISSIONS_DEFERRED = "pulse_admissions_deferred_total";
+    public final static String FIXED_POINT_ITERATIONS = "pulse_fixed_point_iterations";
+    public final static String FIXED_POINT_RESIDUAL = "pulse_fixed_point_residual";
+
+    private static volatile boolean enabled = true;
+    private static Metrics instance = new Metrics();
+
+    private final Map<String, Counter> counters;
+    private final Map<String, Histogram> histograms;
+    private final Map<String, String> descriptions;
+
+    private Metrics() {
+        counters = new ConcurrentHashMap<>();
+        histograms = new ConcurrentHashMap<>();
+        descriptions = new ConcurrentHashMap<>();
+
+        describe(OBJECTIVE_EVALUATIONS, "Objective function evaluations per task");
+        describe(SOLVE_TIME, "Time spent in DifferenceScheme.runTimeSequence");
+        describe(TIME_STEPS, "Time steps made per solution of the heat problem");
+        describe(RTE_COMPUTE, "Calls to RadiativeTransferSolver.compute");
+        describe(DOM_ITERATIONS, "Source function iterations per discrete ordinates solution");
+        describe(JACOBIAN_BUILDS, "Jacobian matrices calculated by the Levenberg-Marquardt optimiser");
+        describe(LM_REJECTIONS, "Steps rejected by the Levenberg-Marquardt optimiser");
+        describe(BUFFER_CYCLES, "Buffer cycles completed by GeneralTask.run");
+        describe(TIME_TO_INTERACTIVE, "Time from the start of the JVM until the main window is shown");
+        describe(ADMISSIONS_DEFERRED, "Tasks that had to wait for memory before starting");
+        describe(FIXED_POINT_ITERATIONS, "Fixed-point iterations per time step of a nonlinear solver");
+        describe(FIXED_POINT_RESIDUAL, "Relative change of the boundary temperatures in the last fixed-point iteration");
+
+        try {
+            getPlatformMBeanServer().registerMBean(new Bean(), new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.err.println("Unable to register the metrics MBean. Details: ");
+            e.printStackTrace();
+        }
+    }
+
+    public static Metrics getInstance() {
+        return instance;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    /**
+     * Sets the help text of a metric, which is shown by the Prometheus
+     * endpoint.
+     *
+     * @param name the metric name
+     * @param description a one-line description
+     */
+    public void describe(String name, String description) {
+        descriptions.put(name, description);
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    /**
+     * Gets a counter with a single label, e.g. the identifier of a task.
+     *
+     * @param name the metric name
+     * @param label the label name
+     * @param value the label value
+     * @return the counter
+     */
+    public Counter counter(String name, String label, String value) {
+        return counter(labelled(name, label, value));
+    }
+
+    /**
+     * Removes a labelled counter, e.g. when the task it refers to has been
+     * removed.
+     *
+     * @param name the metric name
+     * @param label the label name
+     * @param value the label value
+     */
+    public void removeCounter(String name, String label, String value) {
+        counters.remove(labelled(name, label, value));
+    }
+
+    private static String labelled(String name, String label, String value) {
+        return name + "{" + label + "=\"" + escape(value) + "\"}";
+    }
+
+    /**
+     * Gets a histogram of dimensionless values, e.g. iteration counts.
+     *
+     * @param name the metric name
+     * @return the histogram
+     */
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, n -> new Histogram(1.0));
+    }
+
+    /**
+     * Gets a histogram of values recorded as multiples of {@code scale}, e.g.
+     * small residuals.
+     *
+     * @param name the metric name
+     * @param scale the unit of the recorded values
+     * @return the histogram
+     */
+    public Histogram histogram(String name, double scale) {
+        return histograms.computeIfAbsent(name, n -> new Histogram(scale));
+    }
+
+    /**
+     * Gets a histogram of durations, which are recorded in nanoseconds and
+     * reported in seconds.
+     *
+     * @param name the metric name
+     * @return the histogram
+     */
+    public Histogram timer(String name) {
+        return histograms.computeIfAbsent(name, n -> new Histogram(1e-9));
+    }
+
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        histograms.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * Formats all metrics using the Prometheus text exposition format
+     * (version 0.0.4). Histograms are reported as summaries with the 0.5, 0.9
+     * and 0.99 quantiles.
+     *
+     * @return the metrics as text
+     */
+    public String toPrometheusText() {
+        var sb = new StringBuilder();
+        String family = null;
+
+        for (var e : new TreeMap<>(counters).entrySet()) {
+            var name = e.getKey();
+            int brace = name.indexOf('{');
+            var f = brace < 0 ? name : name.substring(0, brace);
+
+            if (!f.equals(family)) {
+                header(sb, f, "counter");
+                family = f;
+            }
+
+            sb.append(name).append(' ').append(e.getValue().get()).append('\n');
+        }
+
+        for (var e : new TreeMap<>(histograms).entrySet()) {
+            var name = e.getKey();
+            var h = e.getValue();
+            header(sb, name, "summary");
+            for (double q : new double[]{0.5, 0.9, 0.99}) {
+                sb.append(name).append("{quantile=\"").append(q).append("\"} ")
+                        .append(format(h.quantile(q))).append('\n');
+            }
+            sb.append(name).append("_sum ").append(format(h.getSum())).append('\n');
+            sb.append(name).append("_count ").append(h.getCount()).append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    private void header(StringBuilder sb, String family, String type) {
+        var help = descriptions.get(family);
+        if (help != null) {
+            sb.append("# HELP ").append(family).append(' ').append(help).append('\n');
+        }
+        sb.append("# TYPE ").append(family).append(' ').append(type).append('\n');
+    }
+
+    private static String format(double value) {
+        return Double.toString(value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private class Bean implements MetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return Metrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            Metrics.setEnabled(enabled);
+        }
+
+        @Override
+        public Map<String, Long> getCounters() {
+            var map = new TreeMap<String, Long>();
+            counters.forEach((name, c) -> map.put(name, c.get()));
+            return map;
+        }
+
+        @Override
+        public Map<String, HistogramSummary> getHistograms() {
+            var map = new TreeMap<String, HistogramSummary>();
+            histograms.forEach((name, h) -> map.put(name, HistogramSummary.of(h)));
+            return map;
+        }
+
+        @Override
+        public String getPrometheusText() {
+            return toPrometheusText();
+        }
+
+        @Override
+        public void reset() {
+            Metrics.this.reset();
+        }
+
+    }
+
+}
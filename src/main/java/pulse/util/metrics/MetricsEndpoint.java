@@ -0,0 +1,79 @@
+package pulse.util.metrics;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the metrics registry in the Prometheus text format at
+ * {@code http://localhost:<port>/metrics}. The endpoint only listens on the
+ * loopback interface and is not started unless requested, e.g. by launching
+ * the application with {@code -D}{@value PORT_PROPERTY}{@code =<port>}.
+ *
+ * @see Metrics.toPrometheusText()
+ */
+public class MetricsEndpoint {
+
+    /**
+     * The system property holding the port number
+     */
+    public final static String PORT_PROPERTY = "pulse.metrics.port";
+
+    private final static String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static HttpServer server;
+
+    private MetricsEndpoint() {
+        //intentionally blank
+    }
+
+    /**
+     * Starts the endpoint, stopping a previously started one.
+     *
+     * @param port the port number, or 0 to use any free port
+     * @return the port the endpoint listens on
+     * @throws IOException if the port cannot be bound
+     */
+    public static synchronized int start(int port) throws IOException {
+        stop();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            var body = Metrics.getInstance().toPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (var os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Starts the endpoint if the {@value PORT_PROPERTY} system property is
+     * set. Errors are reported, but do not prevent the application from
+     * running.
+     */
+    public static void startIfRequested() {
+        var port = Integer.getInteger(PORT_PROPERTY);
+        if (port != null) {
+            try {
+                start(port);
+            } catch (IOException e) {
+                System.err.println("Unable to start the metrics endpoint on port " + port + ". Details: ");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+}
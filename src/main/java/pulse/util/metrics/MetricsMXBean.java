@@ -0,0 +1,36 @@
+package pulse.util.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of the metrics registry, registered with the
+ * platform MBean server under {@value Metrics#OBJECT_NAME}.
+ */
+public interface MetricsMXBean {
+
+    public boolean isEnabled();
+
+    public void setEnabled(boolean enabled);
+
+    /**
+     * @return the current values of all counters, keyed by their names
+     * (including the labels, if any)
+     */
+    public Map<String, Long> getCounters();
+
+    /**
+     * @return the summaries of all histograms, keyed by their names
+     */
+    public Map<String, HistogramSummary> getHistograms();
+
+    /**
+     * @return all metrics in the Prometheus text exposition format
+     */
+    public String getPrometheusText();
+
+    /**
+     * Resets all counters and histograms to zero.
+     */
+    public void reset();
+
+}
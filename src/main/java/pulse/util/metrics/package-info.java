@@ -0,0 +1,6 @@
+/**
+ * Contains a lightweight registry of counters and histograms, which record
+ * where time is spent during the solution of the heat problems and the
+ * optimisation, and the means to publish these metrics over JMX and as text.
+ */
+package pulse.util.metrics;
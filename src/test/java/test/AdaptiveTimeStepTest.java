@@ -0,0 +1,72 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.STEP_TOLERANCE;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import pulse.problem.schemes.ImplicitScheme;
+import pulse.problem.schemes.solvers.ImplicitLinearisedSolver;
+import pulse.problem.schemes.solvers.MixedLinearisedSolver;
+import pulse.problem.schemes.solvers.Solver;
+import pulse.problem.schemes.solvers.SolverException;
+import pulse.problem.statements.ClassicalProblem;
+
+class AdaptiveTimeStepTest {
+
+	private static final double STEP_TOLERANCE_VALUE = 1e-5;
+	private static final double AGREEMENT = 1e-3;
+
+	@Test
+	void testImplicitScheme() throws SolverException {
+		compare(ImplicitLinearisedSolver::new);
+	}
+
+	@Test
+	void testMixedScheme() throws SolverException {
+		compare(MixedLinearisedSolver::new);
+	}
+
+	/**
+	 * The heating curve calculated with adaptive steps must agree with that
+	 * calculated with the grid time step, relative to its maximum, but must
+	 * not be identical to it.
+	 */
+	private static void compare(Supplier<ImplicitScheme> scheme) throws SolverException {
+		var fixed = solve(scheme.get(), 0.0);
+		var adaptive = solve(scheme.get(), STEP_TOLERANCE_VALUE);
+
+		double maxDifference = 0;
+		double maxSignal = 0;
+		for (int i = 0; i < fixed.length; i++) {
+			maxDifference = Math.max(maxDifference, Math.abs(fixed[i] - adaptive[i]));
+			maxSignal = Math.max(maxSignal, Math.abs(fixed[i]));
+		}
+
+		assertTrue(maxDifference > 0, "The time step has not been adapted");
+		assertTrue(maxDifference < AGREEMENT * maxSignal, "Difference: " + maxDifference / maxSignal);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static double[] solve(ImplicitScheme scheme, double tolerance) throws SolverException {
+		var task = TaskSetup.create(0);
+		var problem = new ClassicalProblem();
+		var calc = task.getResponse();
+		calc.setProblem(problem, task.getInput());
+		calc.setScheme(scheme, task.getInput());
+		scheme.set(STEP_TOLERANCE, derive(STEP_TOLERANCE, tolerance));
+
+		((Solver) scheme).solve(problem);
+
+		var curve = problem.getHeatingCurve();
+		var signal = new double[curve.actualNumPoints()];
+		for (int i = 0; i < signal.length; i++) {
+			signal[i] = curve.signalAt(i);
+		}
+		return signal;
+	}
+
+}
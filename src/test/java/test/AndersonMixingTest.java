@@ -0,0 +1,79 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.MatrixUtils;
+import org.apache.commons.math3.linear.RealMatrix;
+import org.apache.commons.math3.linear.SingularValueDecomposition;
+import org.junit.jupiter.api.Test;
+
+import pulse.problem.schemes.AndersonMixing;
+
+class AndersonMixingTest {
+
+	private static final int SIZE = 6;
+
+	/**
+	 * For a linear map, Anderson mixing with a depth not less than the number
+	 * of unknowns finds the fixed point in at most {@code SIZE + 1} steps
+	 * (it is then equivalent to GMRES), whereas plain iterations converge
+	 * linearly.
+	 */
+	@Test
+	void testLinearFixedPoint() {
+		var random = new Random(7);
+		var m = MatrixUtils.createRealMatrix(SIZE, SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			for (int j = 0; j < SIZE; j++) {
+				m.setEntry(i, j, random.nextDouble() - 0.5);
+			}
+		}
+		//a contraction with the spectral norm of 0.9
+		m = m.scalarMultiply(0.9 / new SingularValueDecomposition(m).getNorm());
+
+		var b = new double[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			b[i] = random.nextDouble();
+		}
+
+		var identity = MatrixUtils.createRealIdentityMatrix(SIZE);
+		var exact = new LUDecomposition(identity.subtract(m)).getSolver()
+				.solve(MatrixUtils.createRealVector(b)).toArray();
+
+		var mixing = new AndersonMixing(SIZE);
+		mixing.reset();
+		var v = new double[SIZE];
+		for (int k = 0; k < SIZE + 2; k++) {
+			mixing.store(v);
+			apply(m, b, v);
+			mixing.mix(v);
+		}
+
+		var plain = new double[SIZE];
+		for (int k = 0; k < SIZE + 2; k++) {
+			apply(m, b, plain);
+		}
+
+		assertTrue(error(v, exact) < 1e-10, "Anderson mixing: " + error(v, exact));
+		assertTrue(error(plain, exact) > 1e-3, "Plain iterations: " + error(plain, exact));
+	}
+
+	private static void apply(RealMatrix m, double[] b, double[] v) {
+		var g = m.operate(v);
+		for (int i = 0; i < v.length; i++) {
+			v[i] = g[i] + b[i];
+		}
+	}
+
+	private static double error(double[] v, double[] exact) {
+		double max = 0;
+		for (int i = 0; i < v.length; i++) {
+			max = Math.max(max, Math.abs(v[i] - exact[i]));
+		}
+		return max;
+	}
+
+}
@@ -0,0 +1,88 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.GRID_DENSITY;
+import static pulse.properties.NumericPropertyKeyword.TAU_FACTOR;
+
+import java.util.Random;
+
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.MatrixUtils;
+import org.junit.jupiter.api.Test;
+
+import pulse.problem.schemes.BlockTridiagonalAlgorithm;
+import pulse.problem.schemes.Grid;
+
+class BlockTridiagonalAlgorithmTest {
+
+	private static final int N = 20;
+	private static final double TOLERANCE = 1e-12;
+
+	/**
+	 * The solution of a random, diagonally dominant system must match that of
+	 * a dense LU decomposition of the same matrix, for several right-hand sides
+	 * sharing one factorisation.
+	 */
+	@Test
+	void testAgainstDenseSolve() {
+		var random = new Random(3L);
+		var block = new BlockTridiagonalAlgorithm(new Grid(derive(GRID_DENSITY, N), derive(TAU_FACTOR, 0.5)));
+		//the unknowns are ordered as x0, y0, x1, y1, ...
+		var dense = MatrixUtils.createRealMatrix(2 * (N + 1), 2 * (N + 1));
+
+		for (int i = 0; i <= N; i++) {
+			double a1 = i > 0 ? coefficient(random) : 0.0;
+			double a2 = i > 0 ? coefficient(random) : 0.0;
+			double c1 = i < N ? coefficient(random) : 0.0;
+			double c2 = i < N ? coefficient(random) : 0.0;
+			double b12 = coefficient(random);
+			double b21 = coefficient(random);
+			double b11 = Math.abs(a1) + Math.abs(b12) + Math.abs(c1) + 1.0 + random.nextDouble();
+			double b22 = Math.abs(a2) + Math.abs(b21) + Math.abs(c2) + 1.0 + random.nextDouble();
+
+			block.setCoefficients(i, a1, b11, b12, c1, a2, b21, b22, c2);
+
+			int row = 2 * i;
+			if (i > 0) {
+				dense.setEntry(row, row - 2, a1);
+				dense.setEntry(row + 1, row - 1, a2);
+			}
+			dense.setEntry(row, row, b11);
+			dense.setEntry(row, row + 1, b12);
+			dense.setEntry(row + 1, row, b21);
+			dense.setEntry(row + 1, row + 1, b22);
+			if (i < N) {
+				dense.setEntry(row, row + 2, c1);
+				dense.setEntry(row + 1, row + 3, c2);
+			}
+		}
+
+		block.factorise();
+		var solver = new LUDecomposition(dense).getSolver();
+
+		var x = new double[N + 1];
+		var y = new double[N + 1];
+		for (int k = 0; k < 3; k++) {
+			var d = new double[2 * (N + 1)];
+			for (int i = 0; i <= N; i++) {
+				d[2 * i] = coefficient(random);
+				d[2 * i + 1] = coefficient(random);
+				block.setRightHandSide(i, d[2 * i], d[2 * i + 1]);
+			}
+
+			block.solve(x, y);
+			var expected = solver.solve(MatrixUtils.createRealVector(d));
+
+			for (int i = 0; i <= N; i++) {
+				assertEquals(expected.getEntry(2 * i), x[i], TOLERANCE, "x at " + i);
+				assertEquals(expected.getEntry(2 * i + 1), y[i], TOLERANCE, "y at " + i);
+			}
+		}
+	}
+
+	private static double coefficient(Random random) {
+		return 2.0 * random.nextDouble() - 1.0;
+	}
+
+}
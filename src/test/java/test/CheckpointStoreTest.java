@@ -0,0 +1,85 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import pulse.math.ParameterVector;
+import pulse.search.direction.IterativeState;
+import pulse.tasks.CheckpointStore;
+
+class CheckpointStoreTest {
+
+	private static final long TIMEOUT = 10_000;
+
+	@TempDir
+	Path directory;
+
+	@AfterEach
+	void cleanUp() {
+		CheckpointStore.setEnabled(false);
+		CheckpointStore.setResumeEnabled(false);
+		CheckpointStore.setIntervalMillis(30_000);
+		CheckpointStore.setDirectory(new File("Checkpoints/"));
+	}
+
+	/**
+	 * The checkpoint file keeps the latest record only, which holds the state
+	 * at the moment of the call, and is deleted when the task is cleared.
+	 */
+	@Test
+	void testLatestRecordAndClear() throws IOException, InterruptedException {
+		CheckpointStore.setDirectory(directory.toFile());
+		CheckpointStore.setEnabled(true);
+		CheckpointStore.setResumeEnabled(true);
+		CheckpointStore.setIntervalMillis(0);
+
+		var store = CheckpointStore.getInstance();
+		var task = TaskSetup.create(1);
+		var state = new IterativeState();
+		state.setParameters(new ParameterVector(new ArrayList<>()));
+		task.setIterativeState(state);
+
+		state.setCost(1.0);
+		store.checkpoint(task);
+		state.setCost(2.0);
+		store.checkpoint(task);
+		//the search goes on after the checkpoint has been taken
+		state.setCost(3.0);
+
+		long start = System.currentTimeMillis();
+		var checkpoint = store.latest(task);
+		while ((checkpoint == null || checkpoint.getCurrentState().getCost() != 2.0)
+				&& System.currentTimeMillis() - start < TIMEOUT) {
+			Thread.sleep(20);
+			checkpoint = store.latest(task);
+		}
+		assertEquals(2.0, checkpoint.getCurrentState().getCost());
+
+		var files = directory.toFile().listFiles();
+		assertEquals(1, files.length);
+		try (var in = new DataInputStream(new FileInputStream(files[0]))) {
+			assertEquals(files[0].length(), Integer.BYTES + in.readInt());
+		}
+
+		task.clear();
+		start = System.currentTimeMillis();
+		while (files[0].exists() && System.currentTimeMillis() - start < TIMEOUT) {
+			Thread.sleep(20);
+		}
+		assertFalse(files[0].exists());
+		assertNull(store.latest(task));
+	}
+
+}
@@ -0,0 +1,169 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.GRID_DENSITY;
+import static pulse.tasks.listeners.TaskRepositoryEvent.State.TASK_ADDED;
+import static pulse.tasks.logs.Status.EXECUTION_ERROR;
+import static pulse.tasks.logs.Status.IN_PROGRESS;
+import static pulse.tasks.logs.Status.QUEUED;
+import static pulse.tasks.logs.Status.READY;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import pulse.input.listeners.DataEvent;
+import pulse.input.listeners.DataEventType;
+import pulse.problem.schemes.solvers.ImplicitLinearisedSolver;
+import pulse.problem.statements.ClassicalProblem;
+import pulse.search.direction.LMOptimiser;
+import pulse.tasks.SearchTask;
+import pulse.tasks.TaskManager;
+import pulse.tasks.listeners.TaskRepositoryListener;
+import pulse.tasks.remote.Coordinator;
+import pulse.tasks.remote.Worker;
+
+class CoordinatorTest {
+
+	private static final String SECRET = "loopback-test";
+	private static final long TIMEOUT = 60000;
+
+	/**
+	 * A task whose worker is lost while running it must be finished by
+	 * another worker.
+	 */
+	@Test
+	void testLostWorker() throws Exception {
+		var task = createTask();
+		var calculation = task.getResponse();
+
+		/*
+		 * The workers share the task manager of this JVM. The copy of the
+		 * first worker is held after its first iteration until that worker has
+		 * been lost, so that it cannot finish before.
+		 */
+		var manager = TaskManager.getManagerInstance();
+		var release = new CountDownLatch(1);
+		var held = new AtomicBoolean();
+		TaskRepositoryListener hold = e -> {
+			if (e.getState() == TASK_ADDED && held.compareAndSet(false, true)) {
+				manager.getTask(e.getId()).addTaskListener(entry -> {
+					try {
+						release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+		};
+		manager.addTaskRepositoryListener(hold);
+
+		try (var coordinator = new Coordinator(InetAddress.getLoopbackAddress(), 0, SECRET)) {
+			var first = start(coordinator, SECRET);
+			await(() -> coordinator.getWorkerCount() == 1, "The first worker has not connected");
+
+			task.setStatus(QUEUED);
+			coordinator.submit(task);
+			await(() -> task.getStatus() == IN_PROGRESS, "The task has not started");
+
+			first.close();
+			await(() -> coordinator.getWorkerCount() == 0, "The first worker is still connected");
+			release.countDown();
+
+			//the copy of the first worker must be removed before the second one adds its own
+			await(() -> manager.getTaskList().isEmpty(), "The first worker has not stopped the task");
+			assertEquals(IN_PROGRESS, task.getStatus());
+
+			var second = start(coordinator, SECRET);
+
+			await(() -> task.getStatus() != IN_PROGRESS, "The task has not finished");
+			assertNotEquals(EXECUTION_ERROR, task.getStatus());
+			assertNotSame(calculation, task.getResponse(), "The remote calculation has not been adopted");
+			assertEquals(1, coordinator.getWorkerCount());
+			second.close();
+		} finally {
+			release.countDown();
+			manager.removeTaskRepositoryListener(hold);
+		}
+	}
+
+	/**
+	 * A worker with a wrong secret must be disconnected.
+	 */
+	@Test
+	void testWrongSecret() throws Exception {
+		try (var coordinator = new Coordinator(InetAddress.getLoopbackAddress(), 0, SECRET)) {
+			var worker = start(coordinator, "wrong");
+			await(() -> coordinator.getWorkerCount() == 0 && !worker.thread.isAlive(),
+					"The worker has not been disconnected");
+		}
+	}
+
+	private static SearchTask createTask() {
+		var task = TaskSetup.create(5);
+		var data = task.getInput();
+		data.fireDataChanged(new DataEvent(DataEventType.DATA_LOADED, data));
+		var problem = new ClassicalProblem();
+		var scheme = new ImplicitLinearisedSolver<ClassicalProblem>();
+		scheme.getGrid().setGridDensity(derive(GRID_DENSITY, 80));
+
+		var calc = task.getResponse();
+		calc.setProblem(problem, data);
+		calc.setScheme(scheme, data);
+		problem.retrieveData(data);
+		task.setConfiguration(task.getConfiguration().withOptimiser(LMOptimiser.getInstance().copy()));
+		task.checkProblems();
+		assertEquals(READY, task.getStatus(), "The task is not ready");
+		return task;
+	}
+
+	private static RunningWorker start(Coordinator coordinator, String secret) throws IOException {
+		var worker = new RunningWorker(new Worker("127.0.0.1", coordinator.getPort(), secret));
+		worker.thread.start();
+		return worker;
+	}
+
+	private static void await(BooleanSupplier condition, String message) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT;
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.currentTimeMillis() < deadline, message);
+			Thread.sleep(10);
+		}
+	}
+
+	/**
+	 * A worker serving in a thread of this JVM.
+	 */
+	private static class RunningWorker {
+
+		private final Worker worker;
+		private final Thread thread;
+
+		private RunningWorker(Worker worker) {
+			this.worker = worker;
+			thread = new Thread(() -> {
+				try {
+					worker.serve();
+				} catch (IOException e) {
+					//the connection has been closed
+				}
+			});
+			thread.setDaemon(true);
+		}
+
+		private void close() {
+			worker.close();
+		}
+
+	}
+
+}
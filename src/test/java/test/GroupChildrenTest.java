@@ -0,0 +1,88 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import pulse.input.listeners.DataEvent;
+import pulse.input.listeners.DataEventType;
+import pulse.problem.schemes.solvers.ImplicitLinearisedSolver;
+import pulse.problem.statements.ClassicalProblem;
+import pulse.problem.statements.Pulse;
+import pulse.tasks.Calculation;
+import pulse.tasks.SearchTask;
+import pulse.tasks.TaskManager;
+import pulse.util.Group;
+import pulse.util.SessionFormat;
+
+class GroupChildrenTest {
+
+	/**
+	 * The registered children of every group in the task must be the
+	 * subgroups returned by its getters that it has adopted, also after some
+	 * of them have been replaced.
+	 */
+	@Test
+	void testRegistryMatchesGetters() {
+		var task = createTask();
+		var data = task.getInput();
+		var calc = (Calculation) task.getResponse();
+		var problem = (ClassicalProblem) calc.getProblem();
+		assertTree(task);
+
+		var oldPulse = problem.getPulse();
+		problem.setPulse(new Pulse());
+		calc.setProblem(new ClassicalProblem(), data);
+		calc.setScheme(new ImplicitLinearisedSolver<ClassicalProblem>(), data);
+		assertTree(task);
+		assertTrue(problem.children().stream().noneMatch(c -> c == oldPulse));
+		assertTrue(calc.children().stream().noneMatch(c -> c == problem));
+	}
+
+	/**
+	 * The children are not serialised, but registered again when read back.
+	 */
+	@Test
+	void testRegistryAfterDeserialisation() throws IOException, ClassNotFoundException {
+		var shared = SessionFormat.shared(TaskManager.getManagerInstance());
+		var bytes = SessionFormat.serialise(createTask(), shared);
+		var copy = (SearchTask) SessionFormat.deserialise(bytes, shared);
+		assertTree(copy);
+		assertTrue(copy.children().stream().anyMatch(c -> c == copy.getResponse()));
+	}
+
+	private static SearchTask createTask() {
+		var task = TaskSetup.create(3);
+		var data = task.getInput();
+		data.fireDataChanged(new DataEvent(DataEventType.DATA_LOADED, data));
+		var calc = (Calculation) task.getResponse();
+		calc.setProblem(new ClassicalProblem(), data);
+		calc.setScheme(new ImplicitLinearisedSolver<ClassicalProblem>(), data);
+		return task;
+	}
+
+	private static void assertTree(Group root) {
+		var adopted = identitySet();
+		for (var g : root.subgroups()) {
+			if (g.getParent() == root) {
+				adopted.put(g, g);
+			}
+		}
+
+		var registered = identitySet();
+		root.children().forEach(c -> registered.put(c, c));
+		assertEquals(adopted.keySet(), registered.keySet(), "Children of " + root.getDescriptor());
+
+		root.children().forEach(GroupChildrenTest::assertTree);
+	}
+
+	private static Map<Group, Group> identitySet() {
+		return new IdentityHashMap<>();
+	}
+
+}
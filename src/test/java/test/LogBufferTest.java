@@ -0,0 +1,91 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import pulse.tasks.logs.LogBuffer;
+import pulse.tasks.logs.LogEntry;
+
+class LogBufferTest {
+
+	private static final int CAPACITY = 8;
+	private static final int ENTRIES = 100;
+
+	private static List<LogEntry> entries;
+
+	@BeforeAll
+	static void createEntries() {
+		var task = TaskSetup.create(1);
+		entries = new ArrayList<>();
+		for (int i = 0; i < ENTRIES; i++) {
+			entries.add(new LogEntry(task));
+		}
+	}
+
+	/**
+	 * Entries evicted from the ring must be accessible in order, both before
+	 * and after they have been written to the disk.
+	 */
+	@Test
+	void testSpillAndReadBack() throws InterruptedException {
+		var buffer = new LogBuffer(CAPACITY, true);
+		entries.forEach(buffer::add);
+
+		assertEquals(ENTRIES, buffer.size());
+		assertSame(entries.get(ENTRIES - 1), buffer.last());
+		for (int i = 0; i < ENTRIES; i++) {
+			assertSame(entries.get(i), buffer.get(i));
+		}
+
+		awaitSpill(buffer, ENTRIES - CAPACITY);
+
+		var list = buffer.asList();
+		assertEquals(ENTRIES, list.size());
+		for (int i = 0; i < ENTRIES; i++) {
+			assertEquals(entries.get(i).getTime(), list.get(i).getTime(), "Entry " + i);
+		}
+		for (int i = ENTRIES - CAPACITY; i < ENTRIES; i++) {
+			assertSame(entries.get(i), list.get(i));
+		}
+		assertEquals(0, buffer.droppedEntries());
+
+		buffer.close();
+		buffer.add(entries.get(0));
+		assertEquals(0, buffer.size());
+		assertNull(buffer.last());
+	}
+
+	/**
+	 * Without spilling, only the most recent entries are kept.
+	 */
+	@Test
+	void testRingOverflow() {
+		var buffer = new LogBuffer(CAPACITY, false);
+		entries.forEach(buffer::add);
+
+		assertEquals(CAPACITY, buffer.size());
+		assertEquals(ENTRIES - CAPACITY, buffer.droppedEntries());
+		assertEquals(0, buffer.spilledEntries());
+		for (int i = 0; i < CAPACITY; i++) {
+			assertSame(entries.get(ENTRIES - CAPACITY + i), buffer.get(i));
+		}
+	}
+
+	private static void awaitSpill(LogBuffer buffer, int expected) throws InterruptedException {
+		var deadline = LocalTime.now().plusSeconds(10);
+		while (buffer.spilledEntries() < expected && LocalTime.now().isBefore(deadline)) {
+			Thread.sleep(10);
+		}
+		assertTrue(buffer.spilledEntries() == expected, "Entries not spilled: " + buffer.spilledEntries());
+	}
+
+}
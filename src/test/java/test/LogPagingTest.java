@@ -0,0 +1,123 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.swing.JComponent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import pulse.tasks.TaskManager;
+import pulse.tasks.logs.AbstractLogger;
+import pulse.tasks.logs.Log;
+import pulse.tasks.logs.LogEntry;
+import pulse.tasks.logs.Status;
+
+class LogPagingTest {
+
+	private static final int CAPACITY = 10;
+	private static final int ENTRIES = 250;
+	private static final long TIMEOUT = 10_000;
+
+	@AfterEach
+	void cleanUp() {
+		TaskManager.getManagerInstance().clear();
+		Log.setInMemoryCapacity(2048);
+	}
+
+	/**
+	 * Only the entries held in memory are posted at first. The spilled ones
+	 * are read back a page at a time, in front of those already posted.
+	 */
+	@Test
+	void testSpilledEntriesArePostedOnRequest() throws InterruptedException {
+		Log.setInMemoryCapacity(CAPACITY);
+		var manager = TaskManager.getManagerInstance();
+		var task = TaskSetup.create(1);
+		manager.addTask(task);
+		manager.selectTask(task.getIdentifier(), this);
+
+		//entries are only logged once the task is ready
+		task.setStatus(Status.READY);
+		var log = task.getLog();
+		var logged = new ArrayList<LogEntry>();
+		logged.add(log.lastEntry());
+		for (int i = 1; i < ENTRIES; i++) {
+			var entry = new LogEntry(task);
+			logged.add(entry);
+			task.relay(entry);
+		}
+
+		long start = System.currentTimeMillis();
+		while (log.firstEntryInMemory() < ENTRIES - CAPACITY && System.currentTimeMillis() - start < TIMEOUT) {
+			Thread.sleep(20);
+		}
+		assertEquals(ENTRIES - CAPACITY, log.firstEntryInMemory());
+
+		var logger = new ListLogger();
+		logger.postAll();
+		assertEquals(logged.subList(ENTRIES - CAPACITY, ENTRIES), logger.posted);
+		assertTrue(logger.hasEarlierEntries());
+
+		int pages = 0;
+		while (logger.hasEarlierEntries()) {
+			logger.postEarlier();
+			pages++;
+		}
+		assertEquals(3, pages);
+		assertFalse(logger.hasEarlierEntries());
+		assertEquals(ENTRIES, logger.posted.size());
+		for (int i = 0; i < ENTRIES; i++) {
+			assertEquals(logged.get(i).getTime(), logger.posted.get(i).getTime(), "Entry " + i);
+		}
+	}
+
+	private static class ListLogger extends AbstractLogger {
+
+		private static final long serialVersionUID = 1L;
+		private final LinkedList<LogEntry> posted = new LinkedList<>();
+
+		@Override
+		public JComponent getGUIComponent() {
+			return null;
+		}
+
+		@Override
+		public void printTimeTaken(Log log) {
+			//not needed
+		}
+
+		@Override
+		public void post(LogEntry logEntry) {
+			posted.add(logEntry);
+		}
+
+		@Override
+		public void post(String text) {
+			//not needed
+		}
+
+		@Override
+		protected void prepend(List<LogEntry> entries) {
+			posted.addAll(0, entries);
+		}
+
+		@Override
+		public void clear() {
+			posted.clear();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return posted.isEmpty();
+		}
+
+	}
+
+}
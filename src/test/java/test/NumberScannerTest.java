@@ -0,0 +1,63 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import pulse.io.readers.NumberScanner;
+
+class NumberScannerTest {
+
+	@Test
+	void testParseMatchesDoubleParsing() {
+		String[] samples = { "0", "-0", "1.5", "-273.15", "0.000123", "12345678.9", "1E-3", "2.5e+10",
+				"9007199254740993", "0.1234567890123456789", "1.7976931348623157E308", "4.9e-324", "123456789012345678901" };
+		for (String s : samples) {
+			assertEquals(Double.parseDouble(s), NumberScanner.parseDouble(s, '.'), s);
+			assertEquals(Double.parseDouble(s), NumberScanner.parseDouble(s.replace('.', ','), ','), s);
+		}
+	}
+
+	@Test
+	void testLenientPrefix() {
+		assertEquals(25.0, NumberScanner.parseDouble("25°C", '.'));
+		assertEquals(1.0, NumberScanner.parseDouble("1.234,5", ','));
+		assertThrows(NumberFormatException.class, () -> NumberScanner.parseDouble("Shot", '.'));
+	}
+
+	@Test
+	void testReadColumns() {
+		var scanner = new NumberScanner("header\n0.0 1.0 9\r\n0.5\t2.0\n1.0;3.0 x\n\ntrailer", " \t;", '.');
+		assertEquals("header", scanner.nextLine());
+		var columns = scanner.readColumns(2, true);
+		assertArrayEquals(new double[] { 0.0, 0.5, 1.0 }, columns[0]);
+		assertArrayEquals(new double[] { 1.0, 2.0, 3.0 }, columns[1]);
+		assertEquals("", scanner.nextLine());
+		assertEquals("trailer", scanner.nextLine());
+	}
+
+	/**
+	 * Unless asked to stop at a blank line, the scanner skips blank lines and
+	 * reads up to the end of text.
+	 */
+	@Test
+	void testReadColumnsSkipsBlankLines() {
+		var scanner = new NumberScanner("0.0 1.0\n\n0.5 2.0\r\n  \r\n1.0 3.0\n\n", " ", '.');
+		var columns = scanner.readColumns(2);
+		assertArrayEquals(new double[] { 0.0, 0.5, 1.0 }, columns[0]);
+		assertArrayEquals(new double[] { 1.0, 2.0, 3.0 }, columns[1]);
+		assertFalse(scanner.hasNextLine());
+	}
+
+	@Test
+	void testGermanLocale() {
+		var scanner = new NumberScanner("0,25;1,5\n-1,0;2e-3\n", "#();/°Cx%^", ',');
+		var columns = scanner.readColumns(2);
+		assertArrayEquals(new double[] { 0.25, -1.0 }, columns[0]);
+		assertArrayEquals(new double[] { 1.5, 0.002 }, columns[1]);
+	}
+
+}
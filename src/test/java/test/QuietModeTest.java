@@ -0,0 +1,46 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.TIME_LIMIT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import pulse.problem.schemes.solvers.ImplicitLinearisedSolver;
+
+class QuietModeTest {
+
+	/**
+	 * A deferred listener skips the changes made in quiet mode and receives a
+	 * single event with the final value when the outermost quiet scope ends.
+	 */
+	@Test
+	void testDeferredListenerSeesFinalValue() {
+		var parent = new ImplicitLinearisedSolver();
+		var holder = new ImplicitLinearisedSolver();
+		holder.setParent(parent);
+
+		List<Object> immediate = new ArrayList<>();
+		List<Object> deferred = new ArrayList<>();
+		holder.addListener(e -> immediate.add(e.getProperty().getValue()));
+		holder.addDeferredListener(e -> deferred.add(e.getProperty().getValue()));
+
+		parent.enterQuietMode();
+		parent.enterQuietMode();
+		holder.setTimeLimit(derive(TIME_LIMIT, 0.5));
+		holder.setTimeLimit(derive(TIME_LIMIT, 0.75));
+		parent.exitQuietMode();
+		assertEquals(List.of(), deferred);
+
+		parent.exitQuietMode();
+		assertEquals(List.of(0.5, 0.75), immediate);
+		assertEquals(List.of(0.75), deferred);
+
+		holder.setTimeLimit(derive(TIME_LIMIT, 0.25));
+		assertEquals(List.of(0.75, 0.25), deferred);
+	}
+
+}
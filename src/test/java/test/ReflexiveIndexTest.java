@@ -0,0 +1,50 @@
+package test;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import pulse.util.Reflexive;
+import pulse.util.ReflexiveFinder;
+import pulse.util.ReflexiveIndexer;
+
+class ReflexiveIndexTest {
+
+	/**
+	 * The index must list the same classes as a scan of the class files,
+	 * except for anonymous classes, which cannot be instantiated reflexively.
+	 */
+	@ParameterizedTest
+	@ValueSource(strings = { "pulse.problem", "pulse.search", "pulse.io", "pulse.baseline" })
+	void testIndexMatchesScan(String pckgname) {
+		assertNotNull(getClass().getClassLoader().getResource(ReflexiveIndexer.INDEX),
+				"The index has not been generated");
+
+		Set<String> scanned = ReflexiveFinder.scan(pckgname).stream()
+				.filter(c -> Reflexive.class.isAssignableFrom(c) && !isAbstract(c.getModifiers()) && !c.isAnonymousClass())
+				.map(Class::getName).collect(Collectors.toCollection(TreeSet::new));
+		Set<String> indexed = ReflexiveFinder.classesIn(pckgname).stream()
+				.map(Class::getName).collect(Collectors.toCollection(TreeSet::new));
+
+		assertEquals(scanned, indexed);
+	}
+
+	/**
+	 * After a full build, the compiled classes recorded in the index must
+	 * match the class files, so that the index is not bypassed.
+	 */
+	@ParameterizedTest
+	@ValueSource(strings = { "pulse.problem", "pulse.search", "pulse.io", "pulse.baseline" })
+	void testIndexIsUpToDate(String pckgname) {
+		assertTrue(ReflexiveFinder.isIndexed(pckgname));
+	}
+
+}
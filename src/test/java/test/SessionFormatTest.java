@@ -0,0 +1,68 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import pulse.tasks.TaskManager;
+import pulse.util.SessionFormat;
+
+class SessionFormatTest {
+
+	private static final int TASKS = 5;
+
+	private File file;
+
+	@AfterEach
+	void cleanUp() {
+		TaskManager.getManagerInstance().clear();
+		if (file != null) {
+			file.delete();
+		}
+	}
+
+	/**
+	 * A task written to a session file must be loaded on its own, with the same
+	 * identifier and data, while the summary is available without loading any
+	 * tasks.
+	 */
+	@Test
+	void testRoundTrip() throws IOException, ClassNotFoundException {
+		var manager = TaskManager.getManagerInstance();
+		for (int i = 0; i < TASKS; i++) {
+			manager.addTask(TaskSetup.create(i));
+		}
+
+		file = File.createTempFile("pulse-session-", ".pulse");
+		SessionFormat.write(manager, file);
+		assertTrue(SessionFormat.isSessionFile(file));
+
+		try (var session = SessionFormat.open(file)) {
+			assertEquals(TASKS, session.size());
+			for (int i = 0; i < TASKS; i++) {
+				var task = manager.getTaskList().get(i);
+				assertEquals((int) task.getIdentifier().getValue(), session.getIdentifier(i));
+				assertEquals(i, session.getExternalID(i));
+				assertEquals(task.getStatus().name(), session.getStatus(i));
+			}
+
+			var loadedManager = session.loadManager();
+			assertTrue(loadedManager.getTaskList().isEmpty());
+
+			int k = 3;
+			var original = manager.getTaskList().get(k);
+			var loaded = session.loadTask(k, loadedManager);
+
+			assertEquals(original.getIdentifier().getValue(), loaded.getIdentifier().getValue());
+			assertEquals(k, loaded.getInput().getMetadata().getExternalID());
+			assertEquals(original.getInput().getTimeSequence(), loaded.getInput().getTimeSequence());
+			assertEquals(original.getInput().getSignalData(), loaded.getInput().getSignalData());
+		}
+	}
+
+}
@@ -0,0 +1,43 @@
+package test;
+
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.TEST_TEMPERATURE;
+
+import pulse.input.ExperimentalData;
+import pulse.input.Metadata;
+import pulse.input.Range;
+import pulse.search.statistics.KSTest;
+import pulse.search.statistics.NormalityTest;
+import pulse.search.statistics.OptimiserStatistic;
+import pulse.search.statistics.SumOfSquares;
+import pulse.tasks.SearchTask;
+
+public class TaskSetup {
+
+	private TaskSetup() {
+		//intentionally blank
+	}
+
+	/**
+	 * Creates a task for a synthetic heating curve, selecting the statistics
+	 * that the main menu would otherwise select. The curve depends on the
+	 * external identifier, so that tasks with different identifiers are not
+	 * equal.
+	 *
+	 * @param externalId the external identifier of the measurement
+	 * @return a new task, which has not been added to the task manager
+	 */
+	public static SearchTask create(int externalId) {
+		OptimiserStatistic.setSelectedOptimiserDescriptor(new SumOfSquares().getDescriptor());
+		NormalityTest.setSelectedTestDescriptor(new KSTest().getDescriptor());
+
+		var data = new ExperimentalData();
+		data.setMetadata(new Metadata(derive(TEST_TEMPERATURE, 300.0), externalId));
+		for (int i = 0; i < 100; i++) {
+			data.addPoint(0.01 * i, 1.0 - Math.exp(-0.05 * i / (1.0 + externalId)));
+		}
+		data.setRange(new Range(data.getTimeSequence()));
+		return new SearchTask(data);
+	}
+
+}
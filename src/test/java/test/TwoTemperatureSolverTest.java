@@ -0,0 +1,64 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static pulse.properties.NumericProperties.derive;
+import static pulse.properties.NumericPropertyKeyword.GRID_DENSITY;
+
+import org.junit.jupiter.api.Test;
+
+import pulse.HeatingCurve;
+import pulse.problem.schemes.solvers.ImplicitTwoTemperatureSolver;
+import pulse.problem.schemes.solvers.SolverException;
+import pulse.problem.statements.TwoTemperatureModel;
+
+class TwoTemperatureSolverTest {
+
+	private static final int STRIDE = 32;
+
+	/*
+	 * The signal at every STRIDE-th point of the default two-temperature model
+	 * on a grid of 30 intervals
+	 */
+	private static final double[] SIGNAL = {0.0, 0.35059265021534086, 0.5950471258069546, 0.6226042601383996,
+		0.581316187078647, 0.5236678845173955, 0.4659328805494725, 0.4127357684139956, 0.36502975115303793,
+		0.32265127359369744, 0.28513293327012196};
+
+	/*
+	 * The same points calculated by iterating between the scalar sweeps of the
+	 * solid and the gas, where the gas used the current iterate of the solid
+	 */
+	private static final double[] ITERATED_SIGNAL = {0.0, 0.3517725952997478, 0.5960221435342211,
+		0.6234097333610902, 0.5819805328632662, 0.5242137772345956, 0.4663791278367268, 0.41309826259452403,
+		0.36532195525849565, 0.3228846561653406, 0.2853172342705774};
+
+	/**
+	 * The signal must not change, and it must stay close to the iterated
+	 * solution, which only differs by the time lag of the exchange term.
+	 */
+	@Test
+	void testSignal() throws SolverException {
+		var curve = solve();
+		double tolerance = 3e-3 * curve.maxAdjustedSignal();
+
+		for (int k = 0; k < SIGNAL.length; k++) {
+			double signal = curve.signalAt(k * STRIDE);
+			assertEquals(SIGNAL[k], signal, 1e-12, "Point " + k * STRIDE);
+			assertEquals(ITERATED_SIGNAL[k], signal, tolerance, "Point " + k * STRIDE);
+		}
+	}
+
+	private static HeatingCurve solve() throws SolverException {
+		var task = TaskSetup.create(0);
+		var problem = new TwoTemperatureModel();
+		var scheme = new ImplicitTwoTemperatureSolver();
+		scheme.getGrid().setGridDensity(derive(GRID_DENSITY, 30));
+
+		var calc = task.getResponse();
+		calc.setProblem(problem, task.getInput());
+		calc.setScheme(scheme, task.getInput());
+
+		scheme.solve(problem);
+		return problem.getHeatingCurve();
+	}
+
+}
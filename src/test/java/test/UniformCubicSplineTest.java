@@ -0,0 +1,79 @@
+package test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.apache.commons.math3.analysis.interpolation.SplineInterpolator;
+import org.apache.commons.math3.analysis.polynomials.PolynomialSplineFunction;
+import org.junit.jupiter.api.Test;
+
+import pulse.math.UniformCubicSpline;
+
+class UniformCubicSplineTest {
+
+	private static final int KNOTS = 40;
+	private static final double X0 = -0.25;
+	private static final double STEP = 0.05;
+	private static final double TOLERANCE = 4e-15;
+
+	/**
+	 * Inside the knots, the spline must match the natural spline of
+	 * {@code SplineInterpolator}, also after an update in place.
+	 */
+	@Test
+	void testMatchesSplineInterpolator() {
+		var spline = new UniformCubicSpline();
+		spline.resize(KNOTS, X0, STEP);
+		var random = new Random(11L);
+
+		for (int update = 0; update < 3; update++) {
+			var reference = fill(spline, random);
+
+			for (int i = 0; i <= 1000; i++) {
+				double x = X0 + (KNOTS - 1) * STEP * i / 1000.0;
+				x = Math.min(x, reference.getKnots()[KNOTS - 1]);
+				assertEquals(reference.value(x), spline.value(x), TOLERANCE, "x = " + x);
+			}
+		}
+	}
+
+	/**
+	 * At the end knots, the spline takes the values at the knots. Beyond them,
+	 * it continues the polynomial of the nearest interval.
+	 */
+	@Test
+	void testEndKnotsAndExtrapolation() {
+		var spline = new UniformCubicSpline();
+		spline.resize(KNOTS, X0, STEP);
+		var reference = fill(spline, new Random(17L));
+
+		var y = spline.getValues();
+		double last = X0 + (KNOTS - 1) * STEP;
+		assertEquals(y[0], spline.value(X0), TOLERANCE);
+		assertEquals(y[KNOTS - 1], spline.value(last), TOLERANCE);
+
+		var knots = reference.getKnots();
+		var polynomials = reference.getPolynomials();
+		for (double offset : new double[]{0.01, STEP, 3.0 * STEP}) {
+			assertEquals(polynomials[0].value(-offset), spline.value(X0 - offset), 1e-12);
+			assertEquals(polynomials[KNOTS - 2].value(last + offset - knots[KNOTS - 2]),
+					spline.value(last + offset), 1e-12);
+		}
+	}
+
+	private static PolynomialSplineFunction fill(UniformCubicSpline spline, Random random) {
+		var x = new double[KNOTS];
+		var y = spline.getValues();
+		//a smooth profile, like the temperatures interpolated by the RTE solvers
+		double amplitude = random.nextDouble();
+		double phase = 2.0 * Math.PI * random.nextDouble();
+		for (int i = 0; i < KNOTS; i++) {
+			x[i] = X0 + i * STEP;
+			y[i] = 1.0 + amplitude * Math.sin(3.0 * x[i] + phase);
+		}
+		spline.update();
+		return new SplineInterpolator().interpolate(x, y.clone());
+	}
+
+}